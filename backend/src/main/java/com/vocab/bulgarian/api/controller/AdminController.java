@@ -1,14 +1,20 @@
 package com.vocab.bulgarian.api.controller;
 
 import com.vocab.bulgarian.api.dto.AdminStatsDTO;
+import com.vocab.bulgarian.api.dto.DictionaryLinkReportDTO;
+import com.vocab.bulgarian.api.dto.DuplicateMergeReportDTO;
+import com.vocab.bulgarian.dictionary.service.FrequencyImportService;
 import com.vocab.bulgarian.dictionary.service.KaikkiImportService;
 import com.vocab.bulgarian.service.AdminService;
+import com.vocab.bulgarian.service.DictionaryLinkService;
+import com.vocab.bulgarian.service.LemmaMergeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.nio.file.Path;
@@ -22,10 +28,19 @@ public class AdminController {
 
     private final AdminService adminService;
     private final KaikkiImportService kaikkiImportService;
+    private final FrequencyImportService frequencyImportService;
+    private final DictionaryLinkService dictionaryLinkService;
+    private final LemmaMergeService lemmaMergeService;
 
-    public AdminController(AdminService adminService, KaikkiImportService kaikkiImportService) {
+    public AdminController(AdminService adminService, KaikkiImportService kaikkiImportService,
+                           FrequencyImportService frequencyImportService,
+                           DictionaryLinkService dictionaryLinkService,
+                           LemmaMergeService lemmaMergeService) {
         this.adminService = adminService;
         this.kaikkiImportService = kaikkiImportService;
+        this.frequencyImportService = frequencyImportService;
+        this.dictionaryLinkService = dictionaryLinkService;
+        this.lemmaMergeService = lemmaMergeService;
     }
 
     @GetMapping("/stats")
@@ -62,4 +77,47 @@ public class AdminController {
             ));
         }
     }
+
+    @PostMapping("/dictionary/frequencies/import")
+    public ResponseEntity<Map<String, Object>> importFrequencies() {
+        try {
+            Path listPath = Path.of("data/bg-frequencies.txt");
+            if (!listPath.toFile().exists()) {
+                // Try absolute path for Docker
+                listPath = Path.of("/app/data/bg-frequencies.txt");
+            }
+            log.info("Starting frequency list import from {}", listPath);
+            var result = frequencyImportService.importFromFile(listPath);
+            return ResponseEntity.ok(Map.of(
+                "forms", result.forms(),
+                "skipped", result.skipped(),
+                "rankedWords", result.rankedWords()
+            ));
+        } catch (Exception e) {
+            log.error("Frequency list import failed", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "error", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Link lemmas without a dictionary entry to Kaikki words by (text, POS).
+     * Defaults to a dry run so the diff can be reviewed before anything is written.
+     */
+    @PostMapping("/dictionary/link")
+    public ResponseEntity<DictionaryLinkReportDTO> linkToDictionary(
+            @RequestParam(defaultValue = "NONE") DictionaryLinkService.InflectionMode inflections,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(dictionaryLinkService.linkAll(inflections, dryRun));
+    }
+
+    /**
+     * Merge every duplicate group from the stats report, keeping homographs that differ in
+     * part of speech, dictionary word or translation. Defaults to a dry run like /dictionary/link.
+     */
+    @PostMapping("/duplicates/merge")
+    public ResponseEntity<DuplicateMergeReportDTO> mergeDuplicates(@RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(lemmaMergeService.mergeDuplicates(dryRun));
+    }
 }
@@ -1,23 +1,28 @@
 package com.vocab.bulgarian.api.controller;
 
 import com.vocab.bulgarian.api.dto.LemmaDetailDTO;
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO;
+import com.vocab.bulgarian.service.SentenceSearchService;
 import com.vocab.bulgarian.service.SentenceService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
- * REST controller for example sentence generation.
+ * REST controller for example sentence generation and search.
  */
 @RestController
 @RequestMapping("/api/vocabulary")
 public class SentenceController {
 
     private final SentenceService sentenceService;
+    private final SentenceSearchService sentenceSearchService;
 
-    public SentenceController(SentenceService sentenceService) {
+    public SentenceController(SentenceService sentenceService, SentenceSearchService sentenceSearchService) {
         this.sentenceService = sentenceService;
+        this.sentenceSearchService = sentenceSearchService;
     }
 
     /**
@@ -42,4 +47,30 @@ public class SentenceController {
         int queued = sentenceService.queueBatchGeneration();
         return ResponseEntity.accepted().body(Map.of("queued", queued));
     }
+
+    /**
+     * Full-text search over example sentences in both languages.
+     * GET /api/vocabulary/sentences/search?q={query}&limit={limit}
+     * Each result carries highlight ranges for the matched keywords.
+     */
+    @GetMapping("/sentences/search")
+    public ResponseEntity<List<SentenceSearchResultDTO>> searchSentences(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(sentenceSearchService.search(q, limit));
+    }
+
+    /**
+     * Sentences, from any entry's examples, that use this entry's headword or one of its inflected forms.
+     * GET /api/vocabulary/{id}/sentences/occurrences?limit={limit}
+     */
+    @GetMapping("/{id}/sentences/occurrences")
+    public ResponseEntity<List<SentenceSearchResultDTO>> findOccurrences(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sentenceSearchService.searchByLemmaForms(id, limit));
+    }
 }
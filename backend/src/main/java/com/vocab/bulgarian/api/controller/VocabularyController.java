@@ -1,19 +1,30 @@
 package com.vocab.bulgarian.api.controller;
 
 import com.vocab.bulgarian.api.dto.*;
-import com.vocab.bulgarian.domain.enums.DifficultyLevel;
-import com.vocab.bulgarian.domain.enums.PartOfSpeech;
 import com.vocab.bulgarian.domain.enums.ReviewStatus;
 import com.vocab.bulgarian.domain.enums.Source;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.repository.LemmaCardRepository.LemmaCard;
+import com.vocab.bulgarian.service.BulkVocabularyService;
+import com.vocab.bulgarian.service.VocabularyExportService;
+import com.vocab.bulgarian.service.VocabularyImportService;
 import com.vocab.bulgarian.service.VocabularyService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,77 +37,169 @@ import java.util.concurrent.CompletableFuture;
 public class VocabularyController {
 
     private final VocabularyService vocabularyService;
+    private final BulkVocabularyService bulkVocabularyService;
+    private final VocabularyExportService exportService;
+    private final VocabularyImportService importService;
 
-    public VocabularyController(VocabularyService vocabularyService) {
+    public VocabularyController(VocabularyService vocabularyService, BulkVocabularyService bulkVocabularyService,
+                                VocabularyExportService exportService, VocabularyImportService importService) {
         this.vocabularyService = vocabularyService;
+        this.bulkVocabularyService = bulkVocabularyService;
+        this.exportService = exportService;
+        this.importService = importService;
     }
 
     /**
-     * Create new vocabulary entry with LLM processing.
+     * Create new vocabulary entry.
      * POST /api/vocabulary
+     * Dictionary matches are created synchronously; anything else goes through the LLM
+     * pipeline in the background and is followed via GET /api/jobs/{id}.
      *
      * @param request create request with word form, translation, and notes
-     * @return 201 Created with full detail DTO including LLM-generated metadata
+     * @return 201 Created (Location: the lemma) with a COMPLETED job, or
+     *         202 Accepted (Location: the job) with a QUEUED job
      */
     @PostMapping
-    public CompletableFuture<ResponseEntity<LemmaDetailDTO>> createVocabulary(
+    public CompletableFuture<ResponseEntity<JobStatusDTO>> createVocabulary(
         @Validated(OnCreate.class) @RequestBody CreateLemmaRequestDTO request
     ) {
         return vocabularyService.createVocabulary(request, request.dictionaryWordId())
-            .thenApply(dto -> ResponseEntity.status(HttpStatus.CREATED).body(dto));
+            .thenApply(job -> job.stage() == JobStatusDTO.Stage.COMPLETED
+                ? ResponseEntity.created(URI.create("/api/vocabulary/" + job.lemmaId())).body(job)
+                : accepted(job));
+    }
+
+    /**
+     * Create many vocabulary entries in one request (up to 500).
+     * POST /api/vocabulary/bulk
+     * Dictionary words are created immediately; the rest are queued for LLM processing
+     * as one sequential batch. Duplicates are reported per entry, not as a 409.
+     *
+     * @param request entries, each shaped like a single create request
+     * @return 200 OK with one status per entry, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResultDTO> createVocabularyBulk(
+        @Validated(OnCreate.class) @RequestBody BulkCreateLemmaRequestDTO request
+    ) {
+        return ResponseEntity.ok(bulkVocabularyService.createAll(request.entries()));
+    }
+
+    /**
+     * Download the whole vocabulary with inflections, example sentences and SRS state.
+     * GET /api/vocabulary/export
+     * Rows are streamed from a database cursor as they are read, so the response starts
+     * immediately and memory use does not grow with the vocabulary.
+     *
+     * @param format NDJSON (default, re-importable) or CSV (one row per lemma)
+     * @return 200 OK with a streamed attachment
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportVocabulary(
+        @RequestParam(defaultValue = "NDJSON") VocabularyExportService.Format format
+    ) {
+        StreamingResponseBody body = out -> exportService.export(format, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("vocabulary." + format.extension()).build().toString())
+            .body(body);
+    }
+
+    /**
+     * Import an NDJSON export, one lemma per line.
+     * POST /api/vocabulary/import
+     * The request body is read line by line and written in batches; lemmas that already
+     * exist (same text, source and notes) are skipped, malformed lines are reported.
+     *
+     * @param body raw NDJSON request body
+     * @return 200 OK with counts and the first few line errors
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.TEXT_PLAIN_VALUE,
+        MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<VocabularyImportResultDTO> importVocabulary(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importNdjson(body));
     }
 
     /**
      * Get vocabulary entry detail by ID.
      * GET /api/vocabulary/{id}
      *
+     * Served from the lemma's prebuilt card (LemmaDetailDTO JSON) in one read. The lemma
+     * version is the ETag; an If-None-Match hit is answered 304 from the same read.
+     *
      * @param id lemma ID
-     * @return 200 OK with detail DTO including full inflections list
+     * @return 200 OK with detail JSON including inflections and sentences, or 304 Not Modified
      */
     @GetMapping("/{id}")
-    public ResponseEntity<LemmaDetailDTO> getVocabularyById(@PathVariable Long id) {
-        LemmaDetailDTO dto = vocabularyService.getVocabularyById(id);
-        return ResponseEntity.ok(dto);
+    public ResponseEntity<String> getVocabularyById(@PathVariable Long id, WebRequest request) {
+        LemmaCard card = vocabularyService.getDetailCard(id);
+        if (request.checkNotModified(String.valueOf(card.version()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(card.version()))
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(card.json());
+    }
+
+    /**
+     * Detail of a random vocabulary entry, in the same shape as GET /api/vocabulary/{id}.
+     * GET /api/vocabulary/random?source=USER_ENTERED
+     *
+     * @param source lemma source to pick from (default USER_ENTERED)
+     * @return 200 OK with detail JSON, or 404 if there are no entries from that source
+     */
+    @GetMapping("/random")
+    public ResponseEntity<String> getRandomVocabulary(@RequestParam(defaultValue = "USER_ENTERED") Source source) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(vocabularyService.getRandomDetailCard(source));
     }
 
     /**
-     * Browse/filter vocabulary with pagination.
+     * Browse/filter vocabulary with keyset pagination.
      * GET /api/vocabulary
      *
-     * @param source optional source filter
-     * @param partOfSpeech optional part of speech filter
-     * @param difficultyLevel optional difficulty level filter
-     * @param page page number (default 0)
-     * @param size page size (default 20)
-     * @param sort sort field (default "text")
-     * @return 200 OK with paginated results
+     * @param filter optional filters (source, partOfSpeech, difficultyLevel, reviewStatus,
+     *               processingStatus, category, listId), in any combination
+     * @param sort sort key (default TEXT)
+     * @param direction sort direction (default ASC)
+     * @param cursor nextCursor from the previous page; omit for the first page
+     * @param size page size (default 20, max 100)
+     * @return 200 OK with one page and the cursor for the next
      */
     @GetMapping
-    public ResponseEntity<Page<LemmaResponseDTO>> browseVocabulary(
-        @RequestParam(required = false) Source source,
-        @RequestParam(required = false) PartOfSpeech partOfSpeech,
-        @RequestParam(required = false) DifficultyLevel difficultyLevel,
-        @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size,
-        @RequestParam(defaultValue = "text") String sort
+    public ResponseEntity<LemmaPageDTO> browseVocabulary(
+        @ModelAttribute VocabularyFilterDTO filter,
+        @RequestParam(defaultValue = "TEXT") VocabularyService.BrowseSort sort,
+        @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
     ) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(sort));
-        Page<LemmaResponseDTO> results = vocabularyService.browseVocabulary(
-            source, partOfSpeech, difficultyLevel, pageable
-        );
+        LemmaPageDTO results = vocabularyService.browseVocabulary(filter, sort, direction, cursor, size);
         return ResponseEntity.ok(results);
     }
 
     /**
      * Full-text search vocabulary using PGroonga (Cyrillic support).
+     * Matches lemma text and inflected forms; headword matches rank first.
      * GET /api/vocabulary/search
      *
      * @param q search query
-     * @return 200 OK with search results (up to 20)
+     * @param page page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return 200 OK with one page of ranked search results
      */
     @GetMapping("/search")
-    public ResponseEntity<List<LemmaResponseDTO>> searchVocabulary(@RequestParam String q) {
-        List<LemmaResponseDTO> results = vocabularyService.searchVocabulary(q);
+    public ResponseEntity<List<LemmaResponseDTO>> searchVocabulary(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        List<LemmaResponseDTO> results = vocabularyService.searchVocabulary(q, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -104,17 +207,22 @@ public class VocabularyController {
      * Update vocabulary entry.
      * PUT /api/vocabulary/{id}
      *
+     * Send the detail ETag as If-Match to have the edit rejected (409) if the lemma changed
+     * since it was read; without If-Match the last write wins.
+     *
      * @param id lemma ID
+     * @param ifMatch optional ETag the edit is based on
      * @param request update request
-     * @return 200 OK with updated detail DTO
+     * @return 200 OK with updated detail DTO and its new ETag
      */
     @PutMapping("/{id}")
     public ResponseEntity<LemmaDetailDTO> updateVocabulary(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Validated(OnUpdate.class) @RequestBody UpdateLemmaRequestDTO request
     ) {
-        LemmaDetailDTO dto = vocabularyService.updateVocabulary(id, request);
-        return ResponseEntity.ok(dto);
+        LemmaDetailDTO dto = vocabularyService.updateVocabulary(id, request, parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(dto.version())).body(dto);
     }
 
     /**
@@ -153,15 +261,14 @@ public class VocabularyController {
      *
      * @param id lemma ID
      * @param request optional disambiguation hint
-     * @return 200 OK with updated detail DTO (status: QUEUED)
+     * @return 202 Accepted (Location: the job) with a QUEUED job
      */
     @PostMapping("/{id}/reprocess")
-    public ResponseEntity<LemmaDetailDTO> reprocessVocabulary(
+    public ResponseEntity<JobStatusDTO> reprocessVocabulary(
         @PathVariable Long id,
         @RequestBody(required = false) ReprocessRequestDTO request
     ) {
-        LemmaDetailDTO dto = vocabularyService.reprocessVocabulary(id, request);
-        return ResponseEntity.ok(dto);
+        return accepted(vocabularyService.reprocessVocabulary(id, request));
     }
 
     /**
@@ -193,4 +300,23 @@ public class VocabularyController {
         Page<LemmaResponseDTO> results = vocabularyService.getReviewQueue(PageRequest.of(page, size));
         return ResponseEntity.ok(results);
     }
+
+    /**
+     * Version from an If-Match value as sent back from our ETag ("12"); null when absent or "*".
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) value = value.substring(2);
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("If-Match must be an ETag from GET /api/vocabulary/{id}");
+        }
+    }
+
+    private static ResponseEntity<JobStatusDTO> accepted(JobStatusDTO job) {
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.id())).body(job);
+    }
 }
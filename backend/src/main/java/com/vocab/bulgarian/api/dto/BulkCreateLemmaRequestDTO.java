@@ -0,0 +1,18 @@
+package com.vocab.bulgarian.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating many lemma entries at once (e.g. a lesson's word list).
+ * Each entry has the same shape and meaning as a single create request.
+ */
+public record BulkCreateLemmaRequestDTO(
+    @NotEmpty(groups = OnCreate.class)
+    @Size(max = 500, groups = OnCreate.class)
+    List<@Valid CreateLemmaRequestDTO> entries
+) {
+}
@@ -0,0 +1,39 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create: totals plus one result per request entry, in request order.
+ */
+public record BulkCreateResultDTO(
+    int created,
+    int queued,
+    int duplicates,
+    int invalid,
+    List<ItemDTO> items
+) {
+
+    public enum Status {
+        /** Created from dictionary data; complete immediately. */
+        CREATED,
+        /** Saved and queued for background LLM processing. */
+        QUEUED,
+        /** Already in the vocabulary, or repeated earlier in the same request; nothing saved. */
+        DUPLICATE,
+        /** Rejected before saving; see message. */
+        INVALID
+    }
+
+    /**
+     * Result for the entry at {@code index}. lemmaId is the new lemma for CREATED/QUEUED and
+     * the existing one, when known, for DUPLICATE.
+     */
+    public record ItemDTO(
+        int index,
+        String wordForm,
+        Status status,
+        Long lemmaId,
+        String lemmaText,
+        String message
+    ) {}
+}
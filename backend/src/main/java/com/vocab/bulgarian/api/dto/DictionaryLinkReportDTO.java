@@ -0,0 +1,34 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of linking unlinked lemmas to Kaikki dictionary entries.
+ * With dryRun=true nothing was written; the counts and diffs show what would change.
+ */
+public record DictionaryLinkReportDTO(
+    boolean dryRun,
+    String inflectionMode,
+    int scanned,
+    int linked,
+    int ambiguous,
+    int unmatched,
+    int inflectionsAdded,
+    int inflectionsRemoved,
+    List<LemmaLinkDTO> lemmas
+) {
+
+    /**
+     * One linked lemma. added/removed are plain inflection forms relative to the lemma's
+     * current inflections; with mode NONE they are informational only.
+     */
+    public record LemmaLinkDTO(
+        Long lemmaId,
+        String text,
+        Long dictionaryWordId,
+        String dictionaryWord,
+        String dictionaryPos,
+        List<String> added,
+        List<String> removed
+    ) {}
+}
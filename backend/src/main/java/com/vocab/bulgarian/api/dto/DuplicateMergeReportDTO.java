@@ -0,0 +1,29 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of merging duplicate lemmas (same text and source).
+ * With dryRun=true nothing was written; the merges show what would happen.
+ * Entries of a group that look like distinct senses (different part of speech,
+ * dictionary word or translation) are kept and counted as homographs.
+ */
+public record DuplicateMergeReportDTO(
+    boolean dryRun,
+    int groups,
+    int merged,
+    int removed,
+    int homographsKept,
+    List<MergeDTO> merges
+) {
+
+    /**
+     * One surviving lemma and the duplicates folded into it.
+     */
+    public record MergeDTO(
+        Long survivorId,
+        String text,
+        String source,
+        List<Long> mergedIds
+    ) {}
+}
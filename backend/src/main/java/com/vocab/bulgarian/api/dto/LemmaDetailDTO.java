@@ -12,6 +12,11 @@ import java.util.List;
 /**
  * Response DTO for lemma detail view.
  * Contains full lemma data including inflections and example sentences.
+ * {@code version} is also sent as the ETag.
+ *
+ * GET /api/vocabulary/{id} serves this shape from lemma_cards, built in SQL by
+ * build_lemma_card (V26); a field added here needs a migration that updates that function
+ * and rebuilds the cards.
  */
 public record LemmaDetailDTO(
     Long id,
@@ -28,6 +33,7 @@ public record LemmaDetailDTO(
     SentenceStatus sentenceStatus,
     Long dictionaryWordId,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    Long version
 ) {
 }
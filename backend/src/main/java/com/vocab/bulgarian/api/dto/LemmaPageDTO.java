@@ -0,0 +1,16 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of lemma summaries.
+ *
+ * @param nextCursor opaque position to pass as {@code cursor} for the following page; null on the last page
+ */
+public record LemmaPageDTO(
+    List<LemmaResponseDTO> content,
+    int size,
+    String nextCursor,
+    boolean hasNext
+) {
+}
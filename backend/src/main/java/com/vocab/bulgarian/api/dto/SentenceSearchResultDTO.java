@@ -0,0 +1,23 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * An example sentence matching a search, with the lemma it illustrates.
+ * Highlights are character ranges of the matched keywords in each text.
+ */
+public record SentenceSearchResultDTO(
+    Long sentenceId,
+    Long lemmaId,
+    String lemmaText,
+    String bulgarianText,
+    String englishTranslation,
+    List<Highlight> bulgarianHighlights,
+    List<Highlight> englishHighlights
+) {
+    /**
+     * A matched range: {@code text.substring(start, start + length)}.
+     */
+    public record Highlight(int start, int length) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * One line of an NDJSON vocabulary export: a lemma with its inflections, example sentences
+ * and SRS state. Enum fields are kept as their stored names. The export builds this shape
+ * in SQL (VocabularyExportService.NDJSON_SQL); the import reads it back with this record.
+ *
+ * @param id the lemma id in the exporting database; informational, the import assigns new ids
+ * @param srs null if the lemma has never been studied
+ */
+public record VocabularyExportDTO(
+    Long id,
+    String text,
+    String translation,
+    String notes,
+    String partOfSpeech,
+    String category,
+    String difficultyLevel,
+    String source,
+    String reviewStatus,
+    String processingStatus,
+    String sentenceStatus,
+    Long dictionaryWordId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<InflectionExportDTO> inflections,
+    List<SentenceExportDTO> exampleSentences,
+    SrsExportDTO srs
+) {
+
+    public record InflectionExportDTO(
+        String form,
+        String accentedForm,
+        String grammaticalInfo,
+        String difficultyLevel
+    ) {}
+
+    public record SentenceExportDTO(
+        String bulgarianText,
+        String englishTranslation,
+        int sortOrder
+    ) {}
+
+    public record SrsExportDTO(
+        BigDecimal easeFactor,
+        int intervalDays,
+        int repetitionCount,
+        LocalDate nextReviewDate,
+        OffsetDateTime lastReviewedAt
+    ) {}
+}
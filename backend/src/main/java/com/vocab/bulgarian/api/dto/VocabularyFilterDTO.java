@@ -0,0 +1,24 @@
+package com.vocab.bulgarian.api.dto;
+
+import com.vocab.bulgarian.domain.enums.DifficultyLevel;
+import com.vocab.bulgarian.domain.enums.PartOfSpeech;
+import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.enums.ReviewStatus;
+import com.vocab.bulgarian.domain.enums.Source;
+
+/**
+ * Optional browse filters, bound from query parameters. Null fields do not restrict;
+ * any combination is allowed.
+ *
+ * @param listId only lemmas that are members of this word list
+ */
+public record VocabularyFilterDTO(
+    Source source,
+    PartOfSpeech partOfSpeech,
+    DifficultyLevel difficultyLevel,
+    ReviewStatus reviewStatus,
+    ProcessingStatus processingStatus,
+    String category,
+    Long listId
+) {
+}
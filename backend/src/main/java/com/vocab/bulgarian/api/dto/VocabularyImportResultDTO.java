@@ -0,0 +1,19 @@
+package com.vocab.bulgarian.api.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a vocabulary import.
+ *
+ * @param skipped lines whose lemma already exists (same text, source and notes)
+ * @param invalid lines that could not be parsed or failed validation
+ * @param errors  the first few invalid lines, as "line N: reason"
+ */
+public record VocabularyImportResultDTO(
+    int read,
+    int imported,
+    int skipped,
+    int invalid,
+    List<String> errors
+) {
+}
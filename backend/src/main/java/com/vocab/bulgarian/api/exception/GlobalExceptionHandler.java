@@ -1,5 +1,7 @@
 package com.vocab.bulgarian.api.exception;
 
+import com.vocab.bulgarian.exception.DuplicateLemmaException;
+import com.vocab.bulgarian.exception.LemmaVersionConflictException;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +87,35 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handle likely duplicates caught before any processing is queued (409).
+     * existingLemmaId points at the entry to open or edit instead. Notes mark a deliberate
+     * homograph only when the word entered is the existing headword itself.
+     */
+    @ExceptionHandler(DuplicateLemmaException.class)
+    public ProblemDetail handleDuplicateLemma(DuplicateLemmaException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Duplicate Entry");
+        problemDetail.setDetail(ex.getMessage());
+        problemDetail.setProperty("existingLemmaId", ex.getExistingLemmaId());
+        problemDetail.setProperty("existingText", ex.getExistingText());
+        problemDetail.setProperty("matchedBy", ex.getMatchedBy());
+        return problemDetail;
+    }
+
+    /**
+     * Handle edits based on a stale version (409). The client should reload and reapply.
+     */
+    @ExceptionHandler(LemmaVersionConflictException.class)
+    public ProblemDetail handleVersionConflict(LemmaVersionConflictException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Edit Conflict");
+        problemDetail.setDetail(ex.getMessage());
+        problemDetail.setProperty("lemmaId", ex.getLemmaId());
+        problemDetail.setProperty("currentVersion", ex.getCurrentVersion());
+        return problemDetail;
+    }
+
     /**
      * Handle all other exceptions (500).
      * Log the full exception but don't expose details to client.
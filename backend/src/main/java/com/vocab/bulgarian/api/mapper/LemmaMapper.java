@@ -26,6 +26,13 @@ public interface LemmaMapper {
     @Mapping(target = "inflectionCount", expression = "java(lemma.getInflections() != null ? lemma.getInflections().size() : 0)")
     LemmaResponseDTO toResponseDTO(Lemma lemma);
 
+    /**
+     * Convert Lemma entity to summary response DTO with an inflection count computed in SQL,
+     * so the lazy inflections collection is never touched.
+     */
+    @Mapping(target = "inflectionCount", source = "inflectionCount")
+    LemmaResponseDTO toResponseDTO(Lemma lemma, int inflectionCount);
+
     /**
      * Convert Lemma entity to detail response DTO (for detail views with full inflections).
      */
@@ -0,0 +1,114 @@
+package com.vocab.bulgarian.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.vocab.bulgarian.domain.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate second-level and query cache: a local Caffeine JCache manager with one bounded
+ * region per cached entity, collection and query family.
+ *
+ * Regions are created here rather than on demand, and hibernate.javax.cache.missing_cache_strategy
+ * is "fail", so a new @Cache region cannot slip in unbounded. Entries also expire after a
+ * while as a backstop; writes outside Hibernate are evicted explicitly by SecondLevelCacheService.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+    // Maximum entries per region. Collections are keyed by owner, so they match LEMMA.
+    private static final Map<String, Long> REGION_SIZES = new LinkedHashMap<>();
+    static {
+        REGION_SIZES.put(CacheRegions.LEMMA, 10_000L);
+        REGION_SIZES.put(CacheRegions.LEMMA_INFLECTIONS, 10_000L);
+        REGION_SIZES.put(CacheRegions.LEMMA_EXAMPLE_SENTENCES, 10_000L);
+        REGION_SIZES.put(CacheRegions.INFLECTION, 100_000L);
+        REGION_SIZES.put(CacheRegions.EXAMPLE_SENTENCE, 30_000L);
+        REGION_SIZES.put(CacheRegions.LEMMA_QUERIES, 1_000L);
+        REGION_SIZES.put(CacheRegions.DEFAULT_QUERY_RESULTS, 1_000L);
+        REGION_SIZES.put(CacheRegions.UPDATE_TIMESTAMPS, 1_000L);
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        REGION_SIZES.forEach((region, size) -> {
+            if (cacheManager.getCache(region) != null) return;
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(size));
+            // Timestamps must outlive every cached query result, so they never expire
+            if (!region.equals(CacheRegions.UPDATE_TIMESTAMPS)) {
+                config.setExpireAfterWrite(OptionalLong.of(TIME_TO_LIVE.toNanos()));
+            }
+            cacheManager.createCache(region, config);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+
+    /**
+     * Per-region hits, misses and puts, plus hit ratio, from Hibernate statistics.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGION_SIZES.keySet()) {
+                FunctionCounter.builder("vocab.l2cache.requests", statistics, regionStat(region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region).tag("result", "hit")
+                    .description("Second-level cache lookups")
+                    .register(registry);
+                FunctionCounter.builder("vocab.l2cache.requests", statistics, regionStat(region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region).tag("result", "miss")
+                    .description("Second-level cache lookups")
+                    .register(registry);
+                FunctionCounter.builder("vocab.l2cache.puts", statistics, regionStat(region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .description("Entries written to the second-level cache")
+                    .register(registry);
+                Gauge.builder("vocab.l2cache.hit.ratio", statistics, regionStat(region, s -> {
+                        long lookups = s.getHitCount() + s.getMissCount();
+                        return lookups == 0 ? 0.0 : (double) s.getHitCount() / lookups;
+                    }))
+                    .tag("region", region)
+                    .description("Second-level cache hit ratio since startup")
+                    .register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> regionStat(String region, ToDoubleFunction<CacheRegionStatistics> stat) {
+        return statistics -> {
+            try {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                return regionStatistics != null ? stat.applyAsDouble(regionStatistics) : 0.0;
+            } catch (IllegalArgumentException e) {
+                // Named query regions only exist once a query has used them
+                return 0.0;
+            }
+        };
+    }
+}
@@ -1,7 +1,18 @@
 package com.vocab.bulgarian.dictionary.controller;
 
+import com.vocab.bulgarian.dictionary.dto.AnalyzeTextRequestDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryExtrasDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryFormDTO;
 import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySuggestionDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryTaggedFormDTO;
+import com.vocab.bulgarian.dictionary.dto.ReverseLookupResultDTO;
+import com.vocab.bulgarian.dictionary.dto.TextAnalysisDTO;
 import com.vocab.bulgarian.dictionary.service.DictionaryService;
+import com.vocab.bulgarian.dictionary.service.DictionarySuggestionIndex;
+import com.vocab.bulgarian.dictionary.service.ReverseLookupService;
+import com.vocab.bulgarian.dictionary.service.TextAnalysisService;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,25 +22,116 @@ import java.util.List;
 @RequestMapping("/api/dictionary")
 public class DictionaryController {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_REVERSE_RESULTS = 50;
+    private static final int MAX_TAGGED_FORMS = 100;
+
     private final DictionaryService dictionaryService;
+    private final DictionarySuggestionIndex suggestionIndex;
+    private final TextAnalysisService textAnalysisService;
+    private final ReverseLookupService reverseLookupService;
 
-    public DictionaryController(DictionaryService dictionaryService) {
+    public DictionaryController(DictionaryService dictionaryService,
+                                DictionarySuggestionIndex suggestionIndex,
+                                TextAnalysisService textAnalysisService,
+                                ReverseLookupService reverseLookupService) {
         this.dictionaryService = dictionaryService;
+        this.suggestionIndex = suggestionIndex;
+        this.textAnalysisService = textAnalysisService;
+        this.reverseLookupService = reverseLookupService;
     }
 
+    /**
+     * Exact form lookup. With fuzzy=true, falls back to typo- and
+     * transliteration-tolerant matching when nothing matches exactly.
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<DictionarySearchResultDTO>> search(@RequestParam("q") String query) {
+    public ResponseEntity<List<DictionarySearchResultDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
         if (query == null || query.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
         List<DictionarySearchResultDTO> results = dictionaryService.searchByForm(query);
+        if (results.isEmpty() && fuzzy) {
+            results = dictionaryService.fuzzySearch(query);
+        }
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Typeahead over dictionary forms and the user's own lemmas, served from memory.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<DictionarySuggestionDTO>> suggest(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(suggestionIndex.suggest(prefix, boundedLimit));
+    }
+
+    /**
+     * English -> Bulgarian lookup over lemma translations and dictionary glosses.
+     */
+    @GetMapping("/reverse")
+    public ResponseEntity<List<ReverseLookupResultDTO>> reverse(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_REVERSE_RESULTS));
+        return ResponseEntity.ok(reverseLookupService.lookup(query, boundedLimit));
+    }
+
+    /**
+     * Tokenize a pasted text and mark every token known, dictionary-only or unknown.
+     */
+    @PostMapping("/analyze")
+    public ResponseEntity<TextAnalysisDTO> analyze(@Valid @RequestBody AnalyzeTextRequestDTO request) {
+        return ResponseEntity.ok(textAnalysisService.analyze(request.text()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DictionarySearchResultDTO> getById(@PathVariable Long id) {
         return dictionaryService.getById(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
+
+    @GetMapping("/{id}/extras")
+    public ResponseEntity<DictionaryExtrasDTO> getExtras(@PathVariable Long id) {
+        return dictionaryService.getExtras(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Forms across the whole dictionary that carry all the given tags, e.g. ?tags=definite,plural,
+     * most frequent words first.
+     *
+     * @param page page number (default 0)
+     * @param size page size (default 50, max 100)
+     */
+    @GetMapping("/forms")
+    public ResponseEntity<List<DictionaryTaggedFormDTO>> searchForms(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_TAGGED_FORMS));
+        return ResponseEntity.ok(dictionaryService.searchFormsByTags(tags, Math.max(0, page) * boundedSize, boundedSize));
+    }
+
+    /**
+     * Forms of a word filtered by grammatical tags, e.g. ?tags=definite,plural.
+     */
+    @GetMapping("/{id}/forms")
+    public ResponseEntity<List<DictionaryFormDTO>> getForms(
+            @PathVariable Long id,
+            @RequestParam List<String> tags) {
+        return ResponseEntity.ok(dictionaryService.getFormsWithTags(id, tags));
+    }
 }
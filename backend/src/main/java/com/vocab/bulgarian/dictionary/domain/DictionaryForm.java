@@ -1,8 +1,6 @@
 package com.vocab.bulgarian.dictionary.domain;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 import java.util.Objects;
 
 @Entity
@@ -17,19 +15,13 @@ public class DictionaryForm {
     @JoinColumn(name = "word_id", nullable = false)
     private DictionaryWord dictionaryWord;
 
+    // Index into the word's paradigm; accented text and tags come from ParadigmService
     @Column(nullable = false)
-    private String form;
+    private short slot;
 
     @Column(name = "plain_form", nullable = false)
     private String plainForm;
 
-    @JdbcTypeCode(SqlTypes.ARRAY)
-    @Column(columnDefinition = "TEXT[]", nullable = false)
-    private String[] tags;
-
-    @Column(name = "accented_form")
-    private String accentedForm;
-
     private String romanization;
 
     @Override
@@ -52,18 +44,12 @@ public class DictionaryForm {
     public DictionaryWord getDictionaryWord() { return dictionaryWord; }
     public void setDictionaryWord(DictionaryWord dictionaryWord) { this.dictionaryWord = dictionaryWord; }
 
-    public String getForm() { return form; }
-    public void setForm(String form) { this.form = form; }
+    public short getSlot() { return slot; }
+    public void setSlot(short slot) { this.slot = slot; }
 
     public String getPlainForm() { return plainForm; }
     public void setPlainForm(String plainForm) { this.plainForm = plainForm; }
 
-    public String[] getTags() { return tags; }
-    public void setTags(String[] tags) { this.tags = tags; }
-
-    public String getAccentedForm() { return accentedForm; }
-    public void setAccentedForm(String accentedForm) { this.accentedForm = accentedForm; }
-
     public String getRomanization() { return romanization; }
     public void setRomanization(String romanization) { this.romanization = romanization; }
 }
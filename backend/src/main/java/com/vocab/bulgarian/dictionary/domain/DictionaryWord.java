@@ -31,8 +31,15 @@ public class DictionaryWord {
 
     private String ipa;
 
-    @Column(name = "raw_data", nullable = false, columnDefinition = "JSONB")
-    private String rawData;
+    // Common prefix of all plain forms; forms = stem + paradigm slot suffixes
+    private String stem;
+
+    @Column(name = "paradigm_id")
+    private Integer paradigmId;
+
+    // Corpus frequency rank, 1 = most frequent; null if not in the frequency list
+    @Column(name = "frequency_rank")
+    private Integer frequencyRank;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -77,8 +84,14 @@ public class DictionaryWord {
     public String getIpa() { return ipa; }
     public void setIpa(String ipa) { this.ipa = ipa; }
 
-    public String getRawData() { return rawData; }
-    public void setRawData(String rawData) { this.rawData = rawData; }
+    public String getStem() { return stem; }
+    public void setStem(String stem) { this.stem = stem; }
+
+    public Integer getParadigmId() { return paradigmId; }
+    public void setParadigmId(Integer paradigmId) { this.paradigmId = paradigmId; }
+
+    public Integer getFrequencyRank() { return frequencyRank; }
+    public void setFrequencyRank(Integer frequencyRank) { this.frequencyRank = frequencyRank; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
 
@@ -0,0 +1,41 @@
+package com.vocab.bulgarian.dictionary.domain;
+
+import jakarta.persistence.*;
+import java.util.Objects;
+
+/**
+ * Raw Kaikki/Wiktionary JSON entry for a dictionary word.
+ * Kept out of DictionaryWord so hot lookups never load it; read through
+ * the targeted JSONB accessors on DictionaryWordRawRepository instead.
+ */
+@Entity
+@Table(name = "dictionary_word_raw")
+public class DictionaryWordRaw {
+
+    @Id
+    @Column(name = "word_id")
+    private Long wordId;
+
+    @Column(name = "raw_data", nullable = false, columnDefinition = "JSONB")
+    private String rawData;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DictionaryWordRaw that = (DictionaryWordRaw) o;
+        return wordId != null && Objects.equals(wordId, that.wordId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // Getters and setters
+    public Long getWordId() { return wordId; }
+    public void setWordId(Long wordId) { this.wordId = wordId; }
+
+    public String getRawData() { return rawData; }
+    public void setRawData(String rawData) { this.rawData = rawData; }
+}
@@ -0,0 +1,13 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Free Bulgarian text to be tokenized and triaged against the dictionary and the user's lemmas.
+ */
+public record AnalyzeTextRequestDTO(
+    @NotBlank
+    @Size(max = 200_000)
+    String text
+) {}
@@ -0,0 +1,26 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+/**
+ * One token of an analyzed text. start/end are UTF-16 offsets into the submitted text.
+ * lemmaId is set for KNOWN tokens; dictionary fields are set whenever the token
+ * resolved to a Kaikki entry.
+ */
+public record AnalyzedTokenDTO(
+    String text,
+    int start,
+    int end,
+    Status status,
+    Long lemmaId,
+    String lemmaText,
+    Long dictionaryWordId,
+    String dictionaryWord,
+    String partOfSpeech,
+    String translation
+) {
+
+    public enum Status {
+        KNOWN,
+        DICTIONARY_ONLY,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,6 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+public record DictionaryExampleDTO(
+    String text,
+    String english
+) {}
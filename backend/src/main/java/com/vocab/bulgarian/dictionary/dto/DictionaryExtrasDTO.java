@@ -0,0 +1,12 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+import java.util.List;
+
+/**
+ * Optional Wiktionary details read on demand from the raw entry side table.
+ */
+public record DictionaryExtrasDTO(
+    Long dictionaryWordId,
+    String etymology,
+    List<DictionaryExampleDTO> examples
+) {}
@@ -9,5 +9,6 @@ public record DictionarySearchResultDTO(
     String primaryTranslation,
     List<String> alternateMeanings,
     String ipa,
-    List<DictionaryFormDTO> forms
+    List<DictionaryFormDTO> forms,
+    Integer frequencyRank
 ) {}
@@ -0,0 +1,15 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+/**
+ * Typeahead suggestion for the add-word dialog.
+ * lemmaId is set when the word is already in the user's vocabulary;
+ * dictionaryWordId is set when the suggestion comes from (or links to) a Kaikki entry.
+ */
+public record DictionarySuggestionDTO(
+    String text,
+    String matchedForm,
+    String partOfSpeech,
+    String translation,
+    Long dictionaryWordId,
+    Long lemmaId
+) {}
@@ -0,0 +1,13 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+/**
+ * One form of one dictionary word, returned by the cross-dictionary tag filter
+ * (GET /api/dictionary/forms?tags=definite,plural).
+ */
+public record DictionaryTaggedFormDTO(
+    Long dictionaryWordId,
+    String word,
+    String partOfSpeech,
+    Integer frequencyRank,
+    DictionaryFormDTO form
+) {}
@@ -0,0 +1,17 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+/**
+ * Read-only projection of a dictionary word without the raw Kaikki JSON.
+ * Used by the search path so results never hydrate the raw_data column.
+ */
+public record DictionaryWordSummary(
+    Long id,
+    String word,
+    String pos,
+    String primaryTranslation,
+    String[] alternateMeanings,
+    String ipa,
+    String stem,
+    Integer paradigmId,
+    Integer frequencyRank
+) {}
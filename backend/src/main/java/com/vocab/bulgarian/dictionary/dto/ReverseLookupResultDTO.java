@@ -0,0 +1,15 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+/**
+ * English -> Bulgarian lookup hit. matchedGloss is the English text that matched;
+ * glossPosition is 0 for a primary translation and n for the n-th alternate meaning.
+ * lemmaId is set when the word is already in the user's vocabulary.
+ */
+public record ReverseLookupResultDTO(
+    String text,
+    String partOfSpeech,
+    String matchedGloss,
+    int glossPosition,
+    Long dictionaryWordId,
+    Long lemmaId
+) {}
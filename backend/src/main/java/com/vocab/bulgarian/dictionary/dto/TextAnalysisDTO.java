@@ -0,0 +1,16 @@
+package com.vocab.bulgarian.dictionary.dto;
+
+import java.util.List;
+
+/**
+ * Result of /api/dictionary/analyze: every token in text order plus per-status totals.
+ * Counts are over tokens, not distinct words.
+ */
+public record TextAnalysisDTO(
+    int tokenCount,
+    int distinctCount,
+    int knownCount,
+    int dictionaryOnlyCount,
+    int unknownCount,
+    List<AnalyzedTokenDTO> tokens
+) {}
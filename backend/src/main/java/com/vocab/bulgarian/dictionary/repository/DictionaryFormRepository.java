@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,12 +14,9 @@ public interface DictionaryFormRepository extends JpaRepository<DictionaryForm,
 
     List<DictionaryForm> findByPlainForm(String plainForm);
 
-    @Query(value = "SELECT * FROM dictionary_forms WHERE plain_form &@~ :query ORDER BY plain_form LIMIT 50",
-           nativeQuery = true)
-    List<DictionaryForm> searchByPlainForm(@Param("query") String query);
-
-    @Query("SELECT f FROM DictionaryForm f JOIN FETCH f.dictionaryWord WHERE f.plainForm = :plainForm")
-    List<DictionaryForm> findByPlainFormWithWord(@Param("plainForm") String plainForm);
-
     List<DictionaryForm> findByDictionaryWordId(Long wordId);
+
+    // Batch load forms for many words in one query (parent word stays an unloaded proxy)
+    @Query("SELECT f FROM DictionaryForm f WHERE f.dictionaryWord.id IN :wordIds ORDER BY f.id")
+    List<DictionaryForm> findByDictionaryWordIdIn(@Param("wordIds") Collection<Long> wordIds);
 }
@@ -0,0 +1,32 @@
+package com.vocab.bulgarian.dictionary.repository;
+
+import com.vocab.bulgarian.dictionary.domain.DictionaryWordRaw;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Targeted JSONB-path accessors over raw Kaikki entries.
+ * Each query extracts a single field server-side instead of shipping the whole document.
+ */
+@Repository
+public interface DictionaryWordRawRepository extends JpaRepository<DictionaryWordRaw, Long> {
+
+    @Query(value = "SELECT raw_data ->> 'etymology_text' FROM dictionary_word_raw WHERE word_id = :wordId",
+           nativeQuery = true)
+    Optional<String> findEtymology(@Param("wordId") Long wordId);
+
+    // Rows of [text, english] for usage examples across all senses
+    @Query(value = """
+        SELECT e ->> 'text', e ->> 'english'
+        FROM dictionary_word_raw r
+        CROSS JOIN LATERAL jsonb_path_query(r.raw_data, '$.senses[*].examples[*]') AS e
+        WHERE r.word_id = :wordId
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findSenseExamples(@Param("wordId") Long wordId, @Param("limit") int limit);
+}
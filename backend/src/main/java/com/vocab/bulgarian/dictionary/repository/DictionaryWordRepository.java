@@ -1,11 +1,13 @@
 package com.vocab.bulgarian.dictionary.repository;
 
 import com.vocab.bulgarian.dictionary.domain.DictionaryWord;
+import com.vocab.bulgarian.dictionary.dto.DictionaryWordSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,5 +21,21 @@ public interface DictionaryWordRepository extends JpaRepository<DictionaryWord,
            nativeQuery = true)
     List<DictionaryWord> searchByWord(@Param("query") String query);
 
+    /**
+     * IDs of every dictionary word that owns the plain form or has it as its headword,
+     * most frequent first; words missing from the frequency list last, by id.
+     */
+    @Query(value = "SELECT id FROM dictionary_words WHERE id IN (" +
+                   "SELECT word_id FROM dictionary_forms WHERE plain_form = :plainForm " +
+                   "UNION SELECT id FROM dictionary_words WHERE word = :plainForm) " +
+                   "ORDER BY frequency_rank NULLS LAST, id",
+           nativeQuery = true)
+    List<Long> findIdsByPlainForm(@Param("plainForm") String plainForm);
+
+    @Query("SELECT new com.vocab.bulgarian.dictionary.dto.DictionaryWordSummary(" +
+           "w.id, w.word, w.pos, w.primaryTranslation, w.alternateMeanings, w.ipa, w.stem, w.paradigmId, w.frequencyRank) " +
+           "FROM DictionaryWord w WHERE w.id IN :ids ORDER BY w.id")
+    List<DictionaryWordSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     long count();
 }
@@ -2,21 +2,40 @@ package com.vocab.bulgarian.dictionary.service;
 
 import com.vocab.bulgarian.dictionary.domain.DictionaryForm;
 import com.vocab.bulgarian.dictionary.domain.DictionaryWord;
+import com.vocab.bulgarian.dictionary.dto.DictionaryExampleDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryExtrasDTO;
 import com.vocab.bulgarian.dictionary.dto.DictionaryFormDTO;
 import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryTaggedFormDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryWordSummary;
 import com.vocab.bulgarian.dictionary.repository.DictionaryFormRepository;
+import com.vocab.bulgarian.dictionary.repository.DictionaryWordRawRepository;
 import com.vocab.bulgarian.dictionary.repository.DictionaryWordRepository;
+import com.vocab.bulgarian.dictionary.util.BulgarianTransliterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.text.Normalizer;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongPredicate;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,48 +43,221 @@ public class DictionaryService {
 
     private static final Logger log = LoggerFactory.getLogger(DictionaryService.class);
 
+    private static final int MAX_EXAMPLES = 20;
+    private static final int MAX_FUZZY_RESULTS = 10;
+    // PostgreSQL query_canceled: raised when statement_timeout fires
+    private static final String QUERY_CANCELED = "57014";
+
+    // Trigram candidates from the folded Cyrillic form, best similarity per word
+    // Slots whose tags include every required bit, across all paradigms, most frequent words first
+    private static final String TAGGED_FORMS_SQL = """
+        SELECT w.id, w.word, w.pos, w.frequency_rank, w.stem, w.paradigm_id, f.slot, f.plain_form, f.romanization
+        FROM dictionary_paradigm_slots s
+        JOIN dictionary_words w ON w.paradigm_id = s.paradigm_id
+        JOIN dictionary_forms f ON f.word_id = w.id AND f.slot = s.slot
+        WHERE s.tag_mask & :mask = :mask
+        ORDER BY w.frequency_rank NULLS LAST, w.id, f.slot
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final String FUZZY_CYRILLIC_SQL = """
+        SELECT word_id, MAX(similarity(folded_form, :cyrillic)) AS score
+        FROM dictionary_forms
+        WHERE folded_form % :cyrillic
+        GROUP BY word_id
+        ORDER BY score DESC, word_id
+        LIMIT :limit
+        """;
+
+    // Latin input also matches the folded romanization column
+    private static final String FUZZY_LATIN_SQL = """
+        SELECT word_id, MAX(score) AS score FROM (
+            SELECT word_id, similarity(folded_form, :cyrillic) AS score
+            FROM dictionary_forms WHERE folded_form % :cyrillic
+            UNION ALL
+            SELECT word_id, similarity(folded_romanization, :latin) AS score
+            FROM dictionary_forms WHERE folded_romanization % :latin
+        ) candidates
+        GROUP BY word_id
+        ORDER BY score DESC, word_id
+        LIMIT :limit
+        """;
+
     private final DictionaryWordRepository wordRepository;
     private final DictionaryFormRepository formRepository;
+    private final DictionaryWordRawRepository rawRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TagRegistry tagRegistry;
+    private final ParadigmService paradigmService;
+    private final TransactionTemplate fuzzyTx;
+    private final int fuzzyBudgetMs;
 
     public DictionaryService(DictionaryWordRepository wordRepository,
-                             DictionaryFormRepository formRepository) {
+                             DictionaryFormRepository formRepository,
+                             DictionaryWordRawRepository rawRepository,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             TagRegistry tagRegistry,
+                             ParadigmService paradigmService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${dictionary.fuzzy.budget-ms:250}") int fuzzyBudgetMs) {
         this.wordRepository = wordRepository;
         this.formRepository = formRepository;
+        this.rawRepository = rawRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagRegistry = tagRegistry;
+        this.paradigmService = paradigmService;
+        // The budgeted query gets its own transaction: a cancelled statement aborts only that
+        // one, and SET LOCAL never leaks into the caller's transaction
+        this.fuzzyTx = new TransactionTemplate(transactionManager);
+        this.fuzzyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fuzzyTx.setReadOnly(true);
+        this.fuzzyBudgetMs = fuzzyBudgetMs;
     }
 
     /**
      * Search dictionary by any form (inflected or canonical).
-     * Strips accent marks from query, searches plain_form, returns parent dictionary words.
+     * Strips accent marks from query, searches plain_form, returns parent dictionary words,
+     * most frequent homograph first.
+     *
+     * Fixed query count regardless of how many homographs match:
+     * one for matching word IDs, one for word summaries, one for all their forms.
      */
     public List<DictionarySearchResultDTO> searchByForm(String query) {
         String plainQuery = stripAccents(query.trim().toLowerCase());
 
-        // First try exact match on plain_form
-        List<DictionaryForm> forms = formRepository.findByPlainFormWithWord(plainQuery);
+        List<Long> wordIds = wordRepository.findIdsByPlainForm(plainQuery);
+        return toSearchResults(wordIds);
+    }
 
-        // Also try exact match on dictionary_words.word
-        List<DictionaryWord> directMatches = wordRepository.findByWord(plainQuery);
+    /**
+     * Typo- and transliteration-tolerant search, ranked by trigram similarity.
+     * Latin input is transliterated to Cyrillic and also matched against the romanization.
+     * The candidate query runs in its own transaction under a statement_timeout budget; if the
+     * budget is exceeded the search returns no results rather than holding the request.
+     */
+    public List<DictionarySearchResultDTO> fuzzySearch(String query) {
+        boolean latin = BulgarianTransliterator.containsLatin(query);
+        String cyrillic = BulgarianTransliterator.fold(
+            latin ? BulgarianTransliterator.toCyrillic(query) : query);
 
-        // Merge results: collect unique dictionary words
-        Map<Long, DictionaryWord> wordMap = new LinkedHashMap<>();
-        for (DictionaryForm f : forms) {
-            wordMap.putIfAbsent(f.getDictionaryWord().getId(), f.getDictionaryWord());
-        }
-        for (DictionaryWord w : directMatches) {
-            wordMap.putIfAbsent(w.getId(), w);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cyrillic", cyrillic)
+            .addValue("latin", BulgarianTransliterator.toRomanizationKey(query))
+            .addValue("limit", MAX_FUZZY_RESULTS);
+
+        List<Long> wordIds;
+        try {
+            wordIds = fuzzyTx.execute(status -> {
+                // SET LOCAL ends with this inner transaction
+                jdbcTemplate.getJdbcTemplate().execute("SET LOCAL statement_timeout = " + fuzzyBudgetMs);
+                return jdbcTemplate.queryForList(latin ? FUZZY_LATIN_SQL : FUZZY_CYRILLIC_SQL, params)
+                    .stream()
+                    .map(row -> ((Number) row.get("word_id")).longValue())
+                    .toList();
+            });
+        } catch (DataAccessException e) {
+            if (!isQueryCanceled(e)) throw e;
+            log.warn("Fuzzy dictionary search for '{}' exceeded {}ms budget", query, fuzzyBudgetMs);
+            return List.of();
         }
+        return toSearchResults(wordIds);
+    }
 
-        return wordMap.values().stream()
-            .map(this::toSearchResult)
-            .toList();
+    /**
+     * True if the statement was cancelled by statement_timeout. Checked on the SQLSTATE itself,
+     * whatever DataAccessException subclass Spring translated it to.
+     */
+    private static boolean isQueryCanceled(DataAccessException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && QUERY_CANCELED.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Look up a specific dictionary word by ID with all its forms.
      */
     public Optional<DictionarySearchResultDTO> getById(Long dictionaryWordId) {
-        return wordRepository.findById(dictionaryWordId)
-            .map(this::toSearchResult);
+        return toSearchResults(List.of(dictionaryWordId)).stream().findFirst();
+    }
+
+    /**
+     * Batched variant of getById: a fixed number of queries for any number of words.
+     * Results keep the order of the given IDs; unknown IDs are skipped.
+     */
+    public List<DictionarySearchResultDTO> getByIds(List<Long> dictionaryWordIds) {
+        return toSearchResults(dictionaryWordIds);
+    }
+
+    /**
+     * Etymology and usage examples pulled from the raw Kaikki entry via JSONB paths.
+     * Only the two extracted fields cross the wire, never the full document.
+     */
+    public Optional<DictionaryExtrasDTO> getExtras(Long dictionaryWordId) {
+        if (!wordRepository.existsById(dictionaryWordId)) {
+            return Optional.empty();
+        }
+        String etymology = rawRepository.findEtymology(dictionaryWordId).orElse(null);
+        List<DictionaryExampleDTO> examples = rawRepository.findSenseExamples(dictionaryWordId, MAX_EXAMPLES)
+            .stream()
+            .map(row -> new DictionaryExampleDTO((String) row[0], (String) row[1]))
+            .filter(e -> e.text() != null)
+            .toList();
+        return Optional.of(new DictionaryExtrasDTO(dictionaryWordId, etymology, examples));
+    }
+
+    /**
+     * Forms of a dictionary word that carry all the given tags, e.g. ["definite", "plural"].
+     * A tag the registry has never seen matches nothing.
+     */
+    public List<DictionaryFormDTO> getFormsWithTags(Long dictionaryWordId, Collection<String> tags) {
+        long mask = tagRegistry.maskOf(tags);
+        if (tagRegistry.tagsOf(mask).size() != new HashSet<>(tags).size()) {
+            return List.of();
+        }
+        List<DictionaryWordSummary> words = wordRepository.findSummariesByIdIn(List.of(dictionaryWordId));
+        if (words.isEmpty()) return List.of();
+        return expandForms(words.getFirst(), formRepository.findByDictionaryWordId(dictionaryWordId),
+                tagMask -> TagRegistry.hasAll(tagMask, mask));
+    }
+
+    /**
+     * Forms of any dictionary word that carry all the given tags, e.g. every definite plural.
+     * The bitwise test runs on paradigm slots, so the number of rows it touches grows with the
+     * number of paradigms, not forms. A tag the registry has never seen matches nothing.
+     *
+     * @param offset rows to skip
+     * @param limit page size
+     */
+    public List<DictionaryTaggedFormDTO> searchFormsByTags(Collection<String> tags, int offset, int limit) {
+        long mask = tagRegistry.maskOf(tags);
+        if (mask == 0 || tagRegistry.tagsOf(mask).size() != new HashSet<>(tags).size()) {
+            return List.of();
+        }
+        var params = new MapSqlParameterSource()
+            .addValue("mask", mask)
+            .addValue("limit", limit)
+            .addValue("offset", offset);
+        List<DictionaryTaggedFormDTO> results = new ArrayList<>();
+        jdbcTemplate.query(TAGGED_FORMS_SQL, params, rs -> {
+            ParadigmService.ExpandedForm expanded = paradigmService.expandSlot(
+                rs.getString("stem"), rs.getInt("paradigm_id"), rs.getInt("slot"));
+            if (expanded == null || tagRegistry.isMeta(expanded.tagMask())) return;
+            results.add(new DictionaryTaggedFormDTO(
+                rs.getLong("id"),
+                rs.getString("word"),
+                rs.getString("pos"),
+                rs.getObject("frequency_rank", Integer.class),
+                new DictionaryFormDTO(
+                    expanded.accentedForm(),
+                    rs.getString("plain_form"),
+                    tagRegistry.tagsOf(expanded.tagMask()),
+                    expanded.accentedForm(),
+                    rs.getString("romanization"))));
+        });
+        return results;
     }
 
     /**
@@ -84,10 +276,10 @@ public class DictionaryService {
     }
 
     /**
-     * Get all forms for a dictionary word.
+     * Get all inflected forms for a dictionary word, expanded from its paradigm.
      */
-    public List<DictionaryForm> getFormsForWord(Long dictionaryWordId) {
-        return formRepository.findByDictionaryWordId(dictionaryWordId);
+    public List<DictionaryFormDTO> getFormsForWord(Long dictionaryWordId) {
+        return getById(dictionaryWordId).map(DictionarySearchResultDTO::forms).orElse(List.of());
     }
 
     /**
@@ -100,43 +292,69 @@ public class DictionaryService {
         return normalized.replaceAll("\\u0301", "");
     }
 
-    private DictionarySearchResultDTO toSearchResult(DictionaryWord word) {
-        List<DictionaryForm> wordForms = formRepository.findByDictionaryWordId(word.getId());
+    /**
+     * Build search results for the given word IDs with batched loading:
+     * summaries (no raw_data) in one query and all forms in one query.
+     * Results keep the order of the given IDs.
+     */
+    private List<DictionarySearchResultDTO> toSearchResults(List<Long> wordIds) {
+        if (wordIds.isEmpty()) return List.of();
 
-        List<DictionaryFormDTO> formDtos = wordForms.stream()
-            .filter(f -> f.getTags() != null && !isMetaTag(f.getTags()))
-            .map(f -> new DictionaryFormDTO(
-                f.getForm(),
-                f.getPlainForm(),
-                Arrays.asList(f.getTags()),
-                f.getAccentedForm(),
-                f.getRomanization()
-            ))
+        Map<Long, DictionaryWordSummary> wordsById = new HashMap<>();
+        for (DictionaryWordSummary w : wordRepository.findSummariesByIdIn(wordIds)) {
+            wordsById.put(w.id(), w);
+        }
+
+        Map<Long, List<DictionaryForm>> formsByWord = new HashMap<>();
+        for (DictionaryForm f : formRepository.findByDictionaryWordIdIn(wordIds)) {
+            formsByWord.computeIfAbsent(f.getDictionaryWord().getId(), id -> new ArrayList<>()).add(f);
+        }
+
+        return wordIds.stream()
+            .map(wordsById::get)
+            .filter(Objects::nonNull)
+            .map(w -> toSearchResult(w, formsByWord.getOrDefault(w.id(), List.of())))
             .toList();
+    }
+
+    private DictionarySearchResultDTO toSearchResult(DictionaryWordSummary word, List<DictionaryForm> wordForms) {
+        List<DictionaryFormDTO> formDtos = expandForms(word, wordForms, tagMask -> true);
 
         return new DictionarySearchResultDTO(
-            word.getId(),
-            word.getWord(),
-            word.getPos(),
-            word.getPrimaryTranslation(),
-            word.getAlternateMeanings() != null
-                ? Arrays.asList(word.getAlternateMeanings())
+            word.id(),
+            word.word(),
+            word.pos(),
+            word.primaryTranslation(),
+            word.alternateMeanings() != null
+                ? Arrays.asList(word.alternateMeanings())
                 : List.of(),
-            word.getIpa(),
-            formDtos
+            word.ipa(),
+            formDtos,
+            word.frequencyRank()
         );
     }
 
     /**
-     * Filter out meta tags like "romanization", "table-tags", "inflection-template"
-     * that aren't actual inflected forms.
+     * Expand form rows through the word's paradigm: accented text and tags come from the
+     * slot, romanization from the row. Meta entries are dropped.
      */
-    private boolean isMetaTag(String[] tags) {
-        for (String tag : tags) {
-            if ("romanization".equals(tag) || "table-tags".equals(tag) || "inflection-template".equals(tag)) {
-                return true;
+    private List<DictionaryFormDTO> expandForms(DictionaryWordSummary word, List<DictionaryForm> wordForms,
+                                                LongPredicate tagFilter) {
+        List<DictionaryFormDTO> formDtos = new ArrayList<>(wordForms.size());
+        for (DictionaryForm f : wordForms) {
+            ParadigmService.ExpandedForm expanded =
+                paradigmService.expandSlot(word.stem(), word.paradigmId(), f.getSlot());
+            if (expanded == null || tagRegistry.isMeta(expanded.tagMask()) || !tagFilter.test(expanded.tagMask())) {
+                continue;
             }
+            formDtos.add(new DictionaryFormDTO(
+                expanded.accentedForm(),
+                f.getPlainForm(),
+                tagRegistry.tagsOf(expanded.tagMask()),
+                expanded.accentedForm(),
+                f.getRomanization()
+            ));
         }
-        return false;
+        return formDtos;
     }
 }
@@ -0,0 +1,160 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.dictionary.snapshot.DictionarySnapshot;
+import com.vocab.bulgarian.dictionary.snapshot.DictionarySnapshotWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Owns the memory-mapped dictionary snapshot that in-process lookups read from.
+ *
+ * At startup the existing snapshot file is mapped if its version and source fingerprint
+ * (word count, max word id) still match the database; otherwise it is rebuilt from Postgres
+ * once and written back. After a Kaikki import the snapshot is rewritten and swapped in.
+ */
+@Component
+public class DictionarySnapshotService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionarySnapshotService.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final Path snapshotPath;
+    private final TagRegistry tagRegistry;
+    private final ParadigmService paradigmService;
+
+    private volatile DictionarySnapshot current = DictionarySnapshot.EMPTY;
+
+    public DictionarySnapshotService(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${dictionary.snapshot.path}") Path snapshotPath,
+                                     TagRegistry tagRegistry,
+                                     ParadigmService paradigmService) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // Rebuild may run from an import's afterCommit callback; never join that transaction
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotPath = snapshotPath;
+        this.tagRegistry = tagRegistry;
+        this.paradigmService = paradigmService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        load();
+    }
+
+    public DictionarySnapshot current() {
+        return current;
+    }
+
+    /**
+     * Exact membership test against every headword and inflected form in the snapshot.
+     * Returns true while no snapshot is loaded, so callers never skip a lookup on a cold start.
+     */
+    public boolean containsForm(String text) {
+        DictionarySnapshot snapshot = current;
+        if (snapshot.wordCount() == 0) return true;
+        byte[] key = DictionarySnapshot.encodeKey(normalizeKey(text));
+        int i = snapshot.lowerBound(key);
+        return i < snapshot.formCount() && snapshot.formKeyEquals(i, key);
+    }
+
+    /**
+     * Lowercase, trim and strip stress marks the same way plain_form is stored.
+     * Every key in the snapshot form table is normalized with this.
+     */
+    public static String normalizeKey(String text) {
+        if (text == null) return "";
+        return DictionaryService.stripAccents(text.trim().toLowerCase());
+    }
+
+    /**
+     * Map the snapshot file, rebuilding it first if it is missing, from an older format
+     * or out of date with the database.
+     */
+    public void load() {
+        if (Files.exists(snapshotPath)) {
+            try {
+                DictionarySnapshot snapshot = DictionarySnapshot.open(snapshotPath);
+                if (matchesDatabase(snapshot)) {
+                    current = snapshot;
+                    log.info("Mapped dictionary snapshot {}: {} words, {} forms",
+                            snapshotPath, snapshot.wordCount(), snapshot.formCount());
+                    return;
+                }
+                log.info("Dictionary snapshot {} is stale, rebuilding", snapshotPath);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Dictionary snapshot {} unreadable ({}), rebuilding", snapshotPath, e.getMessage());
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Build a fresh snapshot from the database, write it atomically and swap it in.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        DictionarySnapshotWriter writer = readOnlyTx.execute(status -> buildFromDatabase());
+        try {
+            writer.write(snapshotPath);
+            current = DictionarySnapshot.open(snapshotPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write dictionary snapshot to " + snapshotPath, e);
+        }
+        log.info("Wrote dictionary snapshot {}: {} words, {} forms ({}ms)", snapshotPath,
+                current.wordCount(), current.formCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean matchesDatabase(DictionarySnapshot snapshot) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(
+            "SELECT COUNT(*) AS words, COALESCE(MAX(id), 0) AS max_id FROM dictionary_words",
+            rs -> rs.next()
+                && rs.getLong("words") == snapshot.wordCount()
+                && rs.getLong("max_id") == snapshot.sourceMaxWordId()));
+    }
+
+    private DictionarySnapshotWriter buildFromDatabase() {
+        DictionarySnapshotWriter writer = new DictionarySnapshotWriter();
+        writer.setTagNames(tagRegistry.tagNames());
+
+        // Forms are expanded from stem + paradigm, so dictionary_forms is never scanned
+        jdbcTemplate.query(
+            "SELECT id, word, pos, primary_translation, stem, paradigm_id, frequency_rank " +
+            "FROM dictionary_words ORDER BY id", rs -> {
+            String word = rs.getString("word");
+            String headwordKey = normalizeKey(word);
+            Integer rank = rs.getObject("frequency_rank", Integer.class);
+            int index = writer.addWord(rs.getLong("id"), word, rs.getString("pos"),
+                    rs.getString("primary_translation"), headwordKey,
+                    rank != null ? rank : DictionarySnapshot.UNRANKED);
+            // Headwords are lookup keys even when Kaikki lists no forms for them
+            writer.addForm(headwordKey, index, 0L);
+            for (ParadigmService.ExpandedForm form : paradigmService.expand(
+                    rs.getString("stem"), rs.getObject("paradigm_id", Integer.class))) {
+                writer.addForm(normalizeKey(form.plainForm()), index, form.tagMask());
+            }
+        });
+
+        return writer;
+    }
+}
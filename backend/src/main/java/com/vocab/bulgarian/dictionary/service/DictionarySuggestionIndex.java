@@ -0,0 +1,209 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.dictionary.dto.DictionarySuggestionDTO;
+import com.vocab.bulgarian.dictionary.snapshot.DictionarySnapshot;
+import com.vocab.bulgarian.domain.event.LemmaChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process prefix index backing /api/dictionary/suggest.
+ *
+ * Two tiers:
+ *  - Dictionary: every Kaikki headword and plain form, read straight from the memory-mapped
+ *    snapshot's sorted form table by binary search. Nothing is copied onto the heap.
+ *  - User lemmas: a concurrent skip-list kept current via LemmaChangedEvent. reload() builds a
+ *    fresh tier off to the side and publishes it with one volatile swap, replaying the lemmas
+ *    that changed while it was loading, so readers never see an empty or partial tier.
+ *
+ * Suggestions never touch Postgres, so the add-word dialog can query on every keystroke.
+ */
+@Component
+public class DictionarySuggestionIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionarySuggestionIndex.class);
+
+    // Cap on dictionary entries scanned per request so one-letter prefixes stay fast
+    private static final int MAX_SCAN = 50_000;
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String LEMMA_SQL = "SELECT id, text, translation, part_of_speech, dictionary_word_id FROM lemmas";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final DictionarySnapshotService snapshotService;
+
+    private volatile LemmaTier lemmas = new LemmaTier();
+
+    // Guards the swap; while a reload runs, changed lemma ids are collected here for replay
+    private final Object reloadLock = new Object();
+    private Set<Long> changedDuringReload;
+
+    public DictionarySuggestionIndex(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                     DictionarySnapshotService snapshotService) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * Rebuild the lemma tier from the database. The dictionary tier needs no loading:
+     * it always reads the snapshot currently published by DictionarySnapshotService.
+     * Runs in a read-only transaction so the PostgreSQL driver streams rows with a cursor.
+     */
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        synchronized (reloadLock) {
+            changedDuringReload = new HashSet<>();
+        }
+        LemmaTier fresh = new LemmaTier();
+        try {
+            readOnlyTx.executeWithoutResult(status -> jdbcTemplate.query(LEMMA_SQL, rs -> { fresh.put(rs); }));
+            synchronized (reloadLock) {
+                // The load may have read these rows before their change committed
+                for (Long lemmaId : changedDuringReload) {
+                    refresh(fresh, lemmaId, false);
+                }
+                lemmas = fresh;
+            }
+        } finally {
+            synchronized (reloadLock) {
+                changedDuringReload = null;
+            }
+        }
+        log.info("Suggestion index loaded {} lemmas ({}ms)",
+                fresh.keyByLemmaId.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Return up to {@code limit} suggestions: user lemmas whose text starts with the prefix, then
+     * dictionary words whose headword or any plain form does.
+     * Ranking: words already in the user's vocabulary first, then dictionary headword matches,
+     * then inflected-form matches; ties broken by corpus frequency, then shorter form, then alphabetically.
+     */
+    public List<DictionarySuggestionDTO> suggest(String prefix, int limit) {
+        String key = DictionarySnapshotService.normalizeKey(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        List<DictionarySuggestionDTO> results = new ArrayList<>(limit);
+        Set<Long> ownedWordIds = new HashSet<>();
+
+        for (LemmaEntry lemma : lemmas.byKey.subMap(key, key + Character.MAX_VALUE).values()) {
+            if (results.size() >= limit) return results;
+            results.add(new DictionarySuggestionDTO(lemma.text(), lemma.text(), lemma.partOfSpeech(),
+                    lemma.translation(), lemma.dictionaryWordId(), lemma.id()));
+            if (lemma.dictionaryWordId() != null) {
+                ownedWordIds.add(lemma.dictionaryWordId());
+            }
+        }
+
+        DictionarySnapshot snapshot = snapshotService.current();
+        byte[] prefixBytes = DictionarySnapshot.encodeKey(key);
+        int start = snapshot.lowerBound(prefixBytes);
+        int end = Math.min(snapshot.formCount(), start + MAX_SCAN);
+        Map<Integer, Candidate> bestByWord = new HashMap<>();
+        for (int i = start; i < end && snapshot.formKeyStartsWith(i, prefixBytes); i++) {
+            int w = snapshot.formWordIndex(i);
+            if (ownedWordIds.contains(snapshot.wordId(w))) continue;
+            Candidate candidate = new Candidate(w, i, snapshot.isHeadword(i) ? 0 : 1,
+                    snapshot.frequencyRank(w), snapshot.formKeyLength(i));
+            bestByWord.merge(w, candidate, (a, b) -> Candidate.ORDER.compare(a, b) <= 0 ? a : b);
+        }
+
+        // Strings are decoded from the mapping only for the suggestions actually returned
+        bestByWord.values().stream()
+            .sorted(Candidate.ORDER)
+            .limit(limit - results.size())
+            .forEach(c -> results.add(new DictionarySuggestionDTO(
+                snapshot.word(c.wordIndex()), snapshot.formKey(c.formIndex()), snapshot.pos(c.wordIndex()),
+                snapshot.translation(c.wordIndex()), snapshot.wordId(c.wordIndex()), null)));
+
+        return results;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLemmaChanged(LemmaChangedEvent event) {
+        LemmaTier tier;
+        synchronized (reloadLock) {
+            if (changedDuringReload != null) {
+                changedDuringReload.add(event.lemmaId());
+            }
+            tier = lemmas;
+        }
+        refresh(tier, event.lemmaId(), event.changeType() == LemmaChangedEvent.ChangeType.DELETED);
+    }
+
+    private void refresh(LemmaTier tier, Long lemmaId, boolean deleted) {
+        tier.remove(lemmaId);
+        if (deleted) return;
+        jdbcTemplate.query(LEMMA_SQL + " WHERE id = ?", rs -> { tier.put(rs); }, lemmaId);
+    }
+
+    private record LemmaEntry(long id, String text, String translation, String partOfSpeech, Long dictionaryWordId) {}
+
+    /**
+     * The user-lemma tier. Key = normalized text + '\0' + lemma id, so homographs coexist in the map.
+     */
+    private static final class LemmaTier {
+        final ConcurrentSkipListMap<String, LemmaEntry> byKey = new ConcurrentSkipListMap<>();
+        final ConcurrentHashMap<Long, String> keyByLemmaId = new ConcurrentHashMap<>();
+
+        void put(ResultSet rs) throws SQLException {
+            LemmaEntry entry = new LemmaEntry(
+                rs.getLong("id"),
+                rs.getString("text"),
+                rs.getString("translation"),
+                rs.getString("part_of_speech"),
+                rs.getObject("dictionary_word_id", Long.class)
+            );
+            String key = DictionarySnapshotService.normalizeKey(entry.text()) + '\0' + entry.id();
+            String previous = keyByLemmaId.put(entry.id(), key);
+            if (previous != null && !previous.equals(key)) {
+                byKey.remove(previous);
+            }
+            byKey.put(key, entry);
+        }
+
+        void remove(Long lemmaId) {
+            String key = keyByLemmaId.remove(lemmaId);
+            if (key != null) {
+                byKey.remove(key);
+            }
+        }
+    }
+
+    // Form table is sorted by key, so formIndex order is alphabetical order
+    private record Candidate(int wordIndex, int formIndex, int tier, int frequencyRank, int keyLength) {
+        static final Comparator<Candidate> ORDER = Comparator.comparingInt(Candidate::tier)
+            .thenComparingInt(Candidate::frequencyRank)
+            .thenComparingInt(Candidate::keyLength)
+            .thenComparingInt(Candidate::formIndex);
+    }
+}
@@ -0,0 +1,172 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports a word-frequency list and ranks dictionary words by it.
+ *
+ * The file is one "word count" pair per line (whitespace-separated, as in the common
+ * OpenSubtitles/FrequencyWords lists). Words are normalized like plain_form, so counts for
+ * spellings that differ only in case or stress are merged. Ranks land in
+ * dictionary_words.frequency_rank and in the snapshot word table, which search, suggest
+ * and create use to order homographs.
+ */
+@Service
+public class FrequencyImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(FrequencyImportService.class);
+
+    private static final int BATCH_SIZE = 5_000;
+
+    // A word's count is the sum over its headword and inflected forms, but a surface form shared
+    // by several words (homographs, or one word's form that is another's headword) is not
+    // counted in full for each of them. Forms only one word has are that word's own evidence;
+    // each shared form's count is split between its words in proportion to that evidence, or
+    // equally when none of them has any. Summing shared forms in full gave homographs
+    // near-identical ranks, so the dominant one could never be picked.
+    private static final String RANK_SQL = """
+        WITH word_keys AS (
+            SELECT id AS word_id, lower(word) AS form FROM dictionary_words
+            UNION
+            SELECT word_id, plain_form FROM dictionary_forms
+        ), counted AS (
+            SELECT k.word_id, k.form, f.occurrences, COUNT(*) OVER (PARTITION BY k.form) AS sharers
+            FROM word_keys k
+            JOIN dictionary_word_frequencies f ON f.form = k.form
+        ), own AS (
+            SELECT word_id, SUM(occurrences) AS total
+            FROM counted
+            WHERE sharers = 1
+            GROUP BY word_id
+        ), shares AS (
+            SELECT c.word_id,
+                   CASE WHEN SUM(COALESCE(o.total, 0)) OVER (PARTITION BY c.form) > 0
+                        THEN c.occurrences * COALESCE(o.total, 0)::NUMERIC
+                             / SUM(COALESCE(o.total, 0)) OVER (PARTITION BY c.form)
+                        ELSE c.occurrences::NUMERIC / c.sharers
+                   END AS share
+            FROM counted c
+            LEFT JOIN own o ON o.word_id = c.word_id
+            WHERE c.sharers > 1
+        ), totals AS (
+            SELECT word_id, SUM(total) AS total FROM (
+                SELECT word_id, total FROM own
+                UNION ALL
+                SELECT word_id, share FROM shares
+            ) parts
+            GROUP BY word_id
+        ), ranked AS (
+            SELECT word_id, RANK() OVER (ORDER BY total DESC) AS frequency_rank FROM totals
+        )
+        UPDATE dictionary_words w
+        SET frequency_rank = r.frequency_rank
+        FROM ranked r
+        WHERE r.word_id = w.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DictionarySnapshotService snapshotService;
+
+    public FrequencyImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                  DictionarySnapshotService snapshotService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotService = snapshotService;
+    }
+
+    /**
+     * Replace the stored frequency list with the file's contents and re-rank every word.
+     */
+    @Transactional
+    public ImportResult importFromFile(Path path) throws IOException {
+        log.info("Starting frequency list import from {}", path);
+
+        Map<String, Long> counts = new HashMap<>();
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length != 2) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    long count = Long.parseLong(parts[1]);
+                    String key = DictionarySnapshotService.normalizeKey(parts[0]);
+                    if (key.isEmpty() || count <= 0) {
+                        skipped++;
+                        continue;
+                    }
+                    counts.merge(key, count, Long::sum);
+                } catch (NumberFormatException e) {
+                    skipped++;
+                }
+            }
+        }
+
+        jdbcTemplate.getJdbcTemplate().execute("TRUNCATE dictionary_word_frequencies");
+        List<SqlParameterSource> batch = new ArrayList<>(BATCH_SIZE);
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            batch.add(new MapSqlParameterSource()
+                .addValue("form", entry.getKey())
+                .addValue("occurrences", entry.getValue()));
+            if (batch.size() == BATCH_SIZE) {
+                insertBatch(batch);
+            }
+        }
+        insertBatch(batch);
+
+        int ranked = recomputeRanks();
+        log.info("Frequency import complete: {} forms, {} skipped, {} dictionary words ranked",
+                counts.size(), skipped, ranked);
+
+        // Ranks are baked into the snapshot word table
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshotService.rebuild();
+            }
+        });
+
+        return new ImportResult(counts.size(), skipped, ranked);
+    }
+
+    /**
+     * Recompute dictionary_words.frequency_rank from the stored frequency list.
+     * Must run inside the caller's transaction; the caller rebuilds the snapshot after commit.
+     *
+     * @return number of words that received a rank
+     */
+    public int recomputeRanks() {
+        jdbcTemplate.getJdbcTemplate().execute(
+            "UPDATE dictionary_words SET frequency_rank = NULL WHERE frequency_rank IS NOT NULL");
+        return jdbcTemplate.getJdbcTemplate().update(RANK_SQL);
+    }
+
+    private void insertBatch(List<SqlParameterSource> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO dictionary_word_frequencies (form, occurrences) VALUES (:form, :occurrences)",
+            batch.toArray(SqlParameterSource[]::new));
+        batch.clear();
+    }
+
+    public record ImportResult(int forms, int skipped, int rankedWords) {}
+}
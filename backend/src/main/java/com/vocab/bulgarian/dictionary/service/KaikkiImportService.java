@@ -2,32 +2,77 @@ package com.vocab.bulgarian.dictionary.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.bulgarian.exception.TagRegistryFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class KaikkiImportService {
 
     private static final Logger log = LoggerFactory.getLogger(KaikkiImportService.class);
 
+    // Words written per set of JDBC batches
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final String ALLOCATE_WORD_IDS_SQL =
+        "SELECT nextval(pg_get_serial_sequence('dictionary_words', 'id')) FROM generate_series(1, :count)";
+
+    private static final String INSERT_WORD_SQL =
+        "INSERT INTO dictionary_words (id, word, pos, primary_translation, alternate_meanings, ipa, stem, paradigm_id, created_at) " +
+        "VALUES (:id, :word, :pos, :translation, :altMeanings::TEXT[], :ipa, :stem, :paradigmId, NOW())";
+
+    private static final String INSERT_RAW_SQL =
+        "INSERT INTO dictionary_word_raw (word_id, raw_data) VALUES (:wordId, :rawData::jsonb)";
+
+    private static final String INSERT_GLOSS_SQL =
+        "INSERT INTO dictionary_word_glosses (word_id, position, gloss) VALUES (:wordId, :position, :gloss)";
+
+    private static final String INSERT_FORM_SQL =
+        "INSERT INTO dictionary_forms (word_id, slot, plain_form, romanization) " +
+        "VALUES (:wordId, :slot, :plainForm, :romanization)";
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
-
-    public KaikkiImportService(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+    private final DictionarySnapshotService snapshotService;
+    private final TagRegistry tagRegistry;
+    private final ParadigmService paradigmService;
+    private final FrequencyImportService frequencyImportService;
+    private final TransactionTemplate savepointTx;
+
+    public KaikkiImportService(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                               DictionarySnapshotService snapshotService, TagRegistry tagRegistry,
+                               ParadigmService paradigmService, FrequencyImportService frequencyImportService,
+                               PlatformTransactionManager transactionManager) {
         this.jdbcTemplate = jdbcTemplate;
         this.objectMapper = objectMapper;
+        this.snapshotService = snapshotService;
+        this.tagRegistry = tagRegistry;
+        this.paradigmService = paradigmService;
+        this.frequencyImportService = frequencyImportService;
+        // A failed statement aborts the whole PostgreSQL transaction; a savepoint contains it
+        this.savepointTx = new TransactionTemplate(transactionManager);
+        this.savepointTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
     @Transactional
@@ -38,11 +83,17 @@ public class KaikkiImportService {
         int formCount = 0;
         int skipped = 0;
         int errors = 0;
+        List<ParsedWord> chunk = new ArrayList<>(CHUNK_SIZE);
+        int chunks = 0;
 
         try (BufferedReader reader = Files.newBufferedReader(jsonlPath)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 try {
+                    // PostgreSQL rejects NUL in TEXT and JSONB; catch it here rather than in a batch
+                    if (line.indexOf('\0') >= 0 || line.contains("\\u0000")) {
+                        throw new IllegalArgumentException("entry contains a NUL character");
+                    }
                     JsonNode entry = objectMapper.readTree(line);
 
                     if (isFormOfEntry(entry)) {
@@ -93,32 +144,8 @@ public class KaikkiImportService {
                         }
                     }
 
-                    // Insert word using native SQL with RETURNING
-                    var keyHolder = new GeneratedKeyHolder();
-                    var wordParams = new MapSqlParameterSource()
-                        .addValue("word", plainWord)
-                        .addValue("pos", pos)
-                        .addValue("translation", primaryTranslation)
-                        .addValue("ipa", ipa)
-                        .addValue("rawData", line);
-
-                    // Handle TEXT[] for alternate_meanings via JDBC
-                    String altMeaningsLiteral = alternateMeanings != null
-                        ? "{" + String.join(",", java.util.Arrays.stream(alternateMeanings)
-                            .map(s -> "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
-                            .toArray(String[]::new)) + "}"
-                        : null;
-                    wordParams.addValue("altMeanings", altMeaningsLiteral);
-
-                    jdbcTemplate.update(
-                        "INSERT INTO dictionary_words (word, pos, primary_translation, alternate_meanings, ipa, raw_data, created_at) " +
-                        "VALUES (:word, :pos, :translation, :altMeanings::TEXT[], :ipa, :rawData::jsonb, NOW())",
-                        wordParams, keyHolder, new String[]{"id"}
-                    );
-
-                    Long wordId = keyHolder.getKey().longValue();
-
-                    // Parse and insert forms
+                    // Parse forms first so the word row can carry its stem + paradigm
+                    List<ParsedForm> parsedForms = new ArrayList<>();
                     JsonNode formsNode = entry.get("forms");
                     if (formsNode != null && formsNode.isArray()) {
                         for (JsonNode formNode : formsNode) {
@@ -133,55 +160,174 @@ public class KaikkiImportService {
                                 tagList.add(t.asText());
                             }
 
-                            if (tagList.contains("romanization") || tagList.contains("table-tags")
-                                    || tagList.contains("inflection-template")) {
+                            long tagMask = tagRegistry.register(tagList);
+                            if (tagRegistry.isMeta(tagMask)) {
                                 continue;
                             }
 
-                            String plainForm = DictionaryService.stripAccents(form);
                             String romanization = formNode.has("roman") ? formNode.get("roman").asText() : null;
-
-                            String tagsLiteral = "{" + String.join(",",
-                                tagList.stream()
-                                    .map(s -> "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
-                                    .toArray(String[]::new)) + "}";
-
-                            var formParams = new MapSqlParameterSource()
-                                .addValue("wordId", wordId)
-                                .addValue("form", form)
-                                .addValue("plainForm", plainForm)
-                                .addValue("tags", tagsLiteral)
-                                .addValue("accentedForm", form)
-                                .addValue("romanization", romanization);
-
-                            jdbcTemplate.update(
-                                "INSERT INTO dictionary_forms (word_id, form, plain_form, tags, accented_form, romanization) " +
-                                "VALUES (:wordId, :form, :plainForm, :tags::TEXT[], :accentedForm, :romanization)",
-                                formParams
-                            );
-                            formCount++;
+                            parsedForms.add(new ParsedForm(form, DictionaryService.stripAccents(form), tagMask, romanization));
                         }
                     }
 
-                    wordCount++;
-                    if (wordCount % 5000 == 0) {
-                        log.info("Imported {} words, {} forms so far...", wordCount, formCount);
+                    ParadigmService.Factored factored = paradigmService.factor(parsedForms.stream()
+                        .map(f -> new ParadigmService.FormInput(f.form(), f.plainForm(), f.tagMask()))
+                        .toList());
+
+                    // TEXT[] for alternate_meanings as an array literal
+                    String altMeaningsLiteral = alternateMeanings != null
+                        ? "{" + String.join(",", java.util.Arrays.stream(alternateMeanings)
+                            .map(s -> "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                            .toArray(String[]::new)) + "}"
+                        : null;
+
+                    // One row per gloss, in order, for English -> Bulgarian lookup
+                    List<String> glosses = new ArrayList<>();
+                    if (primaryTranslation != null) glosses.add(primaryTranslation);
+                    if (alternateMeanings != null) glosses.addAll(List.of(alternateMeanings));
+
+                    // One lookup row per paradigm slot; accented text and tags live in the paradigm
+                    List<SlotForm> slotForms = new ArrayList<>();
+                    Set<Integer> seenSlots = new HashSet<>();
+                    for (int i = 0; i < parsedForms.size(); i++) {
+                        int slot = factored.slots()[i];
+                        if (seenSlots.add(slot)) {
+                            slotForms.add(new SlotForm(slot, parsedForms.get(i).plainForm(), parsedForms.get(i).romanization()));
+                        }
                     }
+
+                    chunk.add(new ParsedWord(plainWord, pos, primaryTranslation, altMeaningsLiteral, ipa,
+                        factored.stem(), factored.paradigmId(), line, glosses, slotForms));
+                } catch (TagRegistryFullException e) {
+                    // Not a bad line: every later form would lose tags too, so stop the import
+                    throw e;
                 } catch (Exception e) {
                     errors++;
                     if (errors <= 10) {
                         log.warn("Error parsing line: {}", e.getMessage());
                     }
                 }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    ChunkResult written = writeIsolated(chunk);
+                    wordCount += written.words();
+                    formCount += written.forms();
+                    errors += written.failed();
+                    chunk.clear();
+                    if (++chunks % 5 == 0) {
+                        log.info("Imported {} words, {} forms so far...", wordCount, formCount);
+                    }
+                }
             }
         }
+        ChunkResult written = writeIsolated(chunk);
+        wordCount += written.words();
+        formCount += written.forms();
+        errors += written.failed();
 
         log.info("Kaikki import complete: {} words, {} forms, {} skipped, {} errors",
                 wordCount, formCount, skipped, errors);
 
+        // New words get ranks from the stored frequency list, if one was imported
+        frequencyImportService.recomputeRanks();
+
+        // Emit the binary snapshot from committed data only
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshotService.rebuild();
+            }
+        });
+
         return new ImportResult(wordCount, formCount, skipped, errors);
     }
 
+    /**
+     * Write a chunk inside a savepoint. If the database rejects it, roll back to the savepoint
+     * and write the words one at a time, each in its own savepoint, so only the offending
+     * entries are lost and the import transaction stays usable.
+     */
+    private ChunkResult writeIsolated(List<ParsedWord> chunk) {
+        if (chunk.isEmpty()) return new ChunkResult(0, 0, 0);
+        try {
+            return new ChunkResult(chunk.size(), savepointTx.execute(status -> writeChunk(chunk)), 0);
+        } catch (DataAccessException e) {
+            log.warn("Chunk of {} words failed ({}), retrying one word at a time",
+                chunk.size(), e.getMostSpecificCause().getMessage());
+        }
+        int words = 0;
+        int forms = 0;
+        int failed = 0;
+        for (ParsedWord word : chunk) {
+            try {
+                forms += savepointTx.execute(status -> writeChunk(List.of(word)));
+                words++;
+            } catch (DataAccessException e) {
+                failed++;
+                log.warn("Skipping '{}' ({}): {}", word.word(), word.pos(), e.getMostSpecificCause().getMessage());
+            }
+        }
+        return new ChunkResult(words, forms, failed);
+    }
+
+    /**
+     * Write a chunk of parsed words with one JDBC batch per table. Word ids are allocated up
+     * front so raw, gloss and form rows can be batched without RETURNING.
+     *
+     * @return number of form rows written
+     */
+    private int writeChunk(List<ParsedWord> chunk) {
+        if (chunk.isEmpty()) return 0;
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_WORD_IDS_SQL,
+            new MapSqlParameterSource("count", chunk.size()), Long.class);
+
+        List<SqlParameterSource> wordRows = new ArrayList<>(chunk.size());
+        List<SqlParameterSource> rawRows = new ArrayList<>(chunk.size());
+        List<SqlParameterSource> glossRows = new ArrayList<>();
+        List<SqlParameterSource> formRows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Long wordId = ids.get(i);
+            ParsedWord word = chunk.get(i);
+            wordRows.add(new MapSqlParameterSource()
+                .addValue("id", wordId)
+                .addValue("word", word.word())
+                .addValue("pos", word.pos())
+                .addValue("translation", word.primaryTranslation())
+                .addValue("altMeanings", word.altMeaningsLiteral())
+                .addValue("ipa", word.ipa())
+                .addValue("stem", word.stem())
+                .addValue("paradigmId", word.paradigmId(), Types.INTEGER));
+            // Raw entry lives in a side table so lookups never read it
+            rawRows.add(new MapSqlParameterSource()
+                .addValue("wordId", wordId)
+                .addValue("rawData", word.rawLine()));
+            for (int position = 0; position < word.glosses().size(); position++) {
+                glossRows.add(new MapSqlParameterSource()
+                    .addValue("wordId", wordId)
+                    .addValue("position", position)
+                    .addValue("gloss", word.glosses().get(position)));
+            }
+            for (SlotForm form : word.forms()) {
+                formRows.add(new MapSqlParameterSource()
+                    .addValue("wordId", wordId)
+                    .addValue("slot", form.slot())
+                    .addValue("plainForm", form.plainForm())
+                    .addValue("romanization", form.romanization()));
+            }
+        }
+        batchInsert(INSERT_WORD_SQL, wordRows);
+        batchInsert(INSERT_RAW_SQL, rawRows);
+        batchInsert(INSERT_GLOSS_SQL, glossRows);
+        batchInsert(INSERT_FORM_SQL, formRows);
+        return formRows.size();
+    }
+
+    private void batchInsert(String sql, List<SqlParameterSource> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, rows.toArray(SqlParameterSource[]::new));
+    }
+
     private boolean isFormOfEntry(JsonNode entry) {
         JsonNode senses = entry.get("senses");
         if (senses == null || !senses.isArray() || senses.isEmpty()) return false;
@@ -202,5 +348,15 @@ public class KaikkiImportService {
         return true;
     }
 
+    private record ParsedForm(String form, String plainForm, long tagMask, String romanization) {}
+
+    private record ChunkResult(int words, int forms, int failed) {}
+
+    private record SlotForm(int slot, String plainForm, String romanization) {}
+
+    private record ParsedWord(String word, String pos, String primaryTranslation, String altMeaningsLiteral,
+                              String ipa, String stem, Integer paradigmId, String rawLine,
+                              List<String> glosses, List<SlotForm> forms) {}
+
     public record ImportResult(int wordCount, int formCount, int skipped, int errors) {}
 }
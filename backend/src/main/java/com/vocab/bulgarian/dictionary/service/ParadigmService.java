@@ -0,0 +1,251 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Factors a word's inflected forms into stem + paradigm template and expands them back.
+ *
+ * A paradigm is an ordered list of slots (plain suffix, stress positions, tag mask) shared
+ * by every word that inflects the same way, so the accented text of each form is never
+ * stored. All paradigms are small and cached in memory; expansion is string concatenation.
+ *
+ * factor() must stay in step with the backfill in V19__factor_dictionary_forms_into_paradigms.sql.
+ */
+@Component
+public class ParadigmService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParadigmService.class);
+
+    private static final char STRESS_MARK = '\u0301';
+
+    private static final Comparator<String> CODE_POINT_ORDER = (a, b) -> {
+        // Matches PostgreSQL COLLATE "C" (UTF-8 byte order == code point order)
+        return Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+    };
+
+    private static final Comparator<Slot> SLOT_ORDER = Comparator.comparingLong(Slot::tagMask)
+        .thenComparing(Slot::suffix, CODE_POINT_ORDER)
+        .thenComparing(Slot::accentOffsets, Arrays::compare);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTx;
+
+    private final Map<Integer, Paradigm> paradigmsById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idsBySignatureHash = new ConcurrentHashMap<>();
+
+    public ParadigmService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTx = new TransactionTemplate(transactionManager);
+        // Like tag registrations, paradigms must outlive a rolled-back import to keep the cache valid
+        this.requiresNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void load() {
+        Map<Integer, List<Slot>> slotsById = new LinkedHashMap<>();
+        Map<Integer, String> hashById = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "SELECT p.id, p.signature_hash, s.suffix, s.accent_offsets, s.tag_mask " +
+            "FROM dictionary_paradigms p JOIN dictionary_paradigm_slots s ON s.paradigm_id = p.id " +
+            "ORDER BY p.id, s.slot",
+            rs -> {
+                int id = rs.getInt("id");
+                hashById.put(id, rs.getString("signature_hash"));
+                Object[] offsets = (Object[]) rs.getArray("accent_offsets").getArray();
+                int[] accentOffsets = Arrays.stream(offsets).mapToInt(o -> ((Number) o).intValue()).toArray();
+                slotsById.computeIfAbsent(id, k -> new ArrayList<>())
+                    .add(new Slot(rs.getString("suffix"), accentOffsets, rs.getLong("tag_mask")));
+            });
+        slotsById.forEach((id, slots) -> {
+            paradigmsById.put(id, new Paradigm(id, List.copyOf(slots)));
+            idsBySignatureHash.put(hashById.get(id), id);
+        });
+        log.info("Loaded {} dictionary paradigms", paradigmsById.size());
+    }
+
+    /**
+     * Expand a word's forms from its stem and paradigm, in slot order.
+     * Words imported without forms have no paradigm and expand to nothing.
+     */
+    public List<ExpandedForm> expand(String stem, Integer paradigmId) {
+        if (stem == null || paradigmId == null) return List.of();
+        Paradigm paradigm = paradigmsById.get(paradigmId);
+        if (paradigm == null) return List.of();
+        List<ExpandedForm> forms = new ArrayList<>(paradigm.slots().size());
+        for (int i = 0; i < paradigm.slots().size(); i++) {
+            Slot slot = paradigm.slots().get(i);
+            forms.add(new ExpandedForm(i, accentedForm(stem, slot), stem + slot.suffix(), slot.tagMask()));
+        }
+        return forms;
+    }
+
+    /**
+     * Expand a single slot of a word; null if the slot does not exist.
+     */
+    public ExpandedForm expandSlot(String stem, Integer paradigmId, int slotIndex) {
+        if (stem == null || paradigmId == null) return null;
+        Paradigm paradigm = paradigmsById.get(paradigmId);
+        if (paradigm == null || slotIndex < 0 || slotIndex >= paradigm.slots().size()) return null;
+        Slot slot = paradigm.slots().get(slotIndex);
+        return new ExpandedForm(slotIndex, accentedForm(stem, slot), stem + slot.suffix(), slot.tagMask());
+    }
+
+    /**
+     * Factor a word's forms into stem + paradigm, creating the paradigm if it is new.
+     * Returns the slot index of each input form (verbatim repeats share a slot).
+     */
+    public synchronized Factored factor(List<FormInput> forms) {
+        if (forms.isEmpty()) return new Factored(null, null, new int[0]);
+
+        String stem = forms.getFirst().plainForm();
+        for (FormInput form : forms) {
+            stem = commonPrefix(stem, form.plainForm());
+        }
+
+        Slot[] formSlots = new Slot[forms.size()];
+        Map<String, Slot> unique = new LinkedHashMap<>();
+        for (int i = 0; i < forms.size(); i++) {
+            FormInput form = forms.get(i);
+            Slot slot = new Slot(form.plainForm().substring(stem.length()),
+                    accentOffsets(form.accentedForm()), form.tagMask());
+            formSlots[i] = unique.computeIfAbsent(slot.signatureKey(), k -> slot);
+        }
+        List<Slot> slots = unique.values().stream().sorted(SLOT_ORDER).toList();
+
+        int[] slotIndexes = new int[forms.size()];
+        for (int i = 0; i < forms.size(); i++) {
+            slotIndexes[i] = slots.indexOf(formSlots[i]);
+        }
+
+        String signatureHash = md5Hex(slots.stream().map(Slot::signatureKey).collect(Collectors.joining(";")));
+        Integer paradigmId = idsBySignatureHash.get(signatureHash);
+        if (paradigmId == null) {
+            paradigmId = create(signatureHash, slots);
+        }
+        return new Factored(stem, paradigmId, slotIndexes);
+    }
+
+    private Integer create(String signatureHash, List<Slot> slots) {
+        Integer id = requiresNewTx.execute(status -> {
+            var keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(
+                "INSERT INTO dictionary_paradigms (signature_hash, slot_count) VALUES (:hash, :slotCount)",
+                new MapSqlParameterSource().addValue("hash", signatureHash).addValue("slotCount", slots.size()),
+                keyHolder, new String[]{"id"});
+            int paradigmId = keyHolder.getKey().intValue();
+            for (int i = 0; i < slots.size(); i++) {
+                Slot slot = slots.get(i);
+                jdbcTemplate.update(
+                    "INSERT INTO dictionary_paradigm_slots (paradigm_id, slot, suffix, accent_offsets, tag_mask) " +
+                    "VALUES (:paradigmId, :slot, :suffix, :accents::SMALLINT[], :tagMask)",
+                    new MapSqlParameterSource()
+                        .addValue("paradigmId", paradigmId)
+                        .addValue("slot", i)
+                        .addValue("suffix", slot.suffix())
+                        .addValue("accents", "{" + joinOffsets(slot.accentOffsets()) + "}")
+                        .addValue("tagMask", slot.tagMask()));
+            }
+            return paradigmId;
+        });
+        paradigmsById.put(id, new Paradigm(id, slots));
+        idsBySignatureHash.put(signatureHash, id);
+        return id;
+    }
+
+    /**
+     * Rebuild the accented form: stem + suffix with U+0301 re-inserted at each stress position.
+     */
+    static String accentedForm(String stem, Slot slot) {
+        StringBuilder form = new StringBuilder(stem).append(slot.suffix());
+        int length = form.length();
+        // Offsets ascending = insert positions descending, so earlier inserts don't shift later ones
+        int[] offsets = slot.accentOffsets().clone();
+        Arrays.sort(offsets);
+        for (int offset : offsets) {
+            form.insert(length - offset, STRESS_MARK);
+        }
+        return Normalizer.normalize(form, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Stress mark positions, each counted as characters after the mark in the unaccented form.
+     */
+    static int[] accentOffsets(String accentedForm) {
+        String decomposed = Normalizer.normalize(accentedForm, Normalizer.Form.NFD);
+        int plainLength = decomposed.length() - (int) decomposed.chars().filter(c -> c == STRESS_MARK).count();
+        List<Integer> offsets = new ArrayList<>();
+        int seen = 0;
+        for (int i = 0; i < decomposed.length(); i++) {
+            if (decomposed.charAt(i) == STRESS_MARK) {
+                offsets.add(plainLength - seen);
+            } else {
+                seen++;
+            }
+        }
+        return offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String commonPrefix(String a, String b) {
+        int n = 0;
+        int max = Math.min(a.length(), b.length());
+        while (n < max && a.charAt(n) == b.charAt(n)) n++;
+        return a.substring(0, n);
+    }
+
+    private static String joinOffsets(int[] offsets) {
+        return Arrays.stream(offsets).mapToObj(Integer::toString).collect(Collectors.joining(","));
+    }
+
+    private static String md5Hex(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // MD5 is always available in JDK
+            throw new IllegalStateException("MD5 algorithm not available", e);
+        }
+    }
+
+    /**
+     * One paradigm slot. accentOffsets count characters after each stress mark.
+     */
+    public record Slot(String suffix, int[] accentOffsets, long tagMask) {
+        String signatureKey() {
+            return suffix + "|" + joinOffsets(accentOffsets) + "|" + tagMask;
+        }
+    }
+
+    public record Paradigm(int id, List<Slot> slots) {}
+
+    public record FormInput(String accentedForm, String plainForm, long tagMask) {}
+
+    /**
+     * Factoring result; slots[i] is the slot index of the i-th input form.
+     */
+    public record Factored(String stem, Integer paradigmId, int[] slots) {}
+
+    public record ExpandedForm(int slot, String accentedForm, String plainForm, long tagMask) {}
+}
@@ -0,0 +1,82 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.dictionary.dto.ReverseLookupResultDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * English -> Bulgarian lookup over the user's lemma translations and every Kaikki gloss.
+ *
+ * Both sides are stemmed tsvector columns with GIN indexes (V21). Lemmas come first, then
+ * dictionary words the user does not have yet. Dictionary hits are ranked by:
+ * exact gloss match, then gloss position (primary translation before alternate meanings),
+ * then ts_rank, then shorter gloss.
+ */
+@Service
+public class ReverseLookupService {
+
+    private static final String LEMMA_SQL = """
+        SELECT id, text, part_of_speech, translation, dictionary_word_id
+        FROM lemmas, plainto_tsquery('english', :q) AS query
+        WHERE translation_tsv @@ query
+        ORDER BY lower(translation) = lower(:q) DESC, ts_rank(translation_tsv, query) DESC, length(translation)
+        LIMIT :limit
+        """;
+
+    // Best-positioned matching gloss per word, then global ranking
+    private static final String DICTIONARY_SQL = """
+        SELECT word_id, word, pos, gloss, position
+        FROM (
+            SELECT DISTINCT ON (g.word_id)
+                   g.word_id, w.word, w.pos, g.gloss, g.position,
+                   lower(g.gloss) = lower(:q) AS exact,
+                   ts_rank(g.gloss_tsv, query) AS rank
+            FROM dictionary_word_glosses g
+            JOIN dictionary_words w ON w.id = g.word_id,
+                 plainto_tsquery('english', :q) AS query
+            WHERE g.gloss_tsv @@ query
+            ORDER BY g.word_id, g.position
+        ) best
+        ORDER BY exact DESC, position, rank DESC, length(gloss), word_id
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReverseLookupService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ReverseLookupResultDTO> lookup(String query, int limit) {
+        String q = query.trim();
+        var params = new MapSqlParameterSource()
+            .addValue("q", q)
+            .addValue("limit", limit);
+
+        List<ReverseLookupResultDTO> results = new ArrayList<>(limit);
+        Set<Long> ownedWordIds = new HashSet<>();
+        jdbcTemplate.query(LEMMA_SQL, params, rs -> {
+            Long dictionaryWordId = rs.getObject("dictionary_word_id", Long.class);
+            if (dictionaryWordId != null) ownedWordIds.add(dictionaryWordId);
+            results.add(new ReverseLookupResultDTO(rs.getString("text"), rs.getString("part_of_speech"),
+                    rs.getString("translation"), 0, dictionaryWordId, rs.getLong("id")));
+        });
+        if (results.size() >= limit) return results;
+
+        // Over-fetch by the number of owned words so filtering them out cannot starve the page
+        params.addValue("limit", limit - results.size() + ownedWordIds.size());
+        jdbcTemplate.query(DICTIONARY_SQL, params, rs -> {
+            long wordId = rs.getLong("word_id");
+            if (results.size() >= limit || ownedWordIds.contains(wordId)) return;
+            results.add(new ReverseLookupResultDTO(rs.getString("word"), rs.getString("pos"),
+                    rs.getString("gloss"), rs.getInt("position"), wordId, null));
+        });
+        return results;
+    }
+}
@@ -0,0 +1,150 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.exception.TagRegistryFullException;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps Kaikki grammatical tags to bit positions in dictionary_paradigm_slots.tag_mask.
+ *
+ * The mapping lives in dictionary_tags and is loaded once; tag tests are then a single
+ * AND against a long. New tags met during import are assigned the next free bit.
+ * At most 64 tags fit. A 65th tag fails the import with TagRegistryFullException rather
+ * than being dropped, since forms differing only by that tag would collapse into one slot.
+ */
+@Component
+public class TagRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TagRegistry.class);
+
+    public static final int MAX_TAGS = Long.SIZE;
+
+    // Kaikki table artifacts, not real inflected forms
+    private static final List<String> META_TAGS = List.of("romanization", "table-tags", "inflection-template");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTx;
+
+    // Copy-on-write: readers never lock, register() publishes a new state
+    private volatile State state = State.EMPTY;
+
+    public TagRegistry(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTx = new TransactionTemplate(transactionManager);
+        // Registrations must survive a rolled-back import, or memory and table would disagree
+        this.requiresNewTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    synchronized void load() {
+        String[] tagByBit = new String[MAX_TAGS];
+        jdbcTemplate.query("SELECT tag, bit FROM dictionary_tags",
+            rs -> { tagByBit[rs.getInt("bit")] = rs.getString("tag"); });
+        state = State.of(tagByBit);
+        log.info("Loaded {} dictionary tags", state.bitByTag().size());
+    }
+
+    /**
+     * Mask for the given tags. Unknown tags contribute nothing.
+     */
+    public long maskOf(Collection<String> tags) {
+        return state.maskOf(tags);
+    }
+
+    /**
+     * Mask for the given tags, assigning bits to any tag not seen before.
+     *
+     * @throws TagRegistryFullException if a new tag does not fit in the 64-bit mask
+     */
+    public synchronized long register(Collection<String> tags) {
+        String[] tagByBit = null;
+        for (String tag : tags) {
+            if (state.bitByTag().containsKey(tag)) continue;
+            if (tagByBit == null) tagByBit = state.tagByBit().clone();
+            if (Arrays.asList(tagByBit).contains(tag)) continue;
+            int bit = Arrays.asList(tagByBit).indexOf(null);
+            if (bit < 0) {
+                // Tags registered earlier in this call are in the table; keep memory in step
+                state = State.of(tagByBit);
+                throw new TagRegistryFullException(tag, MAX_TAGS);
+            }
+            requiresNewTx.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO dictionary_tags (tag, bit) VALUES (:tag, :bit)",
+                new MapSqlParameterSource().addValue("tag", tag).addValue("bit", bit)));
+            tagByBit[bit] = tag;
+            log.info("Registered dictionary tag '{}' as bit {}", tag, bit);
+        }
+        if (tagByBit != null) {
+            state = State.of(tagByBit);
+        }
+        return state.maskOf(tags);
+    }
+
+    /**
+     * Tag names set in the mask, in bit order.
+     */
+    public List<String> tagsOf(long mask) {
+        String[] tagByBit = state.tagByBit();
+        List<String> tags = new ArrayList<>(Long.bitCount(mask));
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            String tag = tagByBit[Long.numberOfTrailingZeros(rest)];
+            if (tag != null) tags.add(tag);
+        }
+        return tags;
+    }
+
+    /**
+     * Tag names indexed by bit; unused bits are null.
+     */
+    public String[] tagNames() {
+        return state.tagByBit().clone();
+    }
+
+    public boolean isMeta(long mask) {
+        return (mask & state.metaMask()) != 0;
+    }
+
+    public static boolean hasAll(long mask, long required) {
+        return (mask & required) == required;
+    }
+
+    private record State(Map<String, Integer> bitByTag, String[] tagByBit, long metaMask) {
+        static final State EMPTY = of(new String[MAX_TAGS]);
+
+        static State of(String[] tagByBit) {
+            Map<String, Integer> bitByTag = new HashMap<>();
+            for (int bit = 0; bit < tagByBit.length; bit++) {
+                if (tagByBit[bit] != null) bitByTag.put(tagByBit[bit], bit);
+            }
+            long metaMask = 0;
+            for (String tag : META_TAGS) {
+                Integer bit = bitByTag.get(tag);
+                if (bit != null) metaMask |= 1L << bit;
+            }
+            return new State(Map.copyOf(bitByTag), tagByBit, metaMask);
+        }
+
+        long maskOf(Collection<String> tags) {
+            long mask = 0;
+            for (String tag : tags) {
+                Integer bit = bitByTag.get(tag);
+                if (bit != null) mask |= 1L << bit;
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.dictionary.dto.AnalyzedTokenDTO;
+import com.vocab.bulgarian.dictionary.dto.TextAnalysisDTO;
+import com.vocab.bulgarian.dictionary.snapshot.DictionarySnapshot;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Triage of free Bulgarian text: tokenize, lemmatize every token against the dictionary
+ * snapshot and mark it KNOWN (already a Lemma), DICTIONARY_ONLY or UNKNOWN.
+ *
+ * Work is per distinct token, not per occurrence. Lemmatization is a binary search over
+ * the memory-mapped form table; the user's lemmas are then resolved with three set-based
+ * queries for the whole text, so the cost does not grow with the number of database round
+ * trips and no LLM is involved.
+ */
+@Service
+public class TextAnalysisService {
+
+    // Cyrillic words, optionally carrying stress marks, with internal hyphens (по-добре)
+    private static final Pattern TOKEN = Pattern.compile(
+        "[\\p{IsCyrillic}\\u0300\\u0301]+(?:-[\\p{IsCyrillic}\\u0300\\u0301]+)*");
+
+    private static final String LEMMAS_BY_DICTIONARY_WORD_SQL =
+        "SELECT id, text, dictionary_word_id FROM lemmas WHERE dictionary_word_id = ANY(:wordIds) ORDER BY id";
+
+    private static final String LEMMAS_BY_TEXT_SQL =
+        "SELECT id, text, lower(text) AS match_key FROM lemmas WHERE lower(text) = ANY(:keys) ORDER BY id";
+
+    private static final String LEMMAS_BY_INFLECTION_SQL = """
+        SELECT l.id, l.text, lower(i.form) AS match_key
+        FROM inflections i JOIN lemmas l ON l.id = i.lemma_id
+        WHERE lower(i.form) = ANY(:keys)
+        ORDER BY l.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DictionarySnapshotService snapshotService;
+
+    public TextAnalysisService(NamedParameterJdbcTemplate jdbcTemplate,
+                               DictionarySnapshotService snapshotService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotService = snapshotService;
+    }
+
+    public TextAnalysisDTO analyze(String text) {
+        DictionarySnapshot snapshot = snapshotService.current();
+
+        // 1. Tokenize, grouping occurrences by their normalized key
+        List<Token> tokens = new ArrayList<>();
+        Map<String, Resolution> byKey = new LinkedHashMap<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String key = DictionarySnapshotService.normalizeKey(matcher.group());
+            tokens.add(new Token(matcher.group(), matcher.start(), matcher.end(), key));
+            byKey.computeIfAbsent(key, k -> new Resolution());
+        }
+        if (tokens.isEmpty()) {
+            return new TextAnalysisDTO(0, 0, 0, 0, 0, List.of());
+        }
+
+        // 2. Lemmatize each distinct key against the snapshot form table
+        Map<Long, List<Resolution>> resolutionsByWordId = new HashMap<>();
+        Map<Long, Integer> wordIndexById = new HashMap<>();
+        for (Map.Entry<String, Resolution> entry : byKey.entrySet()) {
+            Resolution resolution = entry.getValue();
+            byte[] keyBytes = DictionarySnapshot.encodeKey(entry.getKey());
+            for (int i = snapshot.lowerBound(keyBytes); i < snapshot.formCount() && snapshot.formKeyEquals(i, keyBytes); i++) {
+                int w = snapshot.formWordIndex(i);
+                // Headword matches beat inflected-form matches, then the more frequent homograph wins
+                boolean headword = snapshot.isHeadword(i);
+                if (resolution.wordIndex < 0
+                        || (headword && !resolution.headword)
+                        || (headword == resolution.headword
+                            && snapshot.frequencyRank(w) < snapshot.frequencyRank(resolution.wordIndex))) {
+                    resolution.wordIndex = w;
+                    resolution.headword = headword;
+                }
+                wordIndexById.put(snapshot.wordId(w), w);
+                List<Resolution> sharing = resolutionsByWordId.computeIfAbsent(snapshot.wordId(w), id -> new ArrayList<>());
+                if (sharing.isEmpty() || sharing.getLast() != resolution) {
+                    sharing.add(resolution);
+                }
+            }
+        }
+
+        // 3. Resolve existing lemmas in bulk: by linked dictionary word, then headword, then inflection
+        if (!resolutionsByWordId.isEmpty()) {
+            jdbcTemplate.query(LEMMAS_BY_DICTIONARY_WORD_SQL,
+                new MapSqlParameterSource("wordIds", resolutionsByWordId.keySet().toArray(Long[]::new)),
+                rs -> {
+                    long wordId = rs.getLong("dictionary_word_id");
+                    for (Resolution r : resolutionsByWordId.getOrDefault(wordId, List.of())) {
+                        if (r.lemmaId == null) {
+                            r.lemmaId = rs.getLong("id");
+                            r.lemmaText = rs.getString("text");
+                            // Report the dictionary entry the lemma is linked to
+                            r.wordIndex = wordIndexById.get(wordId);
+                        }
+                    }
+                });
+        }
+
+        // Lemma text in Postgres is NFC; snapshot keys are decomposed
+        Map<String, Resolution> unresolvedBySqlKey = new HashMap<>();
+        byKey.forEach((key, r) -> {
+            if (r.lemmaId == null) unresolvedBySqlKey.put(Normalizer.normalize(key, Normalizer.Form.NFC), r);
+        });
+        for (String sql : List.of(LEMMAS_BY_TEXT_SQL, LEMMAS_BY_INFLECTION_SQL)) {
+            if (unresolvedBySqlKey.isEmpty()) break;
+            jdbcTemplate.query(sql,
+                new MapSqlParameterSource("keys", unresolvedBySqlKey.keySet().toArray(String[]::new)),
+                rs -> {
+                    Resolution r = unresolvedBySqlKey.get(rs.getString("match_key"));
+                    if (r != null && r.lemmaId == null) {
+                        r.lemmaId = rs.getLong("id");
+                        r.lemmaText = rs.getString("text");
+                    }
+                });
+            unresolvedBySqlKey.values().removeIf(r -> r.lemmaId != null);
+        }
+
+        // 4. Emit tokens in text order
+        List<AnalyzedTokenDTO> result = new ArrayList<>(tokens.size());
+        int known = 0;
+        int dictionaryOnly = 0;
+        for (Token token : tokens) {
+            Resolution r = byKey.get(token.key());
+            AnalyzedTokenDTO.Status status;
+            if (r.lemmaId != null) {
+                status = AnalyzedTokenDTO.Status.KNOWN;
+                known++;
+            } else if (r.wordIndex >= 0) {
+                status = AnalyzedTokenDTO.Status.DICTIONARY_ONLY;
+                dictionaryOnly++;
+            } else {
+                status = AnalyzedTokenDTO.Status.UNKNOWN;
+            }
+            result.add(toDto(snapshot, token, r, status));
+        }
+
+        return new TextAnalysisDTO(tokens.size(), byKey.size(), known, dictionaryOnly,
+                tokens.size() - known - dictionaryOnly, result);
+    }
+
+    private static AnalyzedTokenDTO toDto(DictionarySnapshot snapshot, Token token, Resolution r,
+                                          AnalyzedTokenDTO.Status status) {
+        int w = r.wordIndex;
+        if (w < 0) {
+            return new AnalyzedTokenDTO(token.text(), token.start(), token.end(), status,
+                r.lemmaId, r.lemmaText, null, null, null, null);
+        }
+        return new AnalyzedTokenDTO(token.text(), token.start(), token.end(), status,
+            r.lemmaId, r.lemmaText, snapshot.wordId(w), snapshot.word(w), snapshot.pos(w), snapshot.translation(w));
+    }
+
+    private record Token(String text, int start, int end, String key) {}
+
+    // Mutable per-key state; one instance is shared by every occurrence of the key
+    private static final class Resolution {
+        int wordIndex = -1;
+        boolean headword;
+        Long lemmaId;
+        String lemmaText;
+    }
+}
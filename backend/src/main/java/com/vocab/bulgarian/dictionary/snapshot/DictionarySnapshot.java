@@ -0,0 +1,241 @@
+package com.vocab.bulgarian.dictionary.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view over a binary dictionary snapshot written by {@link DictionarySnapshotWriter}.
+ *
+ * The file is memory-mapped and every accessor reads it with absolute gets, so opening a
+ * snapshot costs one mmap call and the dictionary never lives on the Java heap. Strings are
+ * decoded only when a caller asks for them. Instances are immutable and safe to share.
+ *
+ * Layout (big-endian, all offsets absolute):
+ * <pre>
+ *   header      MAGIC, VERSION, wordCount, formCount, tagCount,
+ *               wordTable, formTable, tagTable, stringPool, sourceMaxWordId (long)
+ *   wordTable   wordCount x (id long, word, pos, translation, headwordKey, frequencyRank int)
+ *               each string = (offset, length)
+ *   formTable   formCount x (key, wordIndex int, tagMask long)               sorted by key UTF-8 bytes, then wordIndex
+ *   tagTable    tagCount x (tag), indexed by bit position in tagMask (see TagRegistry)
+ *   stringPool  deduplicated UTF-8 strings; equal strings share one offset
+ * </pre>
+ * String offsets are relative to the pool; a length of -1 means null.
+ *
+ * Version history: 1 stored tag sets as string lists; 2 stores the TagRegistry bitmask;
+ * 3 adds the word frequency rank.
+ */
+public final class DictionarySnapshot {
+
+    static final int MAGIC = 0x42474443; // "BGDC"
+    public static final int VERSION = 3;
+
+    /** frequencyRank of a word missing from the frequency list; sorts after every real rank. */
+    public static final int UNRANKED = Integer.MAX_VALUE;
+
+    static final int HEADER_SIZE = 9 * Integer.BYTES + Long.BYTES;
+    static final int WORD_RECORD_SIZE = Long.BYTES + 9 * Integer.BYTES;
+    static final int FORM_RECORD_SIZE = 3 * Integer.BYTES + Long.BYTES;
+    static final int TAG_RECORD_SIZE = 2 * Integer.BYTES;
+
+    public static final DictionarySnapshot EMPTY = new DictionarySnapshot(DictionarySnapshotWriter.emptyImage());
+
+    private final ByteBuffer buffer;
+    private final int wordCount;
+    private final int formCount;
+    private final int tagCount;
+    private final int wordTable;
+    private final int formTable;
+    private final int tagTable;
+    private final int stringPool;
+    private final long sourceMaxWordId;
+
+    private DictionarySnapshot(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a dictionary snapshot");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version + ", expected " + VERSION);
+        }
+        this.buffer = buffer;
+        this.wordCount = buffer.getInt(8);
+        this.formCount = buffer.getInt(12);
+        this.tagCount = buffer.getInt(16);
+        this.wordTable = buffer.getInt(20);
+        this.formTable = buffer.getInt(24);
+        this.tagTable = buffer.getInt(28);
+        this.stringPool = buffer.getInt(32);
+        this.sourceMaxWordId = buffer.getLong(36);
+    }
+
+    /**
+     * Memory-map a snapshot file. The mapping stays valid after the channel is closed.
+     *
+     * @throws IllegalArgumentException if the file is not a snapshot of the current version
+     */
+    public static DictionarySnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new DictionarySnapshot(mapped);
+        }
+    }
+
+    static DictionarySnapshot wrap(ByteBuffer buffer) {
+        return new DictionarySnapshot(buffer);
+    }
+
+    public int wordCount() { return wordCount; }
+    public int formCount() { return formCount; }
+    public int tagCount() { return tagCount; }
+
+    /**
+     * Highest dictionary_words.id at the time the snapshot was written; used with
+     * wordCount to detect a snapshot that no longer matches the database.
+     */
+    public long sourceMaxWordId() { return sourceMaxWordId; }
+
+    // --- word table ---
+
+    public long wordId(int wordIndex) {
+        return buffer.getLong(wordRecord(wordIndex));
+    }
+
+    public String word(int wordIndex) {
+        return string(wordRecord(wordIndex) + Long.BYTES);
+    }
+
+    public String pos(int wordIndex) {
+        return string(wordRecord(wordIndex) + Long.BYTES + 2 * Integer.BYTES);
+    }
+
+    public String translation(int wordIndex) {
+        return string(wordRecord(wordIndex) + Long.BYTES + 4 * Integer.BYTES);
+    }
+
+    public String headwordKey(int wordIndex) {
+        return string(wordRecord(wordIndex) + Long.BYTES + 6 * Integer.BYTES);
+    }
+
+    /**
+     * Corpus frequency rank (1 = most frequent), or {@link #UNRANKED}.
+     */
+    public int frequencyRank(int wordIndex) {
+        return buffer.getInt(wordRecord(wordIndex) + Long.BYTES + 8 * Integer.BYTES);
+    }
+
+    // --- form table ---
+
+    public String formKey(int formIndex) {
+        return string(formRecord(formIndex));
+    }
+
+    /**
+     * Length of the form key in UTF-8 bytes, readable without decoding.
+     */
+    public int formKeyLength(int formIndex) {
+        return buffer.getInt(formRecord(formIndex) + Integer.BYTES);
+    }
+
+    public int formWordIndex(int formIndex) {
+        return buffer.getInt(formRecord(formIndex) + 2 * Integer.BYTES);
+    }
+
+    /**
+     * True if this form entry is the headword of its dictionary word.
+     * The pool is deduplicated, so this is an offset comparison.
+     */
+    public boolean isHeadword(int formIndex) {
+        int wordRecord = wordRecord(formWordIndex(formIndex));
+        return buffer.getInt(formRecord(formIndex)) == buffer.getInt(wordRecord + Long.BYTES + 6 * Integer.BYTES);
+    }
+
+    /**
+     * Tag bitmask of a form; test with TagRegistry.hasAll without decoding anything.
+     */
+    public long formTagMask(int formIndex) {
+        return buffer.getLong(formRecord(formIndex) + 3 * Integer.BYTES);
+    }
+
+    public List<String> formTags(int formIndex) {
+        long mask = formTagMask(formIndex);
+        List<String> tags = new ArrayList<>(Long.bitCount(mask));
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int bit = Long.numberOfTrailingZeros(rest);
+            if (bit < tagCount) {
+                String tag = string(tagTable + bit * TAG_RECORD_SIZE);
+                if (tag != null) tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Index of the first form whose key is >= the given UTF-8 key (binary search, unsigned byte order).
+     */
+    public int lowerBound(byte[] key) {
+        int lo = 0;
+        int hi = formCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareFormKey(mid, key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public boolean formKeyStartsWith(int formIndex, byte[] prefix) {
+        int record = formRecord(formIndex);
+        int length = buffer.getInt(record + Integer.BYTES);
+        if (length < prefix.length) return false;
+        int offset = stringPool + buffer.getInt(record);
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    public boolean formKeyEquals(int formIndex, byte[] key) {
+        return formKeyLength(formIndex) == key.length && formKeyStartsWith(formIndex, key);
+    }
+
+    public static byte[] encodeKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int compareFormKey(int formIndex, byte[] key) {
+        int record = formRecord(formIndex);
+        int offset = stringPool + buffer.getInt(record);
+        int length = buffer.getInt(record + Integer.BYTES);
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0) return cmp;
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private int wordRecord(int wordIndex) {
+        return wordTable + wordIndex * WORD_RECORD_SIZE;
+    }
+
+    private int formRecord(int formIndex) {
+        return formTable + formIndex * FORM_RECORD_SIZE;
+    }
+
+    private String string(int refPosition) {
+        int offset = buffer.getInt(refPosition);
+        int length = buffer.getInt(refPosition + Integer.BYTES);
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        buffer.get(stringPool + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,168 @@
+package com.vocab.bulgarian.dictionary.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link DictionarySnapshot} file. Words are added first, then forms referencing them
+ * by word index; {@link #write(Path)} sorts the form table and writes the file atomically
+ * (temp file + rename) so readers never map a half-written snapshot.
+ *
+ * Only used at import time and when no valid snapshot exists, so building in memory is fine.
+ */
+public class DictionarySnapshotWriter {
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final Map<String, int[]> poolRefs = new HashMap<>();
+
+    private final List<WordRecord> words = new ArrayList<>();
+    private final List<FormRecord> forms = new ArrayList<>();
+
+    private final List<int[]> tagRefs = new ArrayList<>();
+
+    private long sourceMaxWordId;
+
+    /**
+     * Record the tag names by bit position so readers can decode form tag masks.
+     */
+    public void setTagNames(String[] tagByBit) {
+        tagRefs.clear();
+        for (String tag : tagByBit) {
+            tagRefs.add(intern(tag));
+        }
+    }
+
+    /**
+     * Add a word and return its index for use in {@link #addForm}.
+     *
+     * @param frequencyRank corpus rank, or {@link DictionarySnapshot#UNRANKED}
+     */
+    public int addWord(long id, String word, String pos, String translation, String headwordKey, int frequencyRank) {
+        words.add(new WordRecord(id, intern(word), intern(pos), intern(translation), intern(headwordKey), frequencyRank));
+        sourceMaxWordId = Math.max(sourceMaxWordId, id);
+        return words.size() - 1;
+    }
+
+    public void addForm(String key, int wordIndex, long tagMask) {
+        forms.add(new FormRecord(key.getBytes(StandardCharsets.UTF_8), intern(key), wordIndex, tagMask));
+    }
+
+    public int wordCount() {
+        return words.size();
+    }
+
+    /**
+     * Write the snapshot to {@code target}, replacing any existing file atomically.
+     */
+    public void write(Path target) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+                writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static ByteBuffer emptyImage() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            new DictionarySnapshotWriter().writeTo(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private void writeTo(OutputStream target) throws IOException {
+        forms.sort((a, b) -> {
+            int cmp = Arrays.compareUnsigned(a.key(), b.key());
+            if (cmp != 0) return cmp;
+            cmp = Integer.compare(a.wordIndex(), b.wordIndex());
+            return cmp != 0 ? cmp : Long.compare(a.tagMask(), b.tagMask());
+        });
+        // Kaikki repeats some forms verbatim; keep one entry per (key, word, tag mask)
+        List<FormRecord> unique = new ArrayList<>(forms.size());
+        for (FormRecord form : forms) {
+            if (unique.isEmpty() || !unique.getLast().sameEntry(form)) unique.add(form);
+        }
+
+        int wordTable = DictionarySnapshot.HEADER_SIZE;
+        int formTable = wordTable + words.size() * DictionarySnapshot.WORD_RECORD_SIZE;
+        int tagTable = formTable + unique.size() * DictionarySnapshot.FORM_RECORD_SIZE;
+        int stringPool = tagTable + tagRefs.size() * DictionarySnapshot.TAG_RECORD_SIZE;
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(DictionarySnapshot.MAGIC);
+        out.writeInt(DictionarySnapshot.VERSION);
+        out.writeInt(words.size());
+        out.writeInt(unique.size());
+        out.writeInt(tagRefs.size());
+        out.writeInt(wordTable);
+        out.writeInt(formTable);
+        out.writeInt(tagTable);
+        out.writeInt(stringPool);
+        out.writeLong(sourceMaxWordId);
+
+        for (WordRecord word : words) {
+            out.writeLong(word.id());
+            writeRef(out, word.word());
+            writeRef(out, word.pos());
+            writeRef(out, word.translation());
+            writeRef(out, word.headwordKey());
+            out.writeInt(word.frequencyRank());
+        }
+        for (FormRecord form : unique) {
+            writeRef(out, form.keyRef());
+            out.writeInt(form.wordIndex());
+            out.writeLong(form.tagMask());
+        }
+        for (int[] ref : tagRefs) {
+            writeRef(out, ref);
+        }
+        pool.writeTo(out);
+        out.flush();
+    }
+
+    private int[] intern(String value) {
+        if (value == null) return new int[]{0, -1};
+        return poolRefs.computeIfAbsent(value, v -> {
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            int offset = pool.size();
+            pool.writeBytes(bytes);
+            return new int[]{offset, bytes.length};
+        });
+    }
+
+    // String reference = (pool offset, UTF-8 length), length -1 for null
+    private static void writeRef(DataOutputStream out, int[] ref) throws IOException {
+        out.writeInt(ref[0]);
+        out.writeInt(ref[1]);
+    }
+
+    private record WordRecord(long id, int[] word, int[] pos, int[] translation, int[] headwordKey, int frequencyRank) {}
+
+    private record FormRecord(byte[] key, int[] keyRef, int wordIndex, long tagMask) {
+        boolean sameEntry(FormRecord other) {
+            return wordIndex == other.wordIndex && tagMask == other.tagMask && keyRef[0] == other.keyRef[0];
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.vocab.bulgarian.dictionary.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Latin to Cyrillic transliteration and accent folding for Bulgarian search input.
+ * Input is assumed to follow the official Streamlined System (ж=zh, ц=ts, щ=sht, ъ=a, ю=yu, я=ya),
+ * which is what people type on a Latin keyboard. Kaikki romanizations use the scientific
+ * system instead (ž, c, št, ǎ, ju, ja), so Latin input is also mapped onto that for matching
+ * against the romanization column.
+ */
+public final class BulgarianTransliterator {
+
+    // Longest digraphs first so "sht" wins over "sh" and "s"
+    private static final String[][] DIGRAPHS = {
+        {"sht", "щ"}, {"zh", "ж"}, {"ts", "ц"}, {"ch", "ч"}, {"sh", "ш"}, {"yu", "ю"}, {"ya", "я"}
+    };
+
+    // Streamlined spelling -> folded scientific spelling (kǎšta folds to kasta)
+    private static final String[][] SCIENTIFIC = {
+        {"sht", "st"}, {"zh", "z"}, {"ts", "c"}, {"ch", "c"}, {"sh", "s"}, {"yu", "ju"}, {"ya", "ja"},
+        {"h", "x"}, {"y", "j"}
+    };
+
+    private BulgarianTransliterator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * True if the text contains any basic Latin letter.
+     */
+    public static boolean containsLatin(String text) {
+        if (text == null) return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Transliterate Latin input to lowercase Cyrillic. Non-Latin characters pass through unchanged,
+     * so "zhena" and mixed input like "жena" both become "жена". The Streamlined System writes
+     * ъ as "a", so "kashta" yields "кашта"; the romanization key covers that case.
+     */
+    public static String toCyrillic(String text) {
+        if (text == null) return null;
+        return rewrite(fold(text), DIGRAPHS, BulgarianTransliterator::single);
+    }
+
+    /**
+     * Map Latin input onto the folded scientific romanization stored in
+     * dictionary_forms.folded_romanization, e.g. "kashta" to "kasta" (kǎšta).
+     */
+    public static String toRomanizationKey(String text) {
+        if (text == null) return null;
+        return rewrite(fold(text), SCIENTIFIC, String::valueOf);
+    }
+
+    /**
+     * Lowercase, decompose and drop every combining mark (stress, breve, caron).
+     * Folds й to и, ѝ to и and š to s. Must stay identical to the bg_fold() SQL function
+     * that backs the folded_form and folded_romanization columns.
+     */
+    public static String fold(String text) {
+        if (text == null) return null;
+        String decomposed = Normalizer.normalize(text.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return decomposed.replaceAll("[\\u0300-\\u036f]", "");
+    }
+
+    /**
+     * Apply the table left to right, trying entries in order at each position
+     * (tables list longer keys first); unmatched characters go through the fallback.
+     */
+    private static String rewrite(String text, String[][] table, Function<Character, String> fallback) {
+        StringBuilder out = new StringBuilder(text.length());
+        int i = 0;
+        outer:
+        while (i < text.length()) {
+            for (String[] mapping : table) {
+                if (text.startsWith(mapping[0], i)) {
+                    out.append(mapping[1]);
+                    i += mapping[0].length();
+                    continue outer;
+                }
+            }
+            out.append(fallback.apply(text.charAt(i)));
+            i++;
+        }
+        return out.toString();
+    }
+
+    private static String single(char c) {
+        return switch (c) {
+            case 'a' -> "а";
+            case 'b' -> "б";
+            case 'v', 'w' -> "в";
+            case 'g' -> "г";
+            case 'd' -> "д";
+            case 'e' -> "е";
+            case 'z' -> "з";
+            case 'i' -> "и";
+            case 'y', 'j' -> "й";
+            case 'k' -> "к";
+            case 'l' -> "л";
+            case 'm' -> "м";
+            case 'n' -> "н";
+            case 'o' -> "о";
+            case 'p' -> "п";
+            case 'r' -> "р";
+            case 's' -> "с";
+            case 't' -> "т";
+            case 'u' -> "у";
+            case 'f' -> "ф";
+            case 'h' -> "х";
+            case 'c' -> "ц";
+            case 'q' -> "я";
+            case 'x' -> "кс";
+            default -> String.valueOf(c);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.vocab.bulgarian.domain;
+
+/**
+ * Hibernate second-level cache region names. Each region is created up front with its own
+ * size limit (SecondLevelCacheConfig); Hibernate is set to fail on any region not listed here.
+ */
+public final class CacheRegions {
+
+    public static final String LEMMA = "vocab.lemma";
+    public static final String INFLECTION = "vocab.inflection";
+    public static final String EXAMPLE_SENTENCE = "vocab.example-sentence";
+    public static final String LEMMA_INFLECTIONS = "vocab.lemma.inflections";
+    public static final String LEMMA_EXAMPLE_SENTENCES = "vocab.lemma.example-sentences";
+
+    /** Cached JPQL results (vocabulary counts); invalidated per table by Hibernate's timestamps region. */
+    public static final String LEMMA_QUERIES = "vocab.query.lemma";
+
+    // Hibernate's own regions, used when the query cache is on
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
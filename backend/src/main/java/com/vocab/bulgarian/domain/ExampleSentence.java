@@ -2,6 +2,8 @@ package com.vocab.bulgarian.domain;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -12,6 +14,8 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "example_sentences")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EXAMPLE_SENTENCE)
 public class ExampleSentence {
 
     @Id
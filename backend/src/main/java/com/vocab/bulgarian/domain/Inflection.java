@@ -3,6 +3,8 @@ package com.vocab.bulgarian.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -13,6 +15,8 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "inflections")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INFLECTION)
 public class Inflection {
 
     @Id
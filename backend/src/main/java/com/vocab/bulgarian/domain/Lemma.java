@@ -9,6 +9,8 @@ import com.vocab.bulgarian.domain.enums.Source;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,9 +20,12 @@ import java.util.Objects;
 /**
  * Lemma entity representing a dictionary headword in Bulgarian.
  * Maps to the 'lemmas' table with bidirectional relationship to inflections.
+ * Cached in the second-level cache together with both child collections.
  */
 @Entity
 @Table(name = "lemmas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEMMA)
 public class Lemma {
 
     @Id
@@ -80,6 +85,7 @@ public class Lemma {
         cascade = CascadeType.ALL,
         orphanRemoval = true
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEMMA_INFLECTIONS)
     private List<Inflection> inflections = new ArrayList<>();
 
     @OneToMany(
@@ -89,6 +95,7 @@ public class Lemma {
         orphanRemoval = true
     )
     @OrderBy("sortOrder ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEMMA_EXAMPLE_SENTENCES)
     private List<ExampleSentence> exampleSentences = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
@@ -98,6 +105,11 @@ public class Lemma {
     @Column(name = "dictionary_word_id")
     private Long dictionaryWordId;
 
+    // Incremented on every update, including inflection and sentence changes; the detail ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Lifecycle callbacks
     @PrePersist
     protected void onCreate() {
@@ -160,6 +172,10 @@ public class Lemma {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getText() {
         return text;
     }
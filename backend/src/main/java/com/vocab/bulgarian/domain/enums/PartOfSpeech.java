@@ -3,17 +3,40 @@ package com.vocab.bulgarian.domain.enums;
 /**
  * Bulgarian grammatical parts of speech.
  * Includes INTERROGATIVE for question words and PARTICLE for Bulgarian particles.
+ * Each constant knows its Kaikki "pos" code; INTERROGATIVE has none (Kaikki files them as pronouns).
  */
 public enum PartOfSpeech {
-    NOUN,
-    VERB,
-    ADJECTIVE,
-    ADVERB,
-    PRONOUN,
-    PREPOSITION,
-    CONJUNCTION,
-    NUMERAL,
-    INTERJECTION,
-    PARTICLE,
-    INTERROGATIVE
+    NOUN("noun"),
+    VERB("verb"),
+    ADJECTIVE("adj"),
+    ADVERB("adv"),
+    PRONOUN("pron"),
+    PREPOSITION("prep"),
+    CONJUNCTION("conj"),
+    NUMERAL("num"),
+    INTERJECTION("intj"),
+    PARTICLE("particle"),
+    INTERROGATIVE(null);
+
+    private final String kaikkiPos;
+
+    PartOfSpeech(String kaikkiPos) {
+        this.kaikkiPos = kaikkiPos;
+    }
+
+    public String getKaikkiPos() {
+        return kaikkiPos;
+    }
+
+    /**
+     * Map a Kaikki POS string to a part of speech, or null if there is no equivalent.
+     */
+    public static PartOfSpeech fromKaikki(String kaikkiPos) {
+        if (kaikkiPos == null) return null;
+        String code = kaikkiPos.toLowerCase();
+        for (PartOfSpeech pos : values()) {
+            if (code.equals(pos.kaikkiPos)) return pos;
+        }
+        return null;
+    }
 }
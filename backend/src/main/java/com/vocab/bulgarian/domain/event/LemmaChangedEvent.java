@@ -0,0 +1,27 @@
+package com.vocab.bulgarian.domain.event;
+
+/**
+ * Application event published whenever a lemma is created, edited or deleted.
+ * In-memory indexes listen with @TransactionalEventListener so they only ever
+ * see committed state.
+ */
+public record LemmaChangedEvent(Long lemmaId, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static LemmaChangedEvent created(Long lemmaId) {
+        return new LemmaChangedEvent(lemmaId, ChangeType.CREATED);
+    }
+
+    public static LemmaChangedEvent updated(Long lemmaId) {
+        return new LemmaChangedEvent(lemmaId, ChangeType.UPDATED);
+    }
+
+    public static LemmaChangedEvent deleted(Long lemmaId) {
+        return new LemmaChangedEvent(lemmaId, ChangeType.DELETED);
+    }
+}
@@ -0,0 +1,24 @@
+package com.vocab.bulgarian.domain.event;
+
+import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.enums.SentenceStatus;
+
+/**
+ * Application event published whenever background work moves a lemma's processingStatus
+ * or sentenceStatus. Carries both so a listener never has to read the lemma back.
+ * Listeners use @TransactionalEventListener and only see committed transitions.
+ *
+ * @param deleted the lemma no longer exists (folded into an existing entry during
+ *                processing); both statuses are null
+ */
+public record LemmaStatusChangedEvent(Long lemmaId, ProcessingStatus processingStatus, SentenceStatus sentenceStatus,
+                                      boolean deleted) {
+
+    public LemmaStatusChangedEvent(Long lemmaId, ProcessingStatus processingStatus, SentenceStatus sentenceStatus) {
+        this(lemmaId, processingStatus, sentenceStatus, false);
+    }
+
+    public static LemmaStatusChangedEvent deleted(Long lemmaId) {
+        return new LemmaStatusChangedEvent(lemmaId, null, null, true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.vocab.bulgarian.events.config;
+
+import com.vocab.bulgarian.events.service.LemmaStatusRelay;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Redis pub/sub wiring for lemma status events.
+ * Every instance subscribes to the same channel, so an event published by whichever
+ * instance ran the background job reaches SSE clients connected to any of them.
+ * Scheduling is enabled for the SSE heartbeat.
+ */
+@Configuration
+@EnableScheduling
+public class StatusEventsConfig {
+
+    @Bean
+    public RedisMessageListenerContainer statusEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      LemmaStatusRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(LemmaStatusRelay.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,32 @@
+package com.vocab.bulgarian.events.controller;
+
+import com.vocab.bulgarian.events.service.LemmaStatusBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event stream of lemma processing and sentence status changes.
+ */
+@RestController
+@RequestMapping("/api/vocabulary")
+public class StatusEventsController {
+
+    private final LemmaStatusBroadcaster broadcaster;
+
+    public StatusEventsController(LemmaStatusBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * GET /api/vocabulary/status-events
+     * Emits a "lemma-status" event ({lemmaId, processingStatus, sentenceStatus}) whenever
+     * background processing or sentence generation commits a status change.
+     */
+    @GetMapping(value = "/status-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter statusEvents() {
+        return broadcaster.subscribe();
+    }
+}
@@ -0,0 +1,18 @@
+package com.vocab.bulgarian.events.dto;
+
+import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.enums.SentenceStatus;
+
+/**
+ * Payload of a "lemma-status" server-sent event, and of the Redis message that fans it
+ * out to every instance.
+ *
+ * @param deleted the lemma is gone and clients should drop it; both statuses are null
+ */
+public record LemmaStatusEventDTO(
+    Long lemmaId,
+    ProcessingStatus processingStatus,
+    SentenceStatus sentenceStatus,
+    boolean deleted
+) {
+}
@@ -0,0 +1,80 @@
+package com.vocab.bulgarian.events.service;
+
+import com.vocab.bulgarian.events.dto.LemmaStatusEventDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the SSE connections open on this instance and pushes lemma status events to them.
+ *
+ * Emitters time out after EMITTER_TIMEOUT; EventSource reconnects on its own. A comment
+ * line is sent every HEARTBEAT_MS so idle proxies keep the connection open and clients
+ * that went away without closing are noticed and dropped.
+ */
+@Service
+public class LemmaStatusBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaStatusBroadcaster.class);
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final long HEARTBEAT_MS = 25_000;
+    static final String EVENT_NAME = "lemma-status";
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    public LemmaStatusBroadcaster(MeterRegistry meterRegistry) {
+        Gauge.builder("vocab.events.subscribers", emitters, Set::size)
+            .description("Open lemma status SSE connections on this instance")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Register a new client connection.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        // Flush the headers now so the client's onopen fires without waiting for the first event
+        send(emitter, SseEmitter.event().comment("connected").reconnectTime(5_000));
+        return emitter;
+    }
+
+    public void broadcast(LemmaStatusEventDTO event) {
+        if (emitters.isEmpty()) return;
+        // A builder is single-use (build() appends the terminator), so make one per emitter
+        emitters.forEach(emitter -> send(emitter, SseEmitter.event()
+            .name(EVENT_NAME)
+            .data(event, MediaType.APPLICATION_JSON)));
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_MS)
+    void heartbeat() {
+        if (emitters.isEmpty()) return;
+        emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("keepalive")));
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected (or emitter already completed); completing fires onCompletion cleanup
+            log.debug("Dropping SSE subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
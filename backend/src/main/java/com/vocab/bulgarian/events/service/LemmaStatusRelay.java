@@ -0,0 +1,67 @@
+package com.vocab.bulgarian.events.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.bulgarian.domain.event.LemmaStatusChangedEvent;
+import com.vocab.bulgarian.events.dto.LemmaStatusEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+
+/**
+ * Bridges committed LemmaStatusChangedEvents to SSE clients on every instance.
+ *
+ * After commit, the event is published to a Redis channel; each instance (including this
+ * one) receives it from its subscription and hands it to the local broadcaster. Delivering
+ * the origin's own clients through Redis too keeps one path and avoids duplicates. If Redis
+ * is unreachable the event is delivered to local clients only; clients refetch on reconnect,
+ * so a lost event costs at most one stale view.
+ */
+@Component
+public class LemmaStatusRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaStatusRelay.class);
+
+    public static final String CHANNEL = "vocab:lemma-status";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LemmaStatusBroadcaster broadcaster;
+
+    public LemmaStatusRelay(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                            LemmaStatusBroadcaster broadcaster) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.broadcaster = broadcaster;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(LemmaStatusChangedEvent event) {
+        LemmaStatusEventDTO dto = new LemmaStatusEventDTO(event.lemmaId(), event.processingStatus(),
+            event.sentenceStatus(), event.deleted());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize status event for lemma {}: {}", event.lemmaId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Redis publish failed, delivering status event for lemma {} locally only: {}",
+                    event.lemmaId(), e.getMessage());
+            broadcaster.broadcast(dto);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            broadcaster.broadcast(objectMapper.readValue(message.getBody(), LemmaStatusEventDTO.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed message on {}: {}", CHANNEL, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.vocab.bulgarian.exception;
+
+/**
+ * Exception thrown when a new vocabulary entry would duplicate an existing lemma,
+ * either by headword, by one of its inflected forms, or by resolving to the same
+ * dictionary word.
+ */
+public class DuplicateLemmaException extends RuntimeException {
+
+    /** How the new entry was matched to the existing lemma. */
+    public enum MatchedBy {
+        HEADWORD,
+        INFLECTION,
+        DICTIONARY_WORD
+    }
+
+    private final Long existingLemmaId;
+    private final String existingText;
+    private final MatchedBy matchedBy;
+
+    public DuplicateLemmaException(Long existingLemmaId, String existingText, MatchedBy matchedBy) {
+        super("Already in vocabulary as '" + existingText + "' (id " + existingLemmaId + ")");
+        this.existingLemmaId = existingLemmaId;
+        this.existingText = existingText;
+        this.matchedBy = matchedBy;
+    }
+
+    public Long getExistingLemmaId() {
+        return existingLemmaId;
+    }
+
+    public String getExistingText() {
+        return existingText;
+    }
+
+    public MatchedBy getMatchedBy() {
+        return matchedBy;
+    }
+}
@@ -0,0 +1,28 @@
+package com.vocab.bulgarian.exception;
+
+/**
+ * Exception thrown when an edit was made against a lemma version that is no longer current,
+ * typically because background processing or another edit committed in the meantime.
+ */
+public class LemmaVersionConflictException extends RuntimeException {
+
+    private final Long lemmaId;
+    private final Long currentVersion;
+
+    public LemmaVersionConflictException(Long lemmaId, Long currentVersion) {
+        super("Lemma " + lemmaId + " was changed by someone else (now at version " + currentVersion + ")");
+        this.lemmaId = lemmaId;
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getLemmaId() {
+        return lemmaId;
+    }
+
+    /**
+     * Version after the conflicting change, or null if it is not known (commit-time conflict).
+     */
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vocab.bulgarian.exception;
+
+/**
+ * Exception thrown when a dictionary import meets a new grammatical tag but every bit of the
+ * tag mask is already assigned.
+ */
+public class TagRegistryFullException extends IllegalStateException {
+
+    private final String tag;
+
+    public TagRegistryFullException(String tag, int capacity) {
+        super("Dictionary tag registry is full (" + capacity + " tags); cannot register '" + tag + "'");
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
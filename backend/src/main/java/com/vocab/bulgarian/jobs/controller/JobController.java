@@ -0,0 +1,47 @@
+package com.vocab.bulgarian.jobs.controller;
+
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Status of background processing jobs returned by create and reprocess (202 Accepted).
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final ProcessingJobRegistry jobRegistry;
+
+    public JobController(ProcessingJobRegistry jobRegistry) {
+        this.jobRegistry = jobRegistry;
+    }
+
+    /**
+     * GET /api/jobs/{id}
+     * The ETag changes only with the stage or queue position, so polling with
+     * If-None-Match is answered 304 until there is something new to show.
+     *
+     * @return 200 OK with job status, 304 Not Modified, or 404 once the job has expired
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobStatusDTO> getJob(@PathVariable String id, WebRequest request) {
+        JobStatusDTO job = jobRegistry.find(id)
+            .orElseThrow(() -> new EntityNotFoundException("Job not found with id: " + id));
+        String etag = "\"" + job.version() + "-" + (job.queuePosition() != null ? job.queuePosition() : "done") + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .body(job);
+    }
+}
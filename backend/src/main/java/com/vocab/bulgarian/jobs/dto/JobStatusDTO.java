@@ -0,0 +1,49 @@
+package com.vocab.bulgarian.jobs.dto;
+
+import java.time.Instant;
+
+/**
+ * Progress of one background processing job (create or reprocess of a lemma).
+ *
+ * @param version               incremented on every stage change
+ * @param queuePosition         unfinished jobs submitted before this one on this instance,
+ *                              including bulk-created, imported and recovered lemmas; null
+ *                              once finished
+ * @param estimatedCompletionAt when the job is expected to finish, from the mean of the
+ *                              vocab.processing.total timer; null once finished
+ * @param error                 failure reason when stage is FAILED
+ */
+public record JobStatusDTO(
+    String id,
+    Long lemmaId,
+    Type type,
+    Stage stage,
+    int version,
+    Integer queuePosition,
+    Instant estimatedCompletionAt,
+    String error,
+    Instant createdAt,
+    Instant updatedAt
+) {
+    public enum Type {
+        CREATE,
+        REPROCESS
+    }
+
+    /**
+     * Pipeline order; a job only ever moves forward.
+     */
+    public enum Stage {
+        QUEUED,
+        DETECTING,
+        INFLECTING,
+        METADATA,
+        TRANSLATING,
+        COMPLETED,
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+}
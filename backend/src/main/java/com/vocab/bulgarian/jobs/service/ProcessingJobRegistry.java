@@ -0,0 +1,221 @@
+package com.vocab.bulgarian.jobs.service;
+
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO.Stage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory registry of background processing jobs, so clients can follow a create or
+ * reprocess through GET /api/jobs/{id} instead of re-reading the whole lemma.
+ *
+ * BackgroundProcessingService reports stages by lemma id; the registry routes them to the
+ * lemma's active job. Queue position counts unfinished jobs submitted earlier: they all
+ * share one Ollama, which works through requests in order, so the ETA is the mean
+ * vocab.processing.total duration per job ahead plus what is left of this one. Lemmas
+ * queued without a client-facing job (bulk create, NDJSON import, startup recovery) are
+ * tracked through registerQueued so they count as work ahead too.
+ *
+ * Jobs live on the instance that accepted the request and are dropped RETENTION after
+ * finishing; an unknown id is a 404 and the lemma itself remains the source of truth.
+ */
+@Service
+public class ProcessingJobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessingJobRegistry.class);
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+    // A job that never finishes (e.g. the instance restarted mid-run) is forgotten after this
+    private static final Duration ABANDONED_AFTER = Duration.ofHours(6);
+    // Until the first job completes on this instance
+    private static final double DEFAULT_JOB_SECONDS = 60.0;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, Job> activeByLemma = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public ProcessingJobRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Start tracking a job for a lemma that is about to be queued for processing.
+     * A previous unfinished job for the same lemma is marked FAILED as superseded.
+     */
+    public JobStatusDTO register(Long lemmaId, JobStatusDTO.Type type) {
+        Job job = new Job(UUID.randomUUID().toString(), sequence.incrementAndGet(), lemmaId, type);
+        jobs.put(job.id, job);
+        Job previous = activeByLemma.put(lemmaId, job);
+        if (previous != null) {
+            previous.advance(Stage.FAILED, "Superseded by job " + job.id);
+        }
+        return toDTO(job);
+    }
+
+    /**
+     * Track lemmas handed to the background executor in bulk, in queue order, so jobs
+     * registered after them see them in their queue position. Unlike register, a lemma that
+     * already has an active job keeps it.
+     */
+    public void registerQueued(Collection<Long> lemmaIds, JobStatusDTO.Type type) {
+        for (Long lemmaId : lemmaIds) {
+            activeByLemma.computeIfAbsent(lemmaId, id -> {
+                Job job = new Job(UUID.randomUUID().toString(), sequence.incrementAndGet(), id, type);
+                jobs.put(job.id, job);
+                return job;
+            });
+        }
+    }
+
+    /**
+     * Record a job that finished synchronously (dictionary create), so every create has a job.
+     */
+    public JobStatusDTO registerCompleted(Long lemmaId, JobStatusDTO.Type type) {
+        Job job = new Job(UUID.randomUUID().toString(), sequence.incrementAndGet(), lemmaId, type);
+        job.advance(Stage.COMPLETED, null);
+        jobs.put(job.id, job);
+        return toDTO(job);
+    }
+
+    /**
+     * Forget a job whose transaction rolled back before it was queued.
+     */
+    public void discard(String jobId) {
+        Job job = jobs.remove(jobId);
+        if (job != null) {
+            activeByLemma.remove(job.lemmaId, job);
+        }
+    }
+
+    /**
+     * Move the lemma's active job to {@code stage}. No-op for lemmas without an active job
+     * and for stages the job has already passed.
+     */
+    public void advance(Long lemmaId, Stage stage) {
+        advance(lemmaId, stage, null);
+    }
+
+    public void advance(Long lemmaId, Stage stage, String error) {
+        Job job = activeByLemma.get(lemmaId);
+        if (job == null) return;
+        job.advance(stage, error);
+        if (stage.isTerminal()) {
+            activeByLemma.remove(lemmaId, job);
+        }
+    }
+
+    /**
+     * Finish the lemma's active job as COMPLETED on another lemma: processing found the entry
+     * already in the vocabulary and folded it into {@code survivorId}, so the job points there.
+     */
+    public void completeAs(Long lemmaId, Long survivorId) {
+        Job job = activeByLemma.remove(lemmaId);
+        if (job == null) return;
+        job.redirect(survivorId);
+        job.advance(Stage.COMPLETED, null);
+    }
+
+    public Optional<JobStatusDTO> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(this::toDTO);
+    }
+
+    @Scheduled(fixedRate = 10, timeUnit = TimeUnit.MINUTES)
+    void evictExpired() {
+        Instant now = Instant.now();
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.stage.isTerminal()
+            ? job.updatedAt.plus(RETENTION).isBefore(now)
+            : job.createdAt.plus(ABANDONED_AFTER).isBefore(now));
+        activeByLemma.values().removeIf(job -> !jobs.containsKey(job.id));
+        if (jobs.size() < before) {
+            log.debug("Evicted {} processing jobs", before - jobs.size());
+        }
+    }
+
+    private JobStatusDTO toDTO(Job job) {
+        // Read the mutable fields once so the DTO is self-consistent
+        Long lemmaId;
+        Stage stage;
+        Instant startedAt;
+        Instant updatedAt;
+        String error;
+        int version;
+        synchronized (job) {
+            lemmaId = job.lemmaId;
+            stage = job.stage;
+            version = job.version;
+            startedAt = job.startedAt;
+            updatedAt = job.updatedAt;
+            error = job.error;
+        }
+        if (stage.isTerminal()) {
+            return new JobStatusDTO(job.id, lemmaId, job.type, stage, version, null, null, error, job.createdAt, updatedAt);
+        }
+
+        int position = (int) activeByLemma.values().stream().filter(other -> other.seq < job.seq).count();
+        Duration perJob = Duration.ofMillis((long) (averageJobSeconds() * 1000));
+        Instant now = Instant.now();
+        Duration ownElapsed = startedAt != null ? Duration.between(startedAt, now) : Duration.ZERO;
+        Duration ownRemaining = perJob.minus(ownElapsed);
+        if (ownRemaining.isNegative()) ownRemaining = Duration.ZERO;
+        Instant eta = now.plus(perJob.multipliedBy(position)).plus(ownRemaining);
+
+        return new JobStatusDTO(job.id, lemmaId, job.type, stage, version, position, eta, null, job.createdAt, updatedAt);
+    }
+
+    private double averageJobSeconds() {
+        Timer timer = meterRegistry.find("vocab.processing.total").tag("outcome", "success").timer();
+        if (timer == null || timer.count() == 0) return DEFAULT_JOB_SECONDS;
+        return timer.mean(TimeUnit.SECONDS);
+    }
+
+    private static final class Job {
+        final String id;
+        final long seq;
+        volatile Long lemmaId;
+        final JobStatusDTO.Type type;
+        final Instant createdAt = Instant.now();
+        volatile Stage stage = Stage.QUEUED;
+        volatile Instant startedAt;
+        volatile Instant updatedAt = createdAt;
+        volatile String error;
+        volatile int version;
+
+        Job(String id, long seq, Long lemmaId, JobStatusDTO.Type type) {
+            this.id = id;
+            this.seq = seq;
+            this.lemmaId = lemmaId;
+            this.type = type;
+        }
+
+        synchronized void redirect(Long survivorId) {
+            if (stage.isTerminal()) return;
+            lemmaId = survivorId;
+        }
+
+        synchronized void advance(Stage next, String reason) {
+            // Forward only; stage callbacks from parallel pipeline branches can arrive late
+            if (stage.isTerminal() || next.ordinal() <= stage.ordinal()) return;
+            if (startedAt == null && next != Stage.QUEUED) startedAt = Instant.now();
+            stage = next;
+            error = next == Stage.FAILED ? reason : null;
+            updatedAt = Instant.now();
+            version++;
+        }
+    }
+}
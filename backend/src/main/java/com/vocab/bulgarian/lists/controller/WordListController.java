@@ -4,9 +4,11 @@ import com.vocab.bulgarian.lists.dto.*;
 import com.vocab.bulgarian.lists.service.WordListService;
 import com.vocab.bulgarian.study.dto.StartSessionResponseDTO;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,9 +33,20 @@ public class WordListController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.createList(request));
     }
 
+    /**
+     * ETag covers the list and the versions of its members; a match is answered 304 from
+     * one aggregate query without loading the lemmas.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<WordListDetailDTO> getListDetail(@PathVariable Long id) {
-        return ResponseEntity.ok(service.getListDetail(id));
+    public ResponseEntity<WordListDetailDTO> getListDetail(@PathVariable Long id, WebRequest request) {
+        String etag = service.getListDetailVersionTag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .body(service.getListDetail(id));
     }
 
     @PutMapping("/{id}")
@@ -30,6 +30,11 @@ public class WordList {
     @Column(name = "updated_at", nullable = false)
     private ZonedDateTime updatedAt = ZonedDateTime.now();
 
+    // Also bumped by WordListRepository.bumpVersion when membership changes through native SQL
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PreUpdate
     void onUpdate() { this.updatedAt = ZonedDateTime.now(); }
 
@@ -39,4 +44,5 @@ public class WordList {
     public List<Lemma> getLemmas() { return lemmas; }
     public ZonedDateTime getCreatedAt() { return createdAt; }
     public ZonedDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 }
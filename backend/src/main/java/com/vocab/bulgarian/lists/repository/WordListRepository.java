@@ -1,9 +1,12 @@
 package com.vocab.bulgarian.lists.repository;
 
 import com.vocab.bulgarian.lists.domain.WordList;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -26,13 +29,38 @@ public interface WordListRepository extends JpaRepository<WordList, Long> {
     @Query("SELECT l.id FROM WordList wl JOIN wl.lemmas l WHERE wl.id = :listId")
     List<Long> findLemmaIdsByListId(@Param("listId") Long listId);
 
+    // Native writes declare the tables they touch; without a query space Hibernate assumes
+    // they touched everything and empties the whole second-level cache
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_list_members"))
     @Query(value = "INSERT INTO word_list_members(list_id, lemma_id) VALUES (:listId, :lemmaId) ON CONFLICT DO NOTHING",
            nativeQuery = true)
-    void addMember(@Param("listId") Long listId, @Param("lemmaId") Long lemmaId);
+    int addMember(@Param("listId") Long listId, @Param("lemmaId") Long lemmaId);
 
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_list_members"))
     @Query(value = "DELETE FROM word_list_members WHERE list_id = :listId AND lemma_id = :lemmaId",
            nativeQuery = true)
-    void removeMember(@Param("listId") Long listId, @Param("lemmaId") Long lemmaId);
+    int removeMember(@Param("listId") Long listId, @Param("lemmaId") Long lemmaId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_lists"))
+    @Query(value = "UPDATE word_lists SET version = version + 1, updated_at = NOW() WHERE id = :listId",
+           nativeQuery = true)
+    void bumpVersion(@Param("listId") Long listId);
+
+    /**
+     * ETag for the list detail without loading it: the list's own version plus a digest of
+     * its members' (id, version) pairs, so membership changes and edits to any member lemma
+     * both change the tag.
+     */
+    @Query(value = """
+        SELECT wl.version || ':' || COALESCE(md5(string_agg(l.id || '.' || l.version, ',' ORDER BY l.id)), '')
+        FROM word_lists wl
+        LEFT JOIN word_list_members m ON m.list_id = wl.id
+        LEFT JOIN lemmas l ON l.id = m.lemma_id
+        WHERE wl.id = :id
+        GROUP BY wl.id, wl.version
+        """, nativeQuery = true)
+    Optional<String> findDetailVersionTag(@Param("id") Long id);
 }
@@ -57,6 +57,15 @@ public class WordListService {
             .toList();
     }
 
+    /**
+     * Current ETag value for getListDetail, from one aggregate query (no entity loading).
+     */
+    @Transactional(readOnly = true)
+    public String getListDetailVersionTag(Long id) {
+        return listRepo.findDetailVersionTag(id)
+            .orElseThrow(() -> new EntityNotFoundException("List not found: " + id));
+    }
+
     @Transactional(readOnly = true)
     public WordListDetailDTO getListDetail(Long id) {
         WordList wl = listRepo.findByIdWithLemmas(id)
@@ -94,12 +103,16 @@ public class WordListService {
     public void addLemma(Long listId, Long lemmaId) {
         if (!listRepo.existsById(listId)) throw new EntityNotFoundException("List not found: " + listId);
         if (!lemmaRepo.existsById(lemmaId)) throw new EntityNotFoundException("Lemma not found: " + lemmaId);
-        listRepo.addMember(listId, lemmaId);
+        if (listRepo.addMember(listId, lemmaId) > 0) {
+            listRepo.bumpVersion(listId);
+        }
     }
 
     public void removeLemma(Long listId, Long lemmaId) {
         if (!listRepo.existsById(listId)) throw new EntityNotFoundException("List not found: " + listId);
-        listRepo.removeMember(listId, lemmaId);
+        if (listRepo.removeMember(listId, lemmaId) > 0) {
+            listRepo.bumpVersion(listId);
+        }
     }
 
     public StartSessionResponseDTO startListSession(Long listId, String mode, int maxCards) {
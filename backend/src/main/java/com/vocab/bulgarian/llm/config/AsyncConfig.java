@@ -32,6 +32,14 @@ public class AsyncConfig implements AsyncConfigurer {
         return Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /**
+     * Fan-out for federated search: each section runs its blocking JDBC lookup on its own virtual thread.
+     */
+    @Bean(name = "searchTaskExecutor")
+    public Executor searchTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return llmTaskExecutor();
@@ -0,0 +1,12 @@
+package com.vocab.bulgarian.llm.dto;
+
+/**
+ * Progress points reported by LlmOrchestrationService.processNewWord, in pipeline order.
+ * Inflections and metadata are generated in parallel; METADATA means inflections are done
+ * and metadata is still outstanding.
+ */
+public enum PipelineStage {
+    DETECTING,
+    INFLECTING,
+    METADATA
+}
@@ -4,6 +4,7 @@ import com.vocab.bulgarian.llm.dto.InflectionSet;
 import com.vocab.bulgarian.llm.dto.LemmaDetectionResponse;
 import com.vocab.bulgarian.llm.dto.LemmaMetadata;
 import com.vocab.bulgarian.llm.dto.LlmProcessingResult;
+import com.vocab.bulgarian.llm.dto.PipelineStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Orchestrates the complete LLM pipeline for new vocabulary entry processing.
@@ -50,9 +52,20 @@ public class LlmOrchestrationService {
      * @return CompletableFuture containing the combined processing result
      */
     public CompletableFuture<LlmProcessingResult> processNewWord(String wordForm, String translationHint) {
+        return processNewWord(wordForm, translationHint, stage -> { });
+    }
+
+    /**
+     * Same as {@link #processNewWord(String, String)}, reporting each stage as it starts.
+     *
+     * @param onStage called from pipeline threads; must be cheap and thread-safe
+     */
+    public CompletableFuture<LlmProcessingResult> processNewWord(String wordForm, String translationHint,
+                                                                 Consumer<PipelineStage> onStage) {
         log.info("Processing new word: {} (hint: {})", wordForm, translationHint);
 
         // Step 1: Detect lemma
+        onStage.accept(PipelineStage.DETECTING);
         return lemmaDetectionService.detectLemmaAsync(wordForm, translationHint)
             .thenCompose(rawDetection -> {
                 // If BgGPT fails to identify the lemma, fall back to the input word form itself.
@@ -81,6 +94,7 @@ public class LlmOrchestrationService {
                     log.info("POS overridden by user hint '{}': {} → {}", translationHint, lemmaDetection.partOfSpeech(), hintedPos);
                 }
 
+                onStage.accept(PipelineStage.INFLECTING);
                 CompletableFuture<InflectionSet> inflectionsFuture =
                     inflectionGenerationService.generateInflectionsAsync(
                         lemmaDetection.lemma(),
@@ -90,6 +104,11 @@ public class LlmOrchestrationService {
                 CompletableFuture<LemmaMetadata> metadataFuture =
                     metadataGenerationService.generateMetadataAsync(lemmaDetection.lemma(), translationHint);
 
+                // Inflections usually take longer; if they finish first, metadata is what is left
+                inflectionsFuture.thenRun(() -> {
+                    if (!metadataFuture.isDone()) onStage.accept(PipelineStage.METADATA);
+                });
+
                 // Step 3: Combine results
                 return inflectionsFuture.thenCombine(metadataFuture, (inflections, metadata) -> {
                     List<String> warnings = new ArrayList<>();
@@ -0,0 +1,54 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.domain.enums.Source;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Reads of the lemma_cards read model (V26): one JSONB document per lemma in the shape of
+ * LemmaDetailDTO, rebuilt by database triggers in the same transaction as any change to the
+ * lemma, its inflections or its example sentences.
+ *
+ * Cards are returned as JSON text and written to the response as-is; nothing is parsed or
+ * mapped on the way out.
+ */
+@Repository
+public class LemmaCardRepository {
+
+    /**
+     * A lemma's detail document and the lemma version it was built from.
+     */
+    public record LemmaCard(long version, String json) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LemmaCardRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<LemmaCard> findById(Long lemmaId) {
+        return jdbcTemplate.query(
+            "SELECT version, card::text AS card FROM lemma_cards WHERE lemma_id = :id",
+            new MapSqlParameterSource("id", lemmaId),
+            (rs, rowNum) -> new LemmaCard(rs.getLong("version"), rs.getString("card"))
+        ).stream().findFirst();
+    }
+
+    /**
+     * A random card among lemmas from the given source, or empty when there are none.
+     */
+    public Optional<String> findRandomBySource(Source source) {
+        return jdbcTemplate.queryForList("""
+            SELECT c.card::text
+            FROM lemma_cards c
+            JOIN lemmas l ON l.id = c.lemma_id
+            WHERE l.source = :source
+            ORDER BY random()
+            LIMIT 1
+            """, new MapSqlParameterSource("source", source.name()), String.class
+        ).stream().findFirst();
+    }
+}
@@ -1,5 +1,6 @@
 package com.vocab.bulgarian.repository;
 
+import com.vocab.bulgarian.domain.CacheRegions;
 import com.vocab.bulgarian.domain.Lemma;
 import com.vocab.bulgarian.domain.enums.DifficultyLevel;
 import com.vocab.bulgarian.domain.enums.PartOfSpeech;
@@ -7,10 +8,14 @@ import com.vocab.bulgarian.domain.enums.ProcessingStatus;
 import com.vocab.bulgarian.domain.enums.ReviewStatus;
 import com.vocab.bulgarian.domain.enums.SentenceStatus;
 import com.vocab.bulgarian.domain.enums.Source;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,10 +24,15 @@ import java.util.Optional;
 
 /**
  * Spring Data JPA repository for Lemma entities.
- * Provides derived queries, JPQL queries with JOIN FETCH, and PGroonga full-text search.
+ * Provides derived queries and JPQL queries with JOIN FETCH.
+ * Browse filters are Specifications (LemmaSpecifications); ranked full-text search
+ * lives in LemmaSearchRepository.
+ *
+ * The dashboard counts are query-cached (CacheRegions.LEMMA_QUERIES); Hibernate invalidates
+ * them on any JPA write to lemmas or inflections, and SecondLevelCacheService on JDBC writes.
  */
 @Repository
-public interface LemmaRepository extends JpaRepository<Lemma, Long> {
+public interface LemmaRepository extends JpaRepository<Lemma, Long>, JpaSpecificationExecutor<Lemma> {
 
     // Derived query methods
     List<Lemma> findBySourceOrderByTextAsc(Source source);
@@ -47,41 +57,42 @@ public interface LemmaRepository extends JpaRepository<Lemma, Long> {
     @Query("SELECT DISTINCT l FROM Lemma l LEFT JOIN FETCH l.inflections WHERE l.source = :source ORDER BY l.text ASC")
     List<Lemma> findBySourceWithInflections(@Param("source") Source source);
 
-    // PGroonga native search query for Cyrillic full-text search
-    @Query(value = "SELECT * FROM lemmas WHERE text &@~ :searchQuery ORDER BY pgroonga_score(tableoid, ctid) DESC LIMIT 20", nativeQuery = true)
-    List<Lemma> searchByText(@Param("searchQuery") String searchQuery);
-
-    // Search for lemmas that have a matching inflected form
-    @Query(value = "SELECT DISTINCT l.* FROM lemmas l JOIN inflections i ON i.lemma_id = l.id WHERE i.form &@~ :searchQuery LIMIT 20", nativeQuery = true)
-    List<Lemma> searchByInflectionForm(@Param("searchQuery") String searchQuery);
-
-    // Paginated browse with optional filtering by source
-    Page<Lemma> findBySource(Source source, Pageable pageable);
-
-    // Paginated browse with optional filtering by part of speech
-    Page<Lemma> findByPartOfSpeech(PartOfSpeech partOfSpeech, Pageable pageable);
-
-    // Paginated browse with optional filtering by difficulty level
-    Page<Lemma> findByDifficultyLevel(DifficultyLevel difficultyLevel, Pageable pageable);
-
-    // Paginated browse with combined filters (source + partOfSpeech)
-    Page<Lemma> findBySourceAndPartOfSpeech(Source source, PartOfSpeech partOfSpeech, Pageable pageable);
+    // Lemmas whose headword or any inflected form equals the given lowercase text
+    @Query(value = """
+        SELECT * FROM lemmas WHERE id IN (
+            SELECT id FROM lemmas WHERE lower(text) = :form
+            UNION
+            SELECT lemma_id FROM inflections WHERE lower(form) = :form
+        )
+        ORDER BY id
+        LIMIT 10
+        """, nativeQuery = true)
+    List<Lemma> findByTextOrInflectionForm(@Param("form") String form);
 
-    // Paginated browse with combined filters (source + difficultyLevel)
-    Page<Lemma> findBySourceAndDifficultyLevel(Source source, DifficultyLevel difficultyLevel, Pageable pageable);
+    // Another lemma that idx_lemmas_text_source_notes would treat as the same entry
+    @Query("SELECT l FROM Lemma l WHERE l.text = :text AND l.source = :source " +
+           "AND COALESCE(l.notes, '') = :notes AND l.id <> :excludeId")
+    Optional<Lemma> findSameEntry(@Param("text") String text, @Param("source") Source source,
+                                  @Param("notes") String notes, @Param("excludeId") Long excludeId);
 
-    // Paginated browse with combined filters (partOfSpeech + difficultyLevel)
-    Page<Lemma> findByPartOfSpeechAndDifficultyLevel(PartOfSpeech partOfSpeech, DifficultyLevel difficultyLevel, Pageable pageable);
+    // Lemmas linked to the dictionary word or saved under its (lowercase) headword
+    @Query("SELECT l FROM Lemma l WHERE l.dictionaryWordId = :wordId OR lower(l.text) = :text ORDER BY l.id")
+    List<Lemma> findByDictionaryWordIdOrText(@Param("wordId") Long wordId, @Param("text") String text);
 
-    // Paginated browse with all three filters
-    Page<Lemma> findBySourceAndPartOfSpeechAndDifficultyLevel(Source source, PartOfSpeech partOfSpeech, DifficultyLevel difficultyLevel, Pageable pageable);
+    // Real inflection counts for one browse page, in a single grouped query
+    @Query("SELECT i.lemma.id, COUNT(i) FROM Inflection i WHERE i.lemma.id IN :ids GROUP BY i.lemma.id")
+    List<Object[]> countInflectionsByLemmaIds(@Param("ids") List<Long> ids);
 
     // Batch load inflections for list of IDs (after pagination)
     @Query("SELECT DISTINCT l FROM Lemma l LEFT JOIN FETCH l.inflections WHERE l.id IN :ids")
     List<Lemma> findByIdInWithInflections(@Param("ids") List<Long> ids);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     long countBySource(Source source);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     long countBySentenceStatus(SentenceStatus sentenceStatus);
 
     List<Lemma> findBySentenceStatusIn(List<SentenceStatus> statuses);
@@ -91,13 +102,20 @@ public interface LemmaRepository extends JpaRepository<Lemma, Long> {
            "ORDER BY l.createdAt ASC")
     List<Lemma> findLemmasNeedingSentences(Pageable pageable);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     long countBySourceAndReviewStatusIn(Source source, List<ReviewStatus> statuses);
 
     @Query("SELECT l FROM Lemma l WHERE l.source = com.vocab.bulgarian.domain.enums.Source.USER_ENTERED AND l.reviewStatus IN :statuses ORDER BY l.createdAt DESC")
     Page<Lemma> findReviewQueue(@Param("statuses") List<ReviewStatus> statuses, Pageable pageable);
 
     // Admin queries
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     long countByProcessingStatus(ProcessingStatus processingStatus);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     long countByReviewStatus(ReviewStatus reviewStatus);
 
     @Query("SELECT l FROM Lemma l WHERE l.processingStatus = com.vocab.bulgarian.domain.enums.ProcessingStatus.FAILED ORDER BY l.updatedAt DESC")
@@ -117,6 +135,8 @@ public interface LemmaRepository extends JpaRepository<Lemma, Long> {
         """, nativeQuery = true)
     List<Object[]> findDuplicateRows();
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LEMMA_QUERIES)})
     @Query("SELECT COUNT(i) FROM Inflection i")
     long countAllInflections();
 }
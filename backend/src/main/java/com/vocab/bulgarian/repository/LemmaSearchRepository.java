@@ -0,0 +1,92 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.api.dto.LemmaResponseDTO;
+import com.vocab.bulgarian.domain.enums.DifficultyLevel;
+import com.vocab.bulgarian.domain.enums.PartOfSpeech;
+import com.vocab.bulgarian.domain.enums.ReviewStatus;
+import com.vocab.bulgarian.domain.enums.SentenceStatus;
+import com.vocab.bulgarian.domain.enums.Source;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Ranked PGroonga search over lemma text and inflected forms in a single statement.
+ *
+ * Both PGroonga index scans feed one UNION ALL; each hit is scored as
+ * pgroonga_score x source weight (headword hits outweigh inflection hits), a lemma keeps
+ * its best score, and the page is cut in SQL. Summaries, including the inflection count,
+ * come straight from the row set, so no entity or lazy collection is ever loaded.
+ */
+@Repository
+public class LemmaSearchRepository {
+
+    // Headword matches rank above any lemma found only through an inflected form
+    static final double TEXT_WEIGHT = 10.0;
+    static final double INFLECTION_WEIGHT = 1.0;
+
+    private static final String SEARCH_SQL = """
+        WITH hits AS (
+            SELECT id AS lemma_id, pgroonga_score(tableoid, ctid) * :textWeight AS score
+            FROM lemmas
+            WHERE text &@~ :query
+            UNION ALL
+            SELECT lemma_id, pgroonga_score(tableoid, ctid) * :inflectionWeight
+            FROM inflections
+            WHERE form &@~ :query
+        ), ranked AS (
+            SELECT lemma_id, MAX(score) AS score FROM hits GROUP BY lemma_id
+        )
+        SELECT l.id, l.text, l.translation, l.part_of_speech, l.category, l.difficulty_level,
+               l.source, l.review_status, l.sentence_status, l.created_at,
+               (SELECT COUNT(*) FROM inflections i WHERE i.lemma_id = l.id) AS inflection_count
+        FROM ranked r
+        JOIN lemmas l ON l.id = r.lemma_id
+        ORDER BY r.score DESC, l.text, l.id
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final RowMapper<LemmaResponseDTO> SUMMARY_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new LemmaResponseDTO(
+            rs.getLong("id"),
+            rs.getString("text"),
+            rs.getString("translation"),
+            enumOrNull(PartOfSpeech.class, rs.getString("part_of_speech")),
+            rs.getString("category"),
+            enumOrNull(DifficultyLevel.class, rs.getString("difficulty_level")),
+            enumOrNull(Source.class, rs.getString("source")),
+            enumOrNull(ReviewStatus.class, rs.getString("review_status")),
+            rs.getInt("inflection_count"),
+            enumOrNull(SentenceStatus.class, rs.getString("sentence_status")),
+            createdAt != null ? createdAt.toLocalDateTime() : null
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LemmaSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * One page of lemma summaries matching the query by headword or inflected form, best first.
+     */
+    public List<LemmaResponseDTO> search(String query, int offset, int limit) {
+        var params = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("textWeight", TEXT_WEIGHT)
+            .addValue("inflectionWeight", INFLECTION_WEIGHT)
+            .addValue("limit", limit)
+            .addValue("offset", offset);
+        return jdbcTemplate.query(SEARCH_SQL, params, SUMMARY_MAPPER);
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.api.dto.VocabularyFilterDTO;
+import com.vocab.bulgarian.domain.Lemma;
+import com.vocab.bulgarian.lists.domain.WordList;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composable predicates for browsing lemmas with LemmaRepository's Specification support.
+ */
+public final class LemmaSpecifications {
+
+    private LemmaSpecifications() {
+    }
+
+    /**
+     * Conjunction of every non-null filter field; no filters means no restriction.
+     */
+    public static Specification<Lemma> matching(VocabularyFilterDTO filter) {
+        List<Specification<Lemma>> specs = new ArrayList<>();
+        if (filter.source() != null) specs.add(attributeEquals("source", filter.source()));
+        if (filter.partOfSpeech() != null) specs.add(attributeEquals("partOfSpeech", filter.partOfSpeech()));
+        if (filter.difficultyLevel() != null) specs.add(attributeEquals("difficultyLevel", filter.difficultyLevel()));
+        if (filter.reviewStatus() != null) specs.add(attributeEquals("reviewStatus", filter.reviewStatus()));
+        if (filter.processingStatus() != null) specs.add(attributeEquals("processingStatus", filter.processingStatus()));
+        if (filter.category() != null && !filter.category().isBlank()) specs.add(attributeEquals("category", filter.category()));
+        if (filter.listId() != null) specs.add(inList(filter.listId()));
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Seek predicate for keyset pagination on (attribute, id): rows strictly after the given
+     * position in the given direction. The redundant bound on the attribute alone lets an
+     * index on (attribute, id) start its range scan at the position instead of filtering
+     * from the beginning, so deep pages cost the same as the first.
+     */
+    public static <C extends Comparable<? super C>> Specification<Lemma> after(
+            String attribute, C value, long id, boolean descending) {
+        return (root, query, cb) -> {
+            Path<C> key = root.get(attribute);
+            Path<Long> lemmaId = root.get("id");
+            if (descending) {
+                return cb.and(cb.lessThanOrEqualTo(key, value),
+                    cb.or(cb.lessThan(key, value), cb.lessThan(lemmaId, id)));
+            }
+            return cb.and(cb.greaterThanOrEqualTo(key, value),
+                cb.or(cb.greaterThan(key, value), cb.greaterThan(lemmaId, id)));
+        };
+    }
+
+    private static Specification<Lemma> attributeEquals(String attribute, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static Specification<Lemma> inList(Long listId) {
+        return (root, query, cb) -> {
+            Subquery<Long> members = query.subquery(Long.class);
+            Root<WordList> list = members.from(WordList.class);
+            Join<WordList, Lemma> member = list.join("lemmas");
+            members.select(member.get("id")).where(cb.equal(list.get("id"), listId));
+            return root.get("id").in(members);
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO;
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO.Highlight;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PGroonga full-text search over example sentences (indexes from V23).
+ *
+ * Both queries cut the page inside the index-driven CTE and only then join lemmas and
+ * compute highlight positions, so the per-row work is bounded by the limit rather than by
+ * the number of matching sentences. Highlights come from pgroonga_match_positions_character,
+ * which applies the same normalizer as the index (case, width) and returns character
+ * offsets; Bulgarian and English text is all in the BMP, so they index Java strings directly.
+ */
+@Repository
+public class SentenceSearchRepository {
+
+    // A hit in the Bulgarian text outranks an equally good hit in the translation
+    static final double BULGARIAN_WEIGHT = 2.0;
+    static final double ENGLISH_WEIGHT = 1.0;
+
+    private static final String RESULT_COLUMNS = """
+        SELECT s.id, s.lemma_id, l.text AS lemma_text, s.bulgarian_text, s.english_translation,
+               pgroonga_match_positions_character(s.bulgarian_text, k.keywords) AS bulgarian_positions,
+               pgroonga_match_positions_character(s.english_translation, k.keywords) AS english_positions
+        """;
+
+    private static final String TEXT_SEARCH_SQL = """
+        WITH hits AS (
+            SELECT id, pgroonga_score(tableoid, ctid) * :bulgarianWeight AS score
+            FROM example_sentences
+            WHERE bulgarian_text &@~ :query
+            UNION ALL
+            SELECT id, pgroonga_score(tableoid, ctid) * :englishWeight
+            FROM example_sentences
+            WHERE english_translation &@~ :query
+        ), ranked AS (
+            SELECT id, MAX(score) AS score FROM hits
+            GROUP BY id
+            ORDER BY score DESC, id
+            LIMIT :limit
+        ), k AS (
+            SELECT pgroonga_query_extract_keywords(:query) AS keywords
+        )
+        """ + RESULT_COLUMNS + """
+        FROM ranked r
+        JOIN example_sentences s ON s.id = r.id
+        JOIN lemmas l ON l.id = s.lemma_id
+        CROSS JOIN k
+        ORDER BY r.score DESC, s.id
+        """;
+
+    private static final String FORMS_SEARCH_SQL = """
+        WITH ranked AS (
+            SELECT id, pgroonga_score(tableoid, ctid) AS score
+            FROM example_sentences
+            WHERE bulgarian_text &@| CAST(:forms AS text[])
+            ORDER BY score DESC, id
+            LIMIT :limit
+        ), k AS (
+            SELECT CAST(:forms AS text[]) AS keywords
+        )
+        """ + RESULT_COLUMNS + """
+        FROM ranked r
+        JOIN example_sentences s ON s.id = r.id
+        JOIN lemmas l ON l.id = s.lemma_id
+        CROSS JOIN k
+        ORDER BY r.score DESC, s.id
+        """;
+
+    private static final String LEMMA_FORMS_SQL = """
+        SELECT lower(text) FROM lemmas WHERE id = :lemmaId
+        UNION
+        SELECT lower(form) FROM inflections WHERE lemma_id = :lemmaId
+        """;
+
+    private static final RowMapper<SentenceSearchResultDTO> MAPPER = (rs, rowNum) -> new SentenceSearchResultDTO(
+        rs.getLong("id"),
+        rs.getLong("lemma_id"),
+        rs.getString("lemma_text"),
+        rs.getString("bulgarian_text"),
+        rs.getString("english_translation"),
+        highlights(rs.getArray("bulgarian_positions")),
+        highlights(rs.getArray("english_positions"))
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SentenceSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Sentences matching a PGroonga query in either language, best first.
+     */
+    public List<SentenceSearchResultDTO> search(String query, int limit) {
+        var params = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("bulgarianWeight", BULGARIAN_WEIGHT)
+            .addValue("englishWeight", ENGLISH_WEIGHT)
+            .addValue("limit", limit);
+        return jdbcTemplate.query(TEXT_SEARCH_SQL, params, MAPPER);
+    }
+
+    /**
+     * Sentences whose Bulgarian text contains the lemma or any of its inflected forms,
+     * from any lemma's examples. Empty if the lemma does not exist.
+     */
+    public List<SentenceSearchResultDTO> searchByLemmaForms(Long lemmaId, int limit) {
+        List<String> forms = jdbcTemplate.queryForList(LEMMA_FORMS_SQL,
+            new MapSqlParameterSource("lemmaId", lemmaId), String.class);
+        if (forms.isEmpty()) return List.of();
+
+        var params = new MapSqlParameterSource()
+            .addValue("forms", forms.toArray(String[]::new))
+            .addValue("limit", limit);
+        return jdbcTemplate.query(FORMS_SEARCH_SQL, params, MAPPER);
+    }
+
+    /**
+     * Convert an integer[][] of (offset, length) pairs; PostgreSQL returns '{}' when nothing matched.
+     */
+    private static List<Highlight> highlights(Array positions) throws SQLException {
+        if (positions == null) return List.of();
+        Object[] pairs = (Object[]) positions.getArray();
+        List<Highlight> highlights = new ArrayList<>(pairs.length);
+        for (Object pair : pairs) {
+            if (pair instanceof Object[] range && range.length == 2) {
+                highlights.add(new Highlight(((Number) range[0]).intValue(), ((Number) range[1]).intValue()));
+            }
+        }
+        return highlights;
+    }
+}
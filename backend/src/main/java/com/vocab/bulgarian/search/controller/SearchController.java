@@ -0,0 +1,35 @@
+package com.vocab.bulgarian.search.controller;
+
+import com.vocab.bulgarian.search.dto.SearchResponseDTO;
+import com.vocab.bulgarian.search.service.FederatedSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Federated search across vocabulary, dictionary and example sentences.
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final FederatedSearchService searchService;
+
+    public SearchController(FederatedSearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * GET /api/search?q={query}
+     * Always 200; sections that missed the deadline are listed in {@code incomplete}.
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponseDTO> search(@RequestParam String q) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(searchService.search(q));
+    }
+}
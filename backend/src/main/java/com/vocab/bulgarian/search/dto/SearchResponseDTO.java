@@ -0,0 +1,29 @@
+package com.vocab.bulgarian.search.dto;
+
+import com.vocab.bulgarian.api.dto.LemmaResponseDTO;
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+
+import java.util.List;
+
+/**
+ * Combined result of one federated search.
+ *
+ * Each section is capped at its own limit. A section that missed the deadline or failed
+ * is returned empty and named in {@code incomplete}, so the client can tell "no matches"
+ * from "no answer in time".
+ */
+public record SearchResponseDTO(
+    String query,
+    List<LemmaResponseDTO> vocabulary,
+    List<DictionarySearchResultDTO> dictionary,
+    List<SentenceSearchResultDTO> sentences,
+    List<Section> incomplete,
+    long tookMs
+) {
+    public enum Section {
+        VOCABULARY,
+        DICTIONARY,
+        SENTENCES
+    }
+}
@@ -0,0 +1,135 @@
+package com.vocab.bulgarian.search.service;
+
+import com.vocab.bulgarian.api.dto.LemmaResponseDTO;
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import com.vocab.bulgarian.dictionary.service.DictionaryService;
+import com.vocab.bulgarian.search.dto.SearchResponseDTO;
+import com.vocab.bulgarian.search.dto.SearchResponseDTO.Section;
+import com.vocab.bulgarian.service.SentenceSearchService;
+import com.vocab.bulgarian.service.VocabularyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * One search across the user's vocabulary, the dictionary and example sentences.
+ *
+ * The three lookups run concurrently on virtual threads and share a single deadline, so the
+ * response takes as long as the slowest section or the deadline, whichever comes first.
+ * A section that misses the deadline or fails is cancelled and reported as incomplete;
+ * the others are returned as usual. Cancellation only abandons the future: a JDBC
+ * statement already in flight runs to completion (or to its own statement_timeout).
+ */
+@Service
+public class FederatedSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(FederatedSearchService.class);
+
+    static final int VOCABULARY_LIMIT = 10;
+    static final int DICTIONARY_LIMIT = 5;
+    static final int SENTENCE_LIMIT = 5;
+
+    private final VocabularyService vocabularyService;
+    private final DictionaryService dictionaryService;
+    private final SentenceSearchService sentenceSearchService;
+    private final Executor searchTaskExecutor;
+    private final long deadlineMs;
+    private final Timer searchTimer;
+    private final Map<Section, Counter> incompleteCounters = new EnumMap<>(Section.class);
+
+    public FederatedSearchService(VocabularyService vocabularyService,
+                                  DictionaryService dictionaryService,
+                                  SentenceSearchService sentenceSearchService,
+                                  @Qualifier("searchTaskExecutor") Executor searchTaskExecutor,
+                                  @Value("${search.deadline-ms:300}") long deadlineMs,
+                                  MeterRegistry meterRegistry) {
+        this.vocabularyService = vocabularyService;
+        this.dictionaryService = dictionaryService;
+        this.sentenceSearchService = sentenceSearchService;
+        this.searchTaskExecutor = searchTaskExecutor;
+        this.deadlineMs = deadlineMs;
+        this.searchTimer = Timer.builder("search.federated")
+                .description("Federated search duration, bounded by the shared deadline")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        for (Section section : Section.values()) {
+            incompleteCounters.put(section, Counter.builder("search.federated.incomplete")
+                    .description("Sections dropped from a federated search by timeout or failure")
+                    .tag("section", section.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public SearchResponseDTO search(String query) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        String trimmed = query.trim();
+
+        CompletableFuture<List<LemmaResponseDTO>> vocabulary =
+            submit(() -> vocabularyService.searchVocabulary(trimmed, 0, VOCABULARY_LIMIT));
+        CompletableFuture<List<DictionarySearchResultDTO>> dictionary =
+            submit(() -> searchDictionary(trimmed));
+        CompletableFuture<List<SentenceSearchResultDTO>> sentences =
+            submit(() -> sentenceSearchService.search(trimmed, SENTENCE_LIMIT));
+
+        List<Section> incomplete = new ArrayList<>();
+        List<LemmaResponseDTO> vocabularyHits = await(Section.VOCABULARY, vocabulary, deadline, trimmed, incomplete);
+        List<DictionarySearchResultDTO> dictionaryHits = await(Section.DICTIONARY, dictionary, deadline, trimmed, incomplete);
+        List<SentenceSearchResultDTO> sentenceHits = await(Section.SENTENCES, sentences, deadline, trimmed, incomplete);
+
+        long elapsed = System.nanoTime() - start;
+        searchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        return new SearchResponseDTO(trimmed, vocabularyHits, dictionaryHits, sentenceHits, incomplete,
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Exact form lookup first; the trigram fuzzy search only runs when nothing matched exactly.
+     */
+    private List<DictionarySearchResultDTO> searchDictionary(String query) {
+        List<DictionarySearchResultDTO> results = dictionaryService.searchByForm(query);
+        if (results.isEmpty()) {
+            results = dictionaryService.fuzzySearch(query);
+        }
+        return results.size() > DICTIONARY_LIMIT ? results.subList(0, DICTIONARY_LIMIT) : results;
+    }
+
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> lookup) {
+        return CompletableFuture.supplyAsync(lookup, searchTaskExecutor);
+    }
+
+    private <T> List<T> await(Section section, CompletableFuture<List<T>> future, long deadline,
+                              String query, List<Section> incomplete) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Federated search for '{}': {} missed the {}ms deadline", query, section, deadlineMs);
+        } catch (ExecutionException e) {
+            log.warn("Federated search for '{}': {} failed: {}", query, section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        incomplete.add(section);
+        incompleteCounters.get(section).increment();
+        return List.of();
+    }
+}
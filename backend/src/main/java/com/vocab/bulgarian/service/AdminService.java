@@ -6,7 +6,8 @@ import com.vocab.bulgarian.domain.enums.ProcessingStatus;
 import com.vocab.bulgarian.domain.enums.ReviewStatus;
 import com.vocab.bulgarian.domain.enums.SentenceStatus;
 import com.vocab.bulgarian.repository.LemmaRepository;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +23,15 @@ public class AdminService {
 
     private final LemmaRepository lemmaRepository;
     private final SentenceService sentenceService;
+    private final CacheManager cacheManager;
+    private final SecondLevelCacheService secondLevelCache;
 
-    public AdminService(LemmaRepository lemmaRepository, SentenceService sentenceService) {
+    public AdminService(LemmaRepository lemmaRepository, SentenceService sentenceService,
+                        CacheManager cacheManager, SecondLevelCacheService secondLevelCache) {
         this.lemmaRepository = lemmaRepository;
         this.sentenceService = sentenceService;
+        this.cacheManager = cacheManager;
+        this.secondLevelCache = secondLevelCache;
     }
 
     public AdminStatsDTO getStats() {
@@ -112,9 +118,14 @@ public class AdminService {
         return new ArrayList<>(groups.values());
     }
 
-    @CacheEvict(value = {"lemma", "lemmaList"}, allEntries = true)
-    @Transactional
+    /**
+     * Clear the LLM response caches (Redis) and the Hibernate second-level cache.
+     */
     public void clearCache() {
-        // Method body intentionally empty — @CacheEvict handles the work
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) cache.clear();
+        }
+        secondLevelCache.evictAll();
     }
 }
@@ -5,6 +5,10 @@ import com.vocab.bulgarian.domain.Lemma;
 import com.vocab.bulgarian.domain.enums.DifficultyLevel;
 import com.vocab.bulgarian.domain.enums.PartOfSpeech;
 import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.event.LemmaChangedEvent;
+import com.vocab.bulgarian.domain.event.LemmaStatusChangedEvent;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO.Stage;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
 import com.vocab.bulgarian.llm.dto.LemmaMetadata;
 import com.vocab.bulgarian.llm.dto.LlmProcessingResult;
 import com.vocab.bulgarian.llm.service.LlmOrchestrationService;
@@ -15,6 +19,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -22,6 +28,10 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +41,10 @@ import java.util.stream.Stream;
  * DB connections are held only during short fetch/save operations.
  * The slow Ollama LLM call runs outside any transaction so connections are
  * returned to the pool while inference is in progress.
+ *
+ * No lock is held across the LLM window either. TX 1 records the lemma version; if TX 2
+ * finds a different one, the user edited or reprocessed the lemma meanwhile and the result
+ * is merged without overwriting their edits, or dropped if a newer run owns the lemma.
  */
 @Service
 public class BackgroundProcessingService {
@@ -40,22 +54,39 @@ public class BackgroundProcessingService {
     private final LlmOrchestrationService llmOrchestrationService;
     private final TranslationService translationService;
     private final LemmaRepository lemmaRepository;
+    private final LemmaMergeService lemmaMergeService;
     private final TransactionTemplate txTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProcessingJobRegistry jobRegistry;
     private final Timer totalSuccessTimer;
     private final Timer totalFailureTimer;
     private final Counter successCounter;
     private final Counter failureCounter;
+    private final Counter conflictMergedCounter;
+    private final Counter conflictDiscardedCounter;
+    private final Counter conflictRetriedCounter;
+
+    // TX 2 attempts when a concurrent commit trips @Version between our read and write
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private enum SaveOutcome { COMPLETED, MERGED, DUPLICATE, FAILED, DISCARDED, MISSING, CONFLICTED }
 
     public BackgroundProcessingService(
             LlmOrchestrationService llmOrchestrationService,
             TranslationService translationService,
             LemmaRepository lemmaRepository,
+            LemmaMergeService lemmaMergeService,
             PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ProcessingJobRegistry jobRegistry,
             MeterRegistry meterRegistry) {
         this.llmOrchestrationService = llmOrchestrationService;
         this.translationService = translationService;
         this.lemmaRepository = lemmaRepository;
+        this.lemmaMergeService = lemmaMergeService;
         this.txTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.jobRegistry = jobRegistry;
         this.totalSuccessTimer = Timer.builder("vocab.processing.total")
                 .tag("outcome", "success")
                 .description("End-to-end word processing duration")
@@ -72,6 +103,47 @@ public class BackgroundProcessingService {
                 .tag("outcome", "failure")
                 .description("Words that failed processing")
                 .register(meterRegistry);
+        this.conflictMergedCounter = conflictCounter(meterRegistry, "merged",
+                "Results merged around user edits made during processing");
+        this.conflictDiscardedCounter = conflictCounter(meterRegistry, "discarded",
+                "Results dropped because the lemma was reprocessed during processing");
+        this.conflictRetriedCounter = conflictCounter(meterRegistry, "retried",
+                "Result saves retried after a concurrent commit");
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String resolution, String description) {
+        return Counter.builder("vocab.lemma.conflicts")
+                .tag("writer", "background")
+                .tag("resolution", resolution)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Process a batch of queued entries one after another on a single background thread.
+     * Bulk creates use this instead of one processLemma task per entry, so hundreds of
+     * words become one sequential stream of Ollama calls rather than hundreds of concurrent
+     * requests that would all sit in Ollama's queue until they hit the read timeout.
+     *
+     * Callers register the IDs with ProcessingJobRegistry.registerQueued when they submit the
+     * batch, so the queue position of later jobs accounts for it.
+     *
+     * @param lemmaIds IDs of lemmas in QUEUED status, processed in order
+     */
+    @Async("llmTaskExecutor")
+    public void processLemmas(List<Long> lemmaIds) {
+        logger.info("Background batch processing started — {} lemmas", lemmaIds.size());
+        for (Long lemmaId : lemmaIds) {
+            try {
+                // Self-invocation bypasses the @Async proxy, so each entry runs synchronously here
+                processLemma(lemmaId);
+            } catch (Exception e) {
+                logger.error("Background batch processing: lemma ID {} failed: {}", lemmaId, e.getMessage(), e);
+                // Otherwise the lemma's job would hold its queue slot until it is abandoned
+                jobRegistry.advance(lemmaId, Stage.FAILED, e.getMessage());
+            }
+        }
+        logger.info("Background batch processing finished — {} lemmas", lemmaIds.size());
     }
 
     /**
@@ -87,7 +159,7 @@ public class BackgroundProcessingService {
         logger.info("Background processing started — lemma ID: {}", lemmaId);
 
         // Short TX 1: fetch lemma, mark PROCESSING, release connection immediately
-        record WordInput(String text, String translationHint) {}
+        record WordInput(String text, String translationHint, Long version, EditableFields editable) {}
         WordInput wordInput = txTemplate.execute(status -> {
             Lemma lemma = lemmaRepository.findById(lemmaId).orElse(null);
             if (lemma == null) {
@@ -95,15 +167,21 @@ public class BackgroundProcessingService {
                 return null;
             }
             lemma.setProcessingStatus(ProcessingStatus.PROCESSING);
-            lemmaRepository.save(lemma);
+            // Flush so the version read below is the one TX 2 compares against
+            lemmaRepository.saveAndFlush(lemma);
+            publishStatus(lemma);
             // Combine translation + notes into a single hint string for LLM disambiguation
             String hint = Stream.of(lemma.getTranslation(), lemma.getNotes())
                 .filter(s -> s != null && !s.isBlank())
                 .collect(java.util.stream.Collectors.joining("; "));
-            return new WordInput(lemma.getText(), hint.isBlank() ? null : hint);
+            return new WordInput(lemma.getText(), hint.isBlank() ? null : hint, lemma.getVersion(),
+                EditableFields.of(lemma));
         });
 
-        if (wordInput == null) return;
+        if (wordInput == null) {
+            jobRegistry.advance(lemmaId, Stage.FAILED, "Lemma not found");
+            return;
+        }
         String userInput = wordInput.text();
         String translationHint = wordInput.translationHint();
 
@@ -117,7 +195,8 @@ public class BackgroundProcessingService {
             // Step 1: LLM pipeline (lemma detection + inflections + metadata)
             Instant step1Start = Instant.now();
             logger.info("[1/5] LLM pipeline starting for input: '{}'", userInput);
-            result = llmOrchestrationService.processNewWord(userInput, translationHint).get();
+            result = llmOrchestrationService.processNewWord(userInput, translationHint,
+                stage -> jobRegistry.advance(lemmaId, Stage.valueOf(stage.name()))).get();
             logger.info("[1/5] LLM pipeline completed in {}ms", Duration.between(step1Start, Instant.now()).toMillis());
 
             if (result.lemmaDetection() == null || result.lemmaDetection().lemma() == null) {
@@ -128,6 +207,7 @@ public class BackgroundProcessingService {
             logger.info("[2/5] Canonical lemma: '{}' → '{}'", userInput, detectedLemma);
 
             // Step 3: Translation (also outside TX — may involve a network call)
+            jobRegistry.advance(lemmaId, Stage.TRANSLATING);
             Instant step3Start = Instant.now();
             translation = translationService.translateWithFallback(detectedLemma, translationHint);
             logger.info("[3/5] Translation: '{}' ({}ms)", translation, Duration.between(step3Start, Instant.now()).toMillis());
@@ -143,83 +223,207 @@ public class BackgroundProcessingService {
         final String finalTranslation = translation;
         final String finalError = errorMessage;
 
-        txTemplate.execute(status -> {
-            Lemma lemma = lemmaRepository.findById(lemmaId).orElse(null);
-            if (lemma == null) {
-                logger.error("Lemma ID {} disappeared before results could be saved", lemmaId);
-                return null;
+        // Set when the entry turns out to exist already and is folded into it
+        AtomicReference<Long> survivorId = new AtomicReference<>();
+        SaveOutcome outcome = null;
+        for (int attempt = 1; outcome == null && attempt <= MAX_SAVE_ATTEMPTS; attempt++) {
+            try {
+                outcome = txTemplate.execute(status ->
+                    saveResults(lemmaId, wordInput.version(), wordInput.editable(),
+                        finalResult, finalTranslation, finalError, totalStart, survivorId));
+            } catch (OptimisticLockingFailureException e) {
+                // Someone committed between our read and our write; the next attempt sees their change
+                conflictRetriedCounter.increment();
+                logger.warn("Lemma ID {} changed while saving results (attempt {}/{})", lemmaId, attempt, MAX_SAVE_ATTEMPTS);
             }
+        }
+
+        if (outcome == null) {
+            // Left PROCESSING; StartupReprocessingService picks it up on the next start
+            logger.error("Lemma ID {}: results not saved after {} conflicting attempts", lemmaId, MAX_SAVE_ATTEMPTS);
+            outcome = SaveOutcome.CONFLICTED;
+        }
 
-            if (finalError != null) {
-                lemma.setProcessingStatus(ProcessingStatus.FAILED);
-                lemma.setProcessingError(finalError);
-                lemmaRepository.save(lemma);
+        // After commit, so a client that sees COMPLETED reads the saved results
+        switch (outcome) {
+            case COMPLETED, MERGED -> {
+                totalSample.stop(totalSuccessTimer);
+                successCounter.increment();
+                jobRegistry.advance(lemmaId, Stage.COMPLETED);
+            }
+            case DUPLICATE -> {
+                // The word was processed; its result is the entry it was folded into
+                totalSample.stop(totalSuccessTimer);
+                successCounter.increment();
+                jobRegistry.completeAs(lemmaId, survivorId.get());
+            }
+            case FAILED -> {
                 totalSample.stop(totalFailureTimer);
                 failureCounter.increment();
-                return null;
+                jobRegistry.advance(lemmaId, Stage.FAILED, finalError);
+            }
+            case MISSING -> jobRegistry.advance(lemmaId, Stage.FAILED, "Lemma was deleted during processing");
+            case CONFLICTED -> jobRegistry.advance(lemmaId, Stage.FAILED, "Concurrent edits prevented saving the results");
+            case DISCARDED -> {
+                // The newer run owns the lemma and its job
             }
+        }
+    }
 
-            // Step 2: Canonical lemma text
-            lemma.setText(finalResult.lemmaDetection().lemma());
+    /**
+     * Body of TX 2. Compares the lemma's version with the one recorded in TX 1:
+     * <ul>
+     *   <li>unchanged: apply the result as before;</li>
+     *   <li>changed and no longer PROCESSING (reprocessed, so QUEUED again): drop the result,
+     *       the newer run will write its own;</li>
+     *   <li>changed, still PROCESSING and the user-editable fields differ from the TX 1 snapshot
+     *       (the user edited it): merge, filling only what the user left empty. Their text,
+     *       inflections and metadata win;</li>
+     *   <li>changed but the editable fields match (a review flag, a sentence batch, a dictionary
+     *       link): apply the result as if unchanged.</li>
+     * </ul>
+     * If the canonical lemma turns out to be an entry that already exists (same text, source
+     * and notes, which the unique index would reject), this entry is folded into it instead
+     * and the surviving id is left in {@code survivorId}.
+     */
+    private SaveOutcome saveResults(Long lemmaId, Long expectedVersion, EditableFields editableBefore,
+                                    LlmProcessingResult finalResult, String finalTranslation, String finalError,
+                                    Instant totalStart, AtomicReference<Long> survivorId) {
+        Lemma lemma = lemmaRepository.findById(lemmaId).orElse(null);
+        if (lemma == null) {
+            logger.error("Lemma ID {} disappeared before results could be saved", lemmaId);
+            return SaveOutcome.MISSING;
+        }
+
+        boolean versionChanged = !Objects.equals(lemma.getVersion(), expectedVersion);
+        if (versionChanged && lemma.getProcessingStatus() != ProcessingStatus.PROCESSING) {
+            logger.warn("Lemma ID {} was reprocessed during processing (status {}), dropping this result",
+                lemmaId, lemma.getProcessingStatus());
+            conflictDiscardedCounter.increment();
+            return SaveOutcome.DISCARDED;
+        }
+
+        // Other writers bump the version too; only a change to what the user edits means a merge
+        boolean merge = versionChanged && !editableBefore.equals(EditableFields.of(lemma));
+
+        if (finalError != null) {
+            lemma.setProcessingStatus(ProcessingStatus.FAILED);
+            lemma.setProcessingError(finalError);
+            lemmaRepository.save(lemma);
+            publishStatus(lemma);
+            return SaveOutcome.FAILED;
+        }
 
-            // Step 3: Translation
-            if (finalTranslation != null && (lemma.getTranslation() == null || lemma.getTranslation().isBlank())) {
-                lemma.setTranslation(finalTranslation);
+        if (merge) {
+            logger.info("Lemma ID {} was edited during processing (version {} -> {}), merging around the edits",
+                lemmaId, expectedVersion, lemma.getVersion());
+            conflictMergedCounter.increment();
+        }
+
+        // Step 2: Canonical lemma text
+        if (!merge) {
+            String detected = finalResult.lemmaDetection().lemma();
+            Lemma existing = lemmaRepository.findSameEntry(detected, lemma.getSource(),
+                lemma.getNotes() != null ? lemma.getNotes() : "", lemmaId).orElse(null);
+            if (existing != null) {
+                // Typed an inflected form the create-time check did not know about yet
+                logger.info("Lemma ID {} resolved to existing lemma ID {} ('{}'), merging into it",
+                    lemmaId, existing.getId(), detected);
+                lemmaMergeService.mergeInto(Map.of(lemmaId, existing.getId()));
+                eventPublisher.publishEvent(LemmaChangedEvent.deleted(lemmaId));
+                eventPublisher.publishEvent(LemmaChangedEvent.updated(existing.getId()));
+                // SSE clients still show this row as PROCESSING; tell them it is gone
+                eventPublisher.publishEvent(LemmaStatusChangedEvent.deleted(lemmaId));
+                survivorId.set(existing.getId());
+                return SaveOutcome.DUPLICATE;
             }
+            lemma.setText(detected);
+        }
 
-            // Step 4: Inflections
-            Instant step4Start = Instant.now();
-            if (finalResult.inflections() != null && !finalResult.inflections().inflections().isEmpty()) {
-                lemma.getInflections().clear();
-                for (var entry : finalResult.inflections().inflections()) {
-                    Inflection inflection = new Inflection();
-                    inflection.setForm(entry.text());
-                    inflection.setGrammaticalInfo(entry.grammaticalTags());
-                    inflection.setDifficultyLevel(entry.difficultyLevel());
-                    lemma.addInflection(inflection);
-                }
-                logger.info("[4/5] {} inflections applied ({}ms)",
-                    finalResult.inflections().inflections().size(), Duration.between(step4Start, Instant.now()).toMillis());
-            } else {
-                logger.warn("[4/5] No inflections generated for lemma: '{}'", lemma.getText());
+        // Step 3: Translation
+        if (finalTranslation != null && (lemma.getTranslation() == null || lemma.getTranslation().isBlank())) {
+            lemma.setTranslation(finalTranslation);
+        }
+
+        // Step 4: Inflections
+        Instant step4Start = Instant.now();
+        if (finalResult.inflections() != null && !finalResult.inflections().inflections().isEmpty()
+                && (!merge || lemma.getInflections().isEmpty())) {
+            lemma.getInflections().clear();
+            for (var entry : finalResult.inflections().inflections()) {
+                Inflection inflection = new Inflection();
+                inflection.setForm(entry.text());
+                inflection.setGrammaticalInfo(entry.grammaticalTags());
+                inflection.setDifficultyLevel(entry.difficultyLevel());
+                lemma.addInflection(inflection);
             }
+            logger.info("[4/5] {} inflections applied ({}ms)",
+                finalResult.inflections().inflections().size(), Duration.between(step4Start, Instant.now()).toMillis());
+        } else if (merge) {
+            logger.info("[4/5] Keeping the {} inflections entered during processing", lemma.getInflections().size());
+        } else {
+            logger.warn("[4/5] No inflections generated for lemma: '{}'", lemma.getText());
+        }
 
-            // Step 5: Metadata
-            Instant step5Start = Instant.now();
-            if (finalResult.metadata() != null) {
-                LemmaMetadata metadata = finalResult.metadata();
-                if (metadata.partOfSpeech() != null && !metadata.partOfSpeech().isBlank()) {
-                    try {
-                        lemma.setPartOfSpeech(PartOfSpeech.valueOf(metadata.partOfSpeech().toUpperCase()));
-                    } catch (IllegalArgumentException e) {
-                        logger.warn("[5/5] Invalid part of speech '{}', leaving null", metadata.partOfSpeech());
-                    }
+        // Step 5: Metadata
+        Instant step5Start = Instant.now();
+        if (finalResult.metadata() != null) {
+            LemmaMetadata metadata = finalResult.metadata();
+            if (metadata.partOfSpeech() != null && !metadata.partOfSpeech().isBlank()
+                    && (!merge || lemma.getPartOfSpeech() == null)) {
+                try {
+                    lemma.setPartOfSpeech(PartOfSpeech.valueOf(metadata.partOfSpeech().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    logger.warn("[5/5] Invalid part of speech '{}', leaving null", metadata.partOfSpeech());
                 }
-                if (metadata.category() != null && !metadata.category().isBlank()) {
-                    lemma.setCategory(metadata.category());
-                }
-                if (metadata.difficultyLevel() != null && !metadata.difficultyLevel().isBlank()) {
-                    try {
-                        lemma.setDifficultyLevel(DifficultyLevel.valueOf(metadata.difficultyLevel().toUpperCase()));
-                    } catch (IllegalArgumentException e) {
-                        logger.warn("[5/5] Invalid difficulty level '{}', leaving null", metadata.difficultyLevel());
-                    }
+            }
+            if (metadata.category() != null && !metadata.category().isBlank()
+                    && (!merge || lemma.getCategory() == null)) {
+                lemma.setCategory(metadata.category());
+            }
+            if (metadata.difficultyLevel() != null && !metadata.difficultyLevel().isBlank()
+                    && (!merge || lemma.getDifficultyLevel() == null)) {
+                try {
+                    lemma.setDifficultyLevel(DifficultyLevel.valueOf(metadata.difficultyLevel().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    logger.warn("[5/5] Invalid difficulty level '{}', leaving null", metadata.difficultyLevel());
                 }
-                logger.info("[5/5] Metadata applied — POS: {}, category: {}, difficulty: {} ({}ms)",
-                    lemma.getPartOfSpeech(), lemma.getCategory(), lemma.getDifficultyLevel(),
-                    Duration.between(step5Start, Instant.now()).toMillis());
             }
+            logger.info("[5/5] Metadata applied — POS: {}, category: {}, difficulty: {} ({}ms)",
+                lemma.getPartOfSpeech(), lemma.getCategory(), lemma.getDifficultyLevel(),
+                Duration.between(step5Start, Instant.now()).toMillis());
+        }
 
-            lemma.setProcessingStatus(ProcessingStatus.COMPLETED);
-            lemma.setProcessingError(null);
-            lemmaRepository.save(lemma);
+        lemma.setProcessingStatus(ProcessingStatus.COMPLETED);
+        lemma.setProcessingError(null);
+        lemmaRepository.save(lemma);
+        eventPublisher.publishEvent(LemmaChangedEvent.updated(lemmaId));
+        publishStatus(lemma);
 
-            totalSample.stop(totalSuccessTimer);
-            successCounter.increment();
-            logger.info("Background processing COMPLETED — lemma ID: {}, '{}', total: {}ms",
-                lemmaId, lemma.getText(), Duration.between(totalStart, Instant.now()).toMillis());
+        logger.info("Background processing COMPLETED — lemma ID: {}, '{}', total: {}ms",
+            lemmaId, lemma.getText(), Duration.between(totalStart, Instant.now()).toMillis());
 
-            return null;
-        });
+        return merge ? SaveOutcome.MERGED : SaveOutcome.COMPLETED;
+    }
+
+    /**
+     * The fields a user can edit while the lemma is processing, as TX 1 saw them.
+     */
+    private record EditableFields(String text, String translation, String notes, PartOfSpeech partOfSpeech,
+                                  String category, DifficultyLevel difficultyLevel, List<String> inflections) {
+
+        static EditableFields of(Lemma lemma) {
+            return new EditableFields(lemma.getText(), lemma.getTranslation(), lemma.getNotes(),
+                lemma.getPartOfSpeech(), lemma.getCategory(), lemma.getDifficultyLevel(),
+                lemma.getInflections().stream()
+                    .map(i -> i.getForm() + "|" + i.getGrammaticalInfo())
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private void publishStatus(Lemma lemma) {
+        eventPublisher.publishEvent(new LemmaStatusChangedEvent(
+            lemma.getId(), lemma.getProcessingStatus(), lemma.getSentenceStatus()));
     }
 }
@@ -0,0 +1,71 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.domain.Lemma;
+import com.vocab.bulgarian.repository.LemmaSpecifications;
+import com.vocab.bulgarian.service.VocabularyService.BrowseSort;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a browse page: its sort key and id.
+ *
+ * Encoded as an opaque URL-safe token that also records the sort and direction it was
+ * issued for, so a cursor cannot be replayed against a different ordering.
+ */
+record BrowseCursor(BrowseSort sort, Sort.Direction direction, long id, String value) {
+
+    private static final String SEPARATOR = "\n";
+
+    static BrowseCursor after(Lemma lemma, BrowseSort sort, Sort.Direction direction) {
+        String value = switch (sort) {
+            case TEXT -> lemma.getText();
+            case CREATED_AT -> lemma.getCreatedAt().toString();
+            case UPDATED_AT -> lemma.getUpdatedAt().toString();
+        };
+        return new BrowseCursor(sort, direction, lemma.getId(), value);
+    }
+
+    /**
+     * @throws IllegalStateException if the token is malformed or was issued for another ordering
+     */
+    static BrowseCursor decode(String token, BrowseSort sort, Sort.Direction direction) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .split(SEPARATOR, 4);
+            if (parts.length != 4) throw new IllegalArgumentException("wrong part count");
+            BrowseCursor cursor = new BrowseCursor(BrowseSort.valueOf(parts[0]), Sort.Direction.valueOf(parts[1]),
+                Long.parseLong(parts[2]), parts[3]);
+            if (cursor.sort != sort || cursor.direction != direction) {
+                throw new IllegalStateException("Cursor was issued for a different sort order");
+            }
+            if (sort != BrowseSort.TEXT) {
+                LocalDateTime.parse(cursor.value);
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalStateException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, sort.name(), direction.name(), Long.toString(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows strictly after this position.
+     */
+    Specification<Lemma> seek() {
+        boolean descending = direction.isDescending();
+        return switch (sort) {
+            case TEXT -> LemmaSpecifications.after(sort.attribute(), value, id, descending);
+            case CREATED_AT, UPDATED_AT ->
+                LemmaSpecifications.after(sort.attribute(), LocalDateTime.parse(value), id, descending);
+        };
+    }
+}
@@ -0,0 +1,448 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.api.dto.BulkCreateResultDTO;
+import com.vocab.bulgarian.api.dto.BulkCreateResultDTO.ItemDTO;
+import com.vocab.bulgarian.api.dto.BulkCreateResultDTO.Status;
+import com.vocab.bulgarian.api.dto.CreateLemmaRequestDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import com.vocab.bulgarian.dictionary.service.DictionaryService;
+import com.vocab.bulgarian.dictionary.service.DictionarySnapshotService;
+import com.vocab.bulgarian.dictionary.service.DictionarySuggestionIndex;
+import com.vocab.bulgarian.domain.enums.PartOfSpeech;
+import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.enums.ReviewStatus;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many vocabulary entries in one transaction with a fixed number of statements.
+ *
+ * Each entry follows the same rules as VocabularyService.createVocabulary (duplicate check,
+ * dictionary first, LLM as fallback), but the work is set-based:
+ * one query for existing duplicates of the typed forms, one for dictionary matches, one
+ * batched word load, one for existing lemmas of the picked words, then JDBC batch inserts
+ * for lemmas and inflections. Leftovers that need the LLM are
+ * handed to BackgroundProcessingService as a single sequential batch after commit.
+ */
+@Service
+public class BulkVocabularyService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkVocabularyService.class);
+
+    // Same limit as lemmas.text
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    // Keys are NFC like stored lemma text (see VocabularyService.rejectLikelyDuplicate)
+    private static final String EXISTING_SQL = """
+        SELECT k.key, l.id, l.text, l.notes, lower(l.text) = k.key AS headword
+        FROM unnest(CAST(:keys AS text[])) AS k(key)
+        JOIN LATERAL (
+            SELECT id FROM lemmas WHERE lower(text) = k.key
+            UNION
+            SELECT lemma_id FROM inflections WHERE lower(form) = k.key
+            ORDER BY 1
+            LIMIT 10
+        ) m ON true
+        JOIN lemmas l ON l.id = m.id
+        ORDER BY k.key, l.id
+        """;
+
+    // Set-based LemmaRepository.findByDictionaryWordIdOrText: linked to the word or saved under its headword
+    private static final String EXISTING_WORD_SQL = """
+        SELECT w.word_id, l.id, l.text, l.notes
+        FROM unnest(CAST(:wordIds AS bigint[]), CAST(:headwords AS text[])) AS w(word_id, headword)
+        JOIN LATERAL (
+            SELECT id FROM lemmas WHERE dictionary_word_id = w.word_id
+            UNION
+            SELECT id FROM lemmas WHERE lower(text) = w.headword
+        ) m ON true
+        JOIN lemmas l ON l.id = m.id
+        ORDER BY w.word_id, l.id
+        """;
+
+    // Keys are normalizeKey output, like plain_form; most frequent homograph first per key
+    private static final String DICTIONARY_MATCH_SQL = """
+        SELECT k.key, w.id, w.frequency_rank
+        FROM unnest(CAST(:keys AS text[])) AS k(key)
+        JOIN LATERAL (
+            SELECT word_id AS id FROM dictionary_forms WHERE plain_form = k.key
+            UNION
+            SELECT id FROM dictionary_words WHERE word = k.key
+        ) m ON true
+        JOIN dictionary_words w ON w.id = m.id
+        ORDER BY k.key, w.frequency_rank NULLS LAST, w.id
+        """;
+
+    // Ids are pre-allocated so lemma and inflection rows can be batched without RETURNING
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval(pg_get_serial_sequence('lemmas', 'id')) FROM generate_series(1, :count)";
+
+    // ON CONFLICT covers idx_lemmas_text_source_notes (same text, source and notes)
+    private static final String INSERT_LEMMA_SQL = """
+        INSERT INTO lemmas (id, text, translation, notes, part_of_speech, source, review_status,
+                            processing_status, dictionary_word_id, created_at, updated_at)
+        VALUES (:id, :text, :translation, :notes, :partOfSpeech, 'USER_ENTERED', :reviewStatus,
+                :processingStatus, :dictionaryWordId, NOW(), NOW())
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DictionaryService dictionaryService;
+    private final DictionarySnapshotService dictionarySnapshotService;
+    private final KnownFormFilter knownFormFilter;
+    private final DictionarySuggestionIndex suggestionIndex;
+    private final BackgroundProcessingService backgroundProcessingService;
+    private final SecondLevelCacheService secondLevelCache;
+    private final ProcessingJobRegistry jobRegistry;
+
+    public BulkVocabularyService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 DictionaryService dictionaryService,
+                                 DictionarySnapshotService dictionarySnapshotService,
+                                 KnownFormFilter knownFormFilter,
+                                 DictionarySuggestionIndex suggestionIndex,
+                                 BackgroundProcessingService backgroundProcessingService,
+                                 SecondLevelCacheService secondLevelCache,
+                                 ProcessingJobRegistry jobRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dictionaryService = dictionaryService;
+        this.dictionarySnapshotService = dictionarySnapshotService;
+        this.knownFormFilter = knownFormFilter;
+        this.suggestionIndex = suggestionIndex;
+        this.backgroundProcessingService = backgroundProcessingService;
+        this.secondLevelCache = secondLevelCache;
+        this.jobRegistry = jobRegistry;
+    }
+
+    /**
+     * Create every entry that is not a duplicate; the result has one item per entry, in order.
+     */
+    @Transactional
+    public BulkCreateResultDTO createAll(List<CreateLemmaRequestDTO> entries) {
+        long start = System.nanoTime();
+        ItemDTO[] items = new ItemDTO[entries.size()];
+
+        List<Entry> pending = normalize(entries, items);
+        pending = rejectExisting(pending, items);
+        Map<Long, DictionarySearchResultDTO> wordsById = resolveDictionaryWords(pending);
+        pending = rejectExistingWords(pending, wordsById, items);
+
+        List<Long> queuedIds = insert(pending, wordsById, items);
+
+        BulkCreateResultDTO result = summarize(Arrays.asList(items));
+        if (result.created() + result.queued() > 0) {
+            secondLevelCache.lemmasInserted();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // Bulk inserts bypass LemmaChangedEvent; refresh the in-memory indexes once
+                    knownFormFilter.reload();
+                    suggestionIndex.reload();
+                    if (!queuedIds.isEmpty()) {
+                        jobRegistry.registerQueued(queuedIds, JobStatusDTO.Type.CREATE);
+                        backgroundProcessingService.processLemmas(queuedIds);
+                    }
+                }
+            });
+        }
+
+        log.info("Bulk create: {} entries -> {} created, {} queued, {} duplicates, {} invalid ({}ms)",
+                entries.size(), result.created(), result.queued(), result.duplicates(), result.invalid(),
+                (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Validate and normalize entries; repeats of an earlier entry (same form, no notes) are duplicates.
+     */
+    private List<Entry> normalize(List<CreateLemmaRequestDTO> entries, ItemDTO[] items) {
+        List<Entry> pending = new ArrayList<>();
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            CreateLemmaRequestDTO request = entries.get(i);
+            String wordForm = request.wordForm() != null ? request.wordForm().trim().toLowerCase() : "";
+            if (wordForm.isEmpty() || wordForm.length() > MAX_TEXT_LENGTH) {
+                items[i] = new ItemDTO(i, request.wordForm(), Status.INVALID, null, null,
+                        "Word form must be 1-" + MAX_TEXT_LENGTH + " characters");
+                continue;
+            }
+            Entry entry = new Entry(i, request, wordForm, DictionarySnapshotService.normalizeKey(wordForm));
+            if (entry.checksDuplicates()) {
+                Integer first = firstIndexByKey.putIfAbsent(entry.key, i);
+                if (first != null) {
+                    items[i] = new ItemDTO(i, wordForm, Status.DUPLICATE, null, null,
+                            "Same word as entry " + first + " of this request");
+                    continue;
+                }
+            }
+            pending.add(entry);
+        }
+        return pending;
+    }
+
+    /**
+     * One query for every entry the known-form filter cannot rule out.
+     */
+    private List<Entry> rejectExisting(List<Entry> pending, ItemDTO[] items) {
+        List<String> keys = pending.stream()
+            .filter(Entry::checksExisting)
+            .filter(e -> knownFormFilter.mightBeKnown(e.wordForm))
+            .map(Entry::lemmaKey)
+            .distinct()
+            .toList();
+        if (keys.isEmpty()) return pending;
+
+        Map<String, List<ExistingMatch>> existing = new HashMap<>();
+        jdbcTemplate.query(EXISTING_SQL, new MapSqlParameterSource("keys", keys.toArray(String[]::new)), rs -> {
+            existing.computeIfAbsent(rs.getString("key"), k -> new ArrayList<>()).add(new ExistingMatch(
+                rs.getLong("id"), rs.getString("text"), rs.getString("notes"), rs.getBoolean("headword")));
+        });
+
+        List<Entry> remaining = new ArrayList<>();
+        for (Entry entry : pending) {
+            ExistingMatch match = !entry.checksExisting() ? null : existing.getOrDefault(entry.lemmaKey(), List.of()).stream()
+                .filter(m -> VocabularyService.isDuplicate(m.headword(), m.notes(), entry.request.notes()))
+                .findFirst()
+                .orElse(null);
+            if (match != null) {
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.DUPLICATE,
+                        match.id(), match.text(), "Already in vocabulary");
+            } else {
+                remaining.add(entry);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Pick a dictionary word per entry (explicit id, single match or dominant homograph) and
+     * load all picked words in one batch. Entries left without a word go to the LLM.
+     */
+    private Map<Long, DictionarySearchResultDTO> resolveDictionaryWords(List<Entry> pending) {
+        // The snapshot knows every dictionary form, so certain misses skip the database
+        List<String> keys = pending.stream()
+            .filter(e -> e.request.dictionaryWordId() == null)
+            .filter(e -> dictionarySnapshotService.containsForm(e.wordForm))
+            .map(e -> e.key)
+            .distinct()
+            .toList();
+
+        Map<String, List<Integer>> ranksByKey = new HashMap<>();
+        Map<String, Long> firstWordByKey = new HashMap<>();
+        if (!keys.isEmpty()) {
+            jdbcTemplate.query(DICTIONARY_MATCH_SQL, new MapSqlParameterSource("keys", keys.toArray(String[]::new)), rs -> {
+                String key = rs.getString("key");
+                firstWordByKey.putIfAbsent(key, rs.getLong("id"));
+                ranksByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(rs.getObject("frequency_rank", Integer.class));
+            });
+        }
+
+        Set<Long> wordIds = new HashSet<>();
+        for (Entry entry : pending) {
+            if (entry.request.dictionaryWordId() != null) {
+                entry.dictionaryWordId = entry.request.dictionaryWordId();
+            } else {
+                List<Integer> ranks = ranksByKey.get(entry.key);
+                if (ranks != null && (ranks.size() == 1 || VocabularyService.dominates(ranks.get(0), ranks.get(1)))) {
+                    entry.dictionaryWordId = firstWordByKey.get(entry.key);
+                }
+            }
+            if (entry.dictionaryWordId != null) wordIds.add(entry.dictionaryWordId);
+        }
+        if (wordIds.isEmpty()) return Map.of();
+
+        return dictionaryService.getByIds(new ArrayList<>(wordIds)).stream()
+            .collect(Collectors.toMap(DictionarySearchResultDTO::dictionaryWordId, Function.identity()));
+    }
+
+    /**
+     * Entries resolved to a dictionary word, whether picked or auto-resolved, get the single
+     * create check (VocabularyService.rejectExistingDictionaryWord) in one query: a lemma
+     * already linked to the word or saved under its headword is a duplicate unless the notes
+     * make this a deliberate homograph. Two entries of this request resolving to the same
+     * word follow the same rule.
+     */
+    private List<Entry> rejectExistingWords(List<Entry> pending, Map<Long, DictionarySearchResultDTO> wordsById,
+                                            ItemDTO[] items) {
+        if (wordsById.isEmpty()) return pending;
+
+        List<Long> wordIds = new ArrayList<>(wordsById.keySet());
+        String[] headwords = wordIds.stream().map(id -> wordsById.get(id).word().toLowerCase()).toArray(String[]::new);
+        Map<Long, List<ExistingMatch>> existing = new HashMap<>();
+        jdbcTemplate.query(EXISTING_WORD_SQL, new MapSqlParameterSource()
+                .addValue("wordIds", wordIds.toArray(Long[]::new))
+                .addValue("headwords", headwords), rs -> {
+            existing.computeIfAbsent(rs.getLong("word_id"), k -> new ArrayList<>()).add(new ExistingMatch(
+                rs.getLong("id"), rs.getString("text"), rs.getString("notes"), true));
+        });
+
+        List<Entry> remaining = new ArrayList<>();
+        Map<Long, List<Entry>> earlierByWord = new HashMap<>();
+        for (Entry entry : pending) {
+            if (entry.dictionaryWordId == null || !wordsById.containsKey(entry.dictionaryWordId)) {
+                remaining.add(entry);
+                continue;
+            }
+            String notes = entry.request.notes();
+            ExistingMatch match = existing.getOrDefault(entry.dictionaryWordId, List.of()).stream()
+                .filter(m -> VocabularyService.isDuplicate(true, m.notes(), notes))
+                .findFirst()
+                .orElse(null);
+            Entry earlier = earlierByWord.getOrDefault(entry.dictionaryWordId, List.of()).stream()
+                .filter(e -> VocabularyService.isDuplicate(true, e.request.notes(), notes))
+                .findFirst()
+                .orElse(null);
+            if (match != null) {
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.DUPLICATE,
+                        match.id(), match.text(), "Already in vocabulary");
+            } else if (earlier != null) {
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.DUPLICATE, null,
+                        wordsById.get(entry.dictionaryWordId).word(),
+                        "Same word as entry " + earlier.index + " of this request");
+            } else {
+                earlierByWord.computeIfAbsent(entry.dictionaryWordId, k -> new ArrayList<>()).add(entry);
+                remaining.add(entry);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Batch-insert lemmas and dictionary inflections.
+     *
+     * @return ids of inserted lemmas that need LLM processing, in request order
+     */
+    private List<Long> insert(List<Entry> pending, Map<Long, DictionarySearchResultDTO> wordsById, ItemDTO[] items) {
+        if (pending.isEmpty()) return List.of();
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL,
+            new MapSqlParameterSource("count", pending.size()), Long.class);
+
+        Map<Long, Entry> entriesById = new LinkedHashMap<>();
+        List<SqlParameterSource> lemmaRows = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            Entry entry = pending.get(i);
+            entry.word = entry.dictionaryWordId != null ? wordsById.get(entry.dictionaryWordId) : null;
+            entriesById.put(ids.get(i), entry);
+            lemmaRows.add(lemmaParams(ids.get(i), entry));
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEMMA_SQL, lemmaRows.toArray(SqlParameterSource[]::new));
+
+        // Rows skipped by ON CONFLICT are the ids that did not make it in
+        Set<Long> inserted = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM lemmas WHERE id = ANY(:ids)",
+            new MapSqlParameterSource("ids", ids.toArray(Long[]::new)), Long.class));
+
+        List<SqlParameterSource> inflectionRows = new ArrayList<>();
+        List<Long> queuedIds = new ArrayList<>();
+        entriesById.forEach((id, entry) -> {
+            String text = entry.word != null ? entry.word.word() : entry.wordForm;
+            if (!inserted.contains(id)) {
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.DUPLICATE, null, text,
+                        "An entry with this word and notes already exists");
+            } else if (entry.word != null) {
+                entry.word.forms().forEach(f -> inflectionRows.add(DictionaryLinkService.inflectionParams(id, f)));
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.CREATED, id, text, null);
+            } else {
+                queuedIds.add(id);
+                items[entry.index] = new ItemDTO(entry.index, entry.wordForm, Status.QUEUED, id, text, null);
+            }
+        });
+        if (!inflectionRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(DictionaryLinkService.INSERT_INFLECTION_SQL,
+                inflectionRows.toArray(SqlParameterSource[]::new));
+        }
+        return queuedIds;
+    }
+
+    private static SqlParameterSource lemmaParams(Long id, Entry entry) {
+        CreateLemmaRequestDTO request = entry.request;
+        String translation = request.translation() != null && !request.translation().isBlank()
+            ? request.translation() : null;
+        var params = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("notes", request.notes());
+        if (entry.word != null) {
+            PartOfSpeech pos = PartOfSpeech.fromKaikki(entry.word.pos());
+            return params
+                .addValue("text", entry.word.word())
+                .addValue("translation", translation != null ? translation : entry.word.primaryTranslation())
+                .addValue("partOfSpeech", pos != null ? pos.name() : null)
+                .addValue("reviewStatus", ReviewStatus.REVIEWED.name()) // Dictionary data is authoritative
+                .addValue("processingStatus", ProcessingStatus.COMPLETED.name())
+                .addValue("dictionaryWordId", entry.word.dictionaryWordId());
+        }
+        return params
+            .addValue("text", entry.wordForm)
+            .addValue("translation", translation)
+            .addValue("partOfSpeech", null)
+            .addValue("reviewStatus", ReviewStatus.PENDING.name())
+            .addValue("processingStatus", ProcessingStatus.QUEUED.name())
+            .addValue("dictionaryWordId", null);
+    }
+
+    private static BulkCreateResultDTO summarize(List<ItemDTO> items) {
+        Map<Status, Long> counts = items.stream().collect(Collectors.groupingBy(ItemDTO::status, Collectors.counting()));
+        return new BulkCreateResultDTO(
+            counts.getOrDefault(Status.CREATED, 0L).intValue(),
+            counts.getOrDefault(Status.QUEUED, 0L).intValue(),
+            counts.getOrDefault(Status.DUPLICATE, 0L).intValue(),
+            counts.getOrDefault(Status.INVALID, 0L).intValue(),
+            items);
+    }
+
+    private record ExistingMatch(long id, String text, String notes, boolean headword) {}
+
+    private static final class Entry {
+        final int index;
+        final CreateLemmaRequestDTO request;
+        final String wordForm;
+        final String key;
+        Long dictionaryWordId;
+        DictionarySearchResultDTO word;
+
+        Entry(int index, CreateLemmaRequestDTO request, String wordForm, String key) {
+            this.index = index;
+            this.request = request;
+            this.wordForm = wordForm;
+            this.key = key;
+        }
+
+        /** Repeats within one request: notes mark a deliberate homograph, a picked word skips the check. */
+        boolean checksDuplicates() {
+            return request.dictionaryWordId() == null && (request.notes() == null || request.notes().isBlank());
+        }
+
+        /**
+         * Existing lemmas by the typed form: same rule as single create (VocabularyService.isDuplicate).
+         * A picked word is checked by the word itself once resolved (rejectExistingWords).
+         */
+        boolean checksExisting() {
+            return request.dictionaryWordId() == null;
+        }
+
+        /** Lemma text is stored NFC; normalizeKey decomposes. */
+        String lemmaKey() {
+            return Normalizer.normalize(key, Normalizer.Form.NFC);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vocab.bulgarian.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counting Bloom filter over 64-bit key hashes, so entries can be removed as well as added.
+ * Each cell is an unsigned byte counter; a counter that reaches 255 sticks there and is never
+ * decremented, which can only cause a false positive, never a false negative.
+ * Not thread-safe; callers synchronize.
+ */
+final class CountingBloomFilter {
+
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashCount;
+    private final int capacity;
+
+    /**
+     * @param capacity           number of keys the filter is sized for
+     * @param falsePositiveRate  target false-positive probability at capacity
+     */
+    CountingBloomFilter(int capacity, double falsePositiveRate) {
+        this.capacity = Math.max(capacity, 1);
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long cells = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Math.max(cells, 64), Integer.MAX_VALUE - 8)];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / this.capacity * Math.log(2)));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int cell = index(h1 + i * h2);
+            if ((counters[cell] & 0xFF) != SATURATED) counters[cell]++;
+        }
+    }
+
+    void remove(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int cell = index(h1 + i * h2);
+            int count = counters[cell] & 0xFF;
+            if (count != 0 && count != SATURATED) counters[cell]--;
+        }
+    }
+
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[index(h1 + i * h2)] == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes followed by a murmur3 finalizer, so both halves
+     * used for double hashing are well mixed.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % counters.length;
+    }
+}
@@ -0,0 +1,263 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.api.dto.DictionaryLinkReportDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionaryFormDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import com.vocab.bulgarian.dictionary.service.DictionaryService;
+import com.vocab.bulgarian.dictionary.service.DictionarySnapshotService;
+import com.vocab.bulgarian.dictionary.service.DictionarySuggestionIndex;
+import com.vocab.bulgarian.domain.enums.PartOfSpeech;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Links lemmas with no dictionary_word_id (pre-V15 or LLM-created) to Kaikki entries.
+ *
+ * Walks the unlinked lemmas in keyset pages, one transaction per page. Each page costs a
+ * fixed number of statements regardless of its size: one set-based match on
+ * (text, Kaikki POS), one batched dictionary load, one inflection load, one bulk link
+ * UPDATE and, when inflections are rewritten, one DELETE and one JDBC batch INSERT.
+ * Only unambiguous matches are linked; homographs are counted and left for manual review.
+ */
+@Service
+public class DictionaryLinkService {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionaryLinkService.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * What to do with a linked lemma's existing (LLM-generated) inflections.
+     */
+    public enum InflectionMode {
+        /** Link only; inflections are untouched and the diff is informational. */
+        NONE,
+        /** Add dictionary forms the lemma is missing; keep everything it has. */
+        MERGE,
+        /** Replace all inflections with the dictionary's forms. */
+        REPLACE
+    }
+
+    // The lemma text is normalized the way KaikkiImportService stores headwords (stripAccents)
+    private static final String MATCH_PAGE_SQL = """
+        WITH pos_map AS (
+            SELECT * FROM unnest(CAST(:lemmaPos AS text[]), CAST(:kaikkiPos AS text[])) AS m(part_of_speech, pos)
+        ), page AS (
+            SELECT id, text, part_of_speech FROM lemmas
+            WHERE dictionary_word_id IS NULL AND id > :afterId
+            ORDER BY id
+            LIMIT :pageSize
+        ), matches AS (
+            SELECT p.id AS lemma_id, w.id AS word_id,
+                   COUNT(w.id) OVER (PARTITION BY p.id) AS candidates,
+                   ROW_NUMBER() OVER (PARTITION BY p.id ORDER BY w.frequency_rank NULLS LAST, w.id) AS rn
+            FROM page p
+            LEFT JOIN pos_map m ON m.part_of_speech = p.part_of_speech
+            LEFT JOIN dictionary_words w
+                   ON w.word = replace(normalize(lower(p.text), NFD), U&'\\0301', '')
+                  AND (m.pos IS NULL OR w.pos = m.pos)
+        )
+        SELECT p.id, p.text, m.word_id, m.candidates
+        FROM page p
+        JOIN matches m ON m.lemma_id = p.id AND m.rn = 1
+        ORDER BY p.id
+        """;
+
+    private static final String LINK_SQL = """
+        UPDATE lemmas SET dictionary_word_id = l.word_id, updated_at = NOW(), version = version + 1
+        FROM unnest(CAST(:lemmaIds AS bigint[]), CAST(:wordIds AS bigint[])) AS l(lemma_id, word_id)
+        WHERE lemmas.id = l.lemma_id AND lemmas.dictionary_word_id IS NULL
+        """;
+
+    static final String INSERT_INFLECTION_SQL =
+        "INSERT INTO inflections (lemma_id, form, accented_form, grammatical_info, created_at) " +
+        "VALUES (:lemmaId, :form, :accentedForm, :grammaticalInfo, NOW())";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DictionaryService dictionaryService;
+    private final KnownFormFilter knownFormFilter;
+    private final DictionarySuggestionIndex suggestionIndex;
+    private final SecondLevelCacheService secondLevelCache;
+
+    public DictionaryLinkService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 DictionaryService dictionaryService,
+                                 KnownFormFilter knownFormFilter,
+                                 DictionarySuggestionIndex suggestionIndex,
+                                 SecondLevelCacheService secondLevelCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dictionaryService = dictionaryService;
+        this.knownFormFilter = knownFormFilter;
+        this.suggestionIndex = suggestionIndex;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    /**
+     * Link every unlinked lemma that matches exactly one dictionary word.
+     *
+     * @param mode   what to do with existing inflections of linked lemmas
+     * @param dryRun compute the report without writing anything
+     */
+    public DictionaryLinkReportDTO linkAll(InflectionMode mode, boolean dryRun) {
+        long start = System.nanoTime();
+        Totals totals = new Totals();
+        List<DictionaryLinkReportDTO.LemmaLinkDTO> links = new ArrayList<>();
+
+        long afterId = 0;
+        while (true) {
+            long pageAfter = afterId;
+            Long lastId = transactionTemplate.execute(status -> {
+                Long last = processPage(pageAfter, mode, dryRun, totals, links);
+                if (dryRun) status.setRollbackOnly();
+                return last;
+            });
+            if (lastId == null) break;
+            afterId = lastId;
+        }
+
+        if (!dryRun && totals.linked > 0) {
+            // Bulk writes bypass LemmaChangedEvent; refresh the in-memory indexes once
+            knownFormFilter.reload();
+            suggestionIndex.reload();
+        }
+
+        log.info("Dictionary link {}(mode={}): scanned={}, linked={}, ambiguous={}, unmatched={}, +{} -{} inflections ({}ms)",
+                dryRun ? "dry run " : "", mode, totals.scanned, totals.linked, totals.ambiguous, totals.unmatched,
+                totals.added, totals.removed, (System.nanoTime() - start) / 1_000_000);
+
+        return new DictionaryLinkReportDTO(dryRun, mode.name(), totals.scanned, totals.linked, totals.ambiguous,
+                totals.unmatched, totals.added, totals.removed, links);
+    }
+
+    /**
+     * @return the last lemma id of the page, or null when there are no more unlinked lemmas
+     */
+    private Long processPage(long afterId, InflectionMode mode, boolean dryRun, Totals totals,
+                             List<DictionaryLinkReportDTO.LemmaLinkDTO> links) {
+        List<PartOfSpeech> mapped = Arrays.stream(PartOfSpeech.values()).filter(p -> p.getKaikkiPos() != null).toList();
+        var params = new MapSqlParameterSource()
+            .addValue("lemmaPos", mapped.stream().map(Enum::name).toArray(String[]::new))
+            .addValue("kaikkiPos", mapped.stream().map(PartOfSpeech::getKaikkiPos).toArray(String[]::new))
+            .addValue("afterId", afterId)
+            .addValue("pageSize", PAGE_SIZE);
+
+        List<Match> matches = new ArrayList<>();
+        long[] lastId = {-1};
+        jdbcTemplate.query(MATCH_PAGE_SQL, params, rs -> {
+            lastId[0] = rs.getLong("id");
+            totals.scanned++;
+            int candidates = rs.getInt("candidates");
+            if (candidates == 0) {
+                totals.unmatched++;
+            } else if (candidates > 1) {
+                totals.ambiguous++;
+            } else {
+                matches.add(new Match(rs.getLong("id"), rs.getString("text"), rs.getLong("word_id")));
+            }
+        });
+        if (lastId[0] < 0) return null;
+        if (matches.isEmpty()) return lastId[0];
+
+        Map<Long, DictionarySearchResultDTO> wordsById = dictionaryService
+            .getByIds(matches.stream().map(Match::wordId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(DictionarySearchResultDTO::dictionaryWordId, Function.identity()));
+
+        Long[] lemmaIds = matches.stream().map(Match::lemmaId).toArray(Long[]::new);
+        Map<Long, List<String>> existingByLemma = new HashMap<>();
+        jdbcTemplate.query("SELECT lemma_id, form FROM inflections WHERE lemma_id = ANY(:ids) ORDER BY id",
+            new MapSqlParameterSource("ids", lemmaIds),
+            rs -> { existingByLemma.computeIfAbsent(rs.getLong("lemma_id"), id -> new ArrayList<>()).add(rs.getString("form")); });
+
+        List<SqlParameterSource> inserts = new ArrayList<>();
+        List<Long> replacedLemmaIds = new ArrayList<>();
+        for (Match match : matches) {
+            DictionarySearchResultDTO word = wordsById.get(match.wordId());
+            if (word == null) continue;
+            List<String> existing = existingByLemma.getOrDefault(match.lemmaId(), List.of());
+
+            Set<String> existingKeys = existing.stream().map(DictionarySnapshotService::normalizeKey).collect(Collectors.toSet());
+            Set<String> dictionaryKeys = word.forms().stream().map(f -> DictionarySnapshotService.normalizeKey(f.plainForm()))
+                .collect(Collectors.toSet());
+            List<DictionaryFormDTO> missing = word.forms().stream()
+                .filter(f -> !existingKeys.contains(DictionarySnapshotService.normalizeKey(f.plainForm())))
+                .toList();
+            List<String> added = new ArrayList<>(new LinkedHashSet<>(missing.stream().map(DictionaryFormDTO::plainForm).toList()));
+            List<String> removed = existing.stream()
+                .filter(form -> !dictionaryKeys.contains(DictionarySnapshotService.normalizeKey(form)))
+                .toList();
+
+            links.add(new DictionaryLinkReportDTO.LemmaLinkDTO(match.lemmaId(), match.text(), word.dictionaryWordId(),
+                word.word(), word.pos(), added, removed));
+            totals.linked++;
+
+            switch (mode) {
+                case NONE -> { }
+                case MERGE -> {
+                    totals.added += added.size();
+                    missing.forEach(f -> inserts.add(inflectionParams(match.lemmaId(), f)));
+                }
+                case REPLACE -> {
+                    totals.added += added.size();
+                    totals.removed += removed.size();
+                    replacedLemmaIds.add(match.lemmaId());
+                    word.forms().forEach(f -> inserts.add(inflectionParams(match.lemmaId(), f)));
+                }
+            }
+        }
+
+        if (!dryRun) {
+            jdbcTemplate.update(LINK_SQL, new MapSqlParameterSource()
+                .addValue("lemmaIds", lemmaIds)
+                .addValue("wordIds", matches.stream().map(Match::wordId).toArray(Long[]::new)));
+            if (!replacedLemmaIds.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM inflections WHERE lemma_id = ANY(:ids)",
+                    new MapSqlParameterSource("ids", replacedLemmaIds.toArray(Long[]::new)));
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_INFLECTION_SQL, inserts.toArray(SqlParameterSource[]::new));
+            }
+            secondLevelCache.lemmasUpdated(Arrays.asList(lemmaIds));
+        }
+        return lastId[0];
+    }
+
+    static SqlParameterSource inflectionParams(Long lemmaId, DictionaryFormDTO form) {
+        String grammaticalInfo = String.join(", ", form.tags());
+        return new MapSqlParameterSource()
+            .addValue("lemmaId", lemmaId)
+            .addValue("form", form.plainForm())
+            .addValue("accentedForm", form.accentedForm())
+            // Same column limit as Inflection.grammaticalInfo
+            .addValue("grammaticalInfo", grammaticalInfo.length() > 100 ? grammaticalInfo.substring(0, 100) : grammaticalInfo);
+    }
+
+    private record Match(long lemmaId, String text, long wordId) {}
+
+    private static final class Totals {
+        int scanned;
+        int linked;
+        int ambiguous;
+        int unmatched;
+        int added;
+        int removed;
+    }
+}
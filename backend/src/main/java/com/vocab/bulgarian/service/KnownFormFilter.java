@@ -0,0 +1,165 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.dictionary.service.DictionarySnapshotService;
+import com.vocab.bulgarian.domain.event.LemmaChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory pre-check for "is this text already in the vocabulary?", over every lemma text
+ * and inflected form. A negative answer is certain, so the create flow only queries the
+ * database to confirm a possible duplicate when this filter says it might be one.
+ *
+ * Backed by a counting Bloom filter kept current via LemmaChangedEvent. The key hashes of
+ * each lemma are remembered (8 bytes per key) so an edit or delete can take them out again
+ * after the rows are gone.
+ *
+ * reload() reads the database without holding the lock. Lemmas changed by events during that
+ * read keep the hashes the event recorded, so the rebuilt filter never loses a committed change.
+ */
+@Component
+public class KnownFormFilter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(KnownFormFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // Room to grow before the filter is rebuilt at twice the size
+    private static final int MIN_CAPACITY = 50_000;
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+
+    private CountingBloomFilter filter = new CountingBloomFilter(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private final Map<Long, long[]> hashesByLemmaId = new HashMap<>();
+    private int keyCount;
+    // Non-null while a reload is reading the database; guarded by this
+    private Set<Long> changedDuringReload;
+    private final Object reloadLock = new Object();
+
+    public KnownFormFilter(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * False means no lemma text or inflected form equals {@code text} (after lowercasing
+     * and stripping stress marks). True means there probably is one.
+     */
+    public synchronized boolean mightBeKnown(String text) {
+        return filter.mightContain(CountingBloomFilter.hash(DictionarySnapshotService.normalizeKey(text)));
+    }
+
+    /**
+     * Rebuild from the database, sized for the current vocabulary with headroom.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changedDuringReload = new HashSet<>();
+            }
+            try {
+                rebuild();
+            } finally {
+                synchronized (this) {
+                    changedDuringReload = null;
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        Map<Long, List<Long>> hashes = new HashMap<>();
+        readOnlyTx.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT id, text FROM lemmas", rs -> {
+                hashes.computeIfAbsent(rs.getLong("id"), id -> new ArrayList<>()).add(hashOf(rs.getString("text")));
+            });
+            jdbcTemplate.query("SELECT lemma_id, form FROM inflections", rs -> {
+                hashes.computeIfAbsent(rs.getLong("lemma_id"), id -> new ArrayList<>()).add(hashOf(rs.getString("form")));
+            });
+        });
+
+        synchronized (this) {
+            Map<Long, long[]> loaded = new HashMap<>();
+            hashes.forEach((lemmaId, list) -> loaded.put(lemmaId, list.stream().mapToLong(Long::longValue).toArray()));
+            // The read may predate these changes; the events recorded the committed state
+            for (Long lemmaId : changedDuringReload) {
+                long[] current = hashesByLemmaId.get(lemmaId);
+                if (current != null) {
+                    loaded.put(lemmaId, current);
+                } else {
+                    loaded.remove(lemmaId);
+                }
+            }
+            hashesByLemmaId.clear();
+            hashesByLemmaId.putAll(loaded);
+            keyCount = loaded.values().stream().mapToInt(h -> h.length).sum();
+            filter = new CountingBloomFilter(Math.max(MIN_CAPACITY, keyCount * 2), FALSE_POSITIVE_RATE);
+            hashesByLemmaId.values().forEach(this::addAll);
+        }
+        log.info("Known-form filter loaded {} keys for {} lemmas ({}ms)",
+                keyCount, hashesByLemmaId.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLemmaChanged(LemmaChangedEvent event) {
+        List<Long> hashes = new ArrayList<>();
+        if (event.changeType() != LemmaChangedEvent.ChangeType.DELETED) {
+            jdbcTemplate.query("SELECT text FROM lemmas WHERE id = ?",
+                rs -> { hashes.add(hashOf(rs.getString("text"))); }, event.lemmaId());
+            jdbcTemplate.query("SELECT form FROM inflections WHERE lemma_id = ?",
+                rs -> { hashes.add(hashOf(rs.getString("form"))); }, event.lemmaId());
+        }
+
+        boolean full;
+        synchronized (this) {
+            if (changedDuringReload != null) {
+                changedDuringReload.add(event.lemmaId());
+            }
+            long[] previous = hashes.isEmpty()
+                ? hashesByLemmaId.remove(event.lemmaId())
+                : hashesByLemmaId.put(event.lemmaId(), hashes.stream().mapToLong(Long::longValue).toArray());
+            if (previous != null) {
+                for (long h : previous) filter.remove(h);
+                keyCount -= previous.length;
+            }
+            for (long h : hashes) filter.add(h);
+            keyCount += hashes.size();
+            full = keyCount > filter.capacity();
+        }
+        if (full) {
+            reload();
+        }
+    }
+
+    private void addAll(long[] hashes) {
+        for (long h : hashes) filter.add(h);
+    }
+
+    private static long hashOf(String text) {
+        return CountingBloomFilter.hash(DictionarySnapshotService.normalizeKey(text));
+    }
+}
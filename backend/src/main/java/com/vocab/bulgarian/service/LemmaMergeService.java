@@ -0,0 +1,249 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.api.dto.DuplicateMergeReportDTO;
+import com.vocab.bulgarian.api.dto.DuplicateMergeReportDTO.MergeDTO;
+import com.vocab.bulgarian.dictionary.service.DictionarySuggestionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Folds duplicate lemmas into one survivor.
+ *
+ * A merge moves everything that refers to a duplicate onto its survivor (list memberships,
+ * study cards and reviews, the SRS state if the survivor has none), adds inflected forms the
+ * survivor is missing, fills a blank translation, and deletes the duplicate. Every step is
+ * one set-based statement over all (duplicate, survivor) pairs, so merging one pair and
+ * merging a thousand cost the same number of round trips.
+ */
+@Service
+public class LemmaMergeService {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaMergeService.class);
+
+    // Same groups as the admin duplicate report (text + source), best survivor candidate first.
+    // Lemmas still being processed are left for the next run.
+    private static final String GROUP_ROWS_SQL = """
+        SELECT l.id, l.text, l.source, l.part_of_speech, l.translation, l.dictionary_word_id
+        FROM lemmas l
+        WHERE l.processing_status NOT IN ('QUEUED', 'PROCESSING')
+          AND (l.text, l.source) IN (
+              SELECT text, source FROM lemmas
+              WHERE processing_status NOT IN ('QUEUED', 'PROCESSING')
+              GROUP BY text, source HAVING COUNT(*) > 1
+          )
+        ORDER BY l.text, l.source,
+                 (l.review_status = 'REVIEWED') DESC,
+                 (l.processing_status = 'COMPLETED') DESC,
+                 (l.dictionary_word_id IS NOT NULL) DESC,
+                 (SELECT COUNT(*) FROM inflections i WHERE i.lemma_id = l.id) DESC,
+                 l.created_at, l.id
+        """;
+
+    private static final String PAIRS = """
+        WITH m AS (
+            SELECT * FROM unnest(CAST(:duplicateIds AS bigint[]), CAST(:survivorIds AS bigint[])) AS m(duplicate_id, survivor_id)
+        )
+        """;
+
+    private static final String MOVE_LIST_MEMBERS_SQL = PAIRS + """
+        , moved AS (
+            INSERT INTO word_list_members (list_id, lemma_id, added_at)
+            SELECT w.list_id, m.survivor_id, MIN(w.added_at)
+            FROM word_list_members w JOIN m ON w.lemma_id = m.duplicate_id
+            GROUP BY w.list_id, m.survivor_id
+            ON CONFLICT DO NOTHING
+        )
+        UPDATE word_lists SET version = version + 1, updated_at = NOW()
+        WHERE id IN (SELECT w.list_id FROM word_list_members w JOIN m ON w.lemma_id = m.duplicate_id)
+        """;
+
+    private static final String MOVE_SESSION_CARDS_SQL = PAIRS + """
+        INSERT INTO session_cards (session_id, lemma_id, position, reviewed)
+        SELECT DISTINCT ON (c.session_id, m.survivor_id) c.session_id, m.survivor_id, c.position, c.reviewed
+        FROM session_cards c JOIN m ON c.lemma_id = m.duplicate_id
+        ORDER BY c.session_id, m.survivor_id, c.reviewed DESC, c.position
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String MOVE_REVIEWS_SQL = PAIRS + """
+        UPDATE study_reviews r SET lemma_id = m.survivor_id
+        FROM m WHERE r.lemma_id = m.duplicate_id
+        """;
+
+    // srs_state is one row per lemma: a survivor without one inherits its most practised duplicate's
+    private static final String MOVE_SRS_STATE_SQL = PAIRS + """
+        UPDATE srs_state s SET lemma_id = pick.survivor_id, updated_at = NOW()
+        FROM (
+            SELECT DISTINCT ON (m.survivor_id) d.id, m.survivor_id
+            FROM srs_state d JOIN m ON d.lemma_id = m.duplicate_id
+            WHERE NOT EXISTS (SELECT 1 FROM srs_state x WHERE x.lemma_id = m.survivor_id)
+            ORDER BY m.survivor_id, d.repetition_count DESC, d.last_reviewed_at DESC NULLS LAST, d.id
+        ) pick
+        WHERE s.id = pick.id
+        """;
+
+    private static final String ADD_MISSING_INFLECTIONS_SQL = PAIRS + """
+        INSERT INTO inflections (lemma_id, form, accented_form, grammatical_info, difficulty_level, created_at)
+        SELECT DISTINCT ON (m.survivor_id, lower(i.form))
+               m.survivor_id, i.form, i.accented_form, i.grammatical_info, i.difficulty_level, NOW()
+        FROM inflections i JOIN m ON i.lemma_id = m.duplicate_id
+        WHERE NOT EXISTS (SELECT 1 FROM inflections x WHERE x.lemma_id = m.survivor_id AND lower(x.form) = lower(i.form))
+        ORDER BY m.survivor_id, lower(i.form), i.id
+        """;
+
+    // Notes are left alone: they are part of the (text, source, notes) unique index and mark senses
+    private static final String UPDATE_SURVIVORS_SQL = PAIRS + """
+        UPDATE lemmas l
+        SET translation = COALESCE(NULLIF(l.translation, ''), f.translation, l.translation),
+            version = l.version + 1,
+            updated_at = NOW()
+        FROM (
+            SELECT m.survivor_id, (array_agg(d.translation ORDER BY d.id) FILTER (WHERE d.translation <> ''))[1] AS translation
+            FROM m JOIN lemmas d ON d.id = m.duplicate_id
+            GROUP BY m.survivor_id
+        ) f
+        WHERE l.id = f.survivor_id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KnownFormFilter knownFormFilter;
+    private final DictionarySuggestionIndex suggestionIndex;
+    private final SecondLevelCacheService secondLevelCache;
+
+    public LemmaMergeService(NamedParameterJdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             KnownFormFilter knownFormFilter,
+                             DictionarySuggestionIndex suggestionIndex,
+                             SecondLevelCacheService secondLevelCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.knownFormFilter = knownFormFilter;
+        this.suggestionIndex = suggestionIndex;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    /**
+     * Merge every duplicate group (same text and source) in one transaction. Within a group,
+     * entries that look like the same word join the best-kept entry (reviewed, completed,
+     * dictionary-linked, most inflections, oldest); entries that look like a different sense
+     * stay, since notes deliberately allow homographs (V11).
+     *
+     * @param dryRun compute the report without writing anything
+     */
+    public DuplicateMergeReportDTO mergeDuplicates(boolean dryRun) {
+        long start = System.nanoTime();
+        DuplicateMergeReportDTO report = transactionTemplate.execute(status -> {
+            Map<String, List<Candidate>> groups = new LinkedHashMap<>();
+            jdbcTemplate.query(GROUP_ROWS_SQL, rs -> {
+                Candidate candidate = new Candidate(rs.getLong("id"), rs.getString("text"), rs.getString("source"),
+                    rs.getString("part_of_speech"), rs.getString("translation"),
+                    (Long) rs.getObject("dictionary_word_id"));
+                groups.computeIfAbsent(candidate.text() + '\u0000' + candidate.source(), k -> new ArrayList<>()).add(candidate);
+            });
+
+            Map<Long, Long> survivorByDuplicate = new LinkedHashMap<>();
+            List<MergeDTO> merges = new ArrayList<>();
+            int homographs = 0;
+            for (List<Candidate> group : groups.values()) {
+                List<List<Candidate>> clusters = new ArrayList<>();
+                for (Candidate candidate : group) {
+                    clusters.stream()
+                        .filter(cluster -> sameSense(cluster.getFirst(), candidate))
+                        .findFirst()
+                        .ifPresentOrElse(cluster -> cluster.add(candidate), () -> clusters.add(new ArrayList<>(List.of(candidate))));
+                }
+                if (clusters.size() > 1) homographs += clusters.size();
+                for (List<Candidate> cluster : clusters) {
+                    if (cluster.size() < 2) continue;
+                    Candidate survivor = cluster.getFirst();
+                    List<Long> mergedIds = cluster.subList(1, cluster.size()).stream().map(Candidate::id).toList();
+                    mergedIds.forEach(id -> survivorByDuplicate.put(id, survivor.id()));
+                    merges.add(new MergeDTO(survivor.id(), survivor.text(), survivor.source(), mergedIds));
+                }
+            }
+
+            if (dryRun) {
+                status.setRollbackOnly();
+            } else {
+                mergeInto(survivorByDuplicate);
+            }
+            return new DuplicateMergeReportDTO(dryRun, groups.size(), merges.size(), survivorByDuplicate.size(),
+                homographs, merges);
+        });
+
+        if (!dryRun && report.removed() > 0) {
+            // Set-based deletes bypass LemmaChangedEvent; refresh the in-memory indexes once
+            knownFormFilter.reload();
+            suggestionIndex.reload();
+        }
+
+        log.info("Duplicate merge{}: groups={}, merged={}, removed={}, homographs kept={} ({}ms)",
+            dryRun ? " (dry run)" : "", report.groups(), report.merged(), report.removed(), report.homographsKept(),
+            (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Fold each duplicate into its survivor and delete it. Must run inside a transaction;
+     * callers refresh in-memory indexes or publish LemmaChangedEvents themselves.
+     *
+     * @param survivorByDuplicate duplicate lemma id to the id of the lemma that replaces it
+     */
+    public void mergeInto(Map<Long, Long> survivorByDuplicate) {
+        if (survivorByDuplicate.isEmpty()) return;
+        Long[] duplicateIds = survivorByDuplicate.keySet().toArray(Long[]::new);
+        var params = new MapSqlParameterSource()
+            .addValue("duplicateIds", duplicateIds)
+            .addValue("survivorIds", survivorByDuplicate.values().toArray(Long[]::new));
+
+        jdbcTemplate.update(MOVE_LIST_MEMBERS_SQL, params);
+        jdbcTemplate.update(MOVE_SESSION_CARDS_SQL, params);
+        jdbcTemplate.update(MOVE_REVIEWS_SQL, params);
+        jdbcTemplate.update(MOVE_SRS_STATE_SQL, params);
+        jdbcTemplate.update(ADD_MISSING_INFLECTIONS_SQL, params);
+        jdbcTemplate.update(UPDATE_SURVIVORS_SQL, params);
+        // Cascades to whatever was not moved: the duplicates' own inflections, sentences, cards
+        jdbcTemplate.update("DELETE FROM lemmas WHERE id = ANY(:duplicateIds)", params);
+
+        List<Long> touched = new ArrayList<>(survivorByDuplicate.keySet());
+        touched.addAll(survivorByDuplicate.values());
+        secondLevelCache.lemmasUpdated(touched);
+    }
+
+    /**
+     * Two entries of a group are the same word unless something positively tells them apart:
+     * a different part of speech, dictionary word or translation.
+     */
+    static boolean sameSense(Candidate a, Candidate b) {
+        if (a.partOfSpeech() != null && b.partOfSpeech() != null && !a.partOfSpeech().equals(b.partOfSpeech())) {
+            return false;
+        }
+        if (a.dictionaryWordId() != null && b.dictionaryWordId() != null) {
+            return a.dictionaryWordId().equals(b.dictionaryWordId());
+        }
+        String ta = normalizeTranslation(a.translation());
+        String tb = normalizeTranslation(b.translation());
+        return ta == null || tb == null || Objects.equals(ta, tb);
+    }
+
+    private static String normalizeTranslation(String translation) {
+        if (translation == null || translation.isBlank()) return null;
+        return translation.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Candidate(long id, String text, String source, String partOfSpeech,
+                     String translation, Long dictionaryWordId) {}
+}
@@ -0,0 +1,87 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.domain.ExampleSentence;
+import com.vocab.bulgarian.domain.Inflection;
+import com.vocab.bulgarian.domain.Lemma;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the Hibernate second-level cache honest around writes Hibernate does not see.
+ *
+ * JPA writes maintain the cache themselves. The JDBC batch paths (bulk create, import,
+ * dictionary linking) write lemmas, inflections and sentences directly, so they report what
+ * they touched here. Eviction runs after commit: evicting earlier would let a concurrent read
+ * put the old rows straight back.
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheService.class);
+
+    private static final String INFLECTIONS_ROLE = Lemma.class.getName() + ".inflections";
+    private static final String EXAMPLE_SENTENCES_ROLE = Lemma.class.getName() + ".exampleSentences";
+
+    private final Cache cache;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * New lemmas (and their children) were inserted outside Hibernate. Nothing cached refers
+     * to them yet, but cached query results (counts) are now stale.
+     */
+    public void lemmasInserted() {
+        afterCommit(cache::evictQueryRegions);
+    }
+
+    /**
+     * Existing lemmas, or their inflections or sentences, were changed outside Hibernate.
+     */
+    public void lemmasUpdated(Collection<Long> lemmaIds) {
+        if (lemmaIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(lemmaIds);
+        afterCommit(() -> {
+            for (Long id : ids) {
+                cache.evictEntityData(Lemma.class, id);
+                cache.evictCollectionData(INFLECTIONS_ROLE, id);
+                cache.evictCollectionData(EXAMPLE_SENTENCES_ROLE, id);
+            }
+            // Child rows may have been deleted or rewritten by id; drop the whole (cheap to refill) regions
+            cache.evictEntityData(Inflection.class);
+            cache.evictEntityData(ExampleSentence.class);
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * Drop everything in every region.
+     */
+    public void evictAll() {
+        cache.evictAllRegions();
+        log.info("Second-level cache cleared");
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
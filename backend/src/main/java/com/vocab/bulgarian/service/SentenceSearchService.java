@@ -0,0 +1,56 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.api.dto.SentenceSearchResultDTO;
+import com.vocab.bulgarian.repository.SentenceSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Full-text search over example sentences, by free text or by every form of a lemma.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SentenceSearchService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final SentenceSearchRepository sentenceSearchRepository;
+    private final Timer textTimer;
+    private final Timer formsTimer;
+
+    public SentenceSearchService(SentenceSearchRepository sentenceSearchRepository, MeterRegistry meterRegistry) {
+        this.sentenceSearchRepository = sentenceSearchRepository;
+        this.textTimer = Timer.builder("vocab.sentences.search")
+                .tag("mode", "text")
+                .description("Example sentence search duration")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.formsTimer = Timer.builder("vocab.sentences.search")
+                .tag("mode", "forms")
+                .description("Example sentence search duration")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sentences matching the query in Bulgarian or English, with highlight ranges.
+     */
+    public List<SentenceSearchResultDTO> search(String query, int limit) {
+        return textTimer.record(() -> sentenceSearchRepository.search(query.trim(), bound(limit)));
+    }
+
+    /**
+     * Sentences containing the lemma's headword or any of its inflected forms.
+     */
+    public List<SentenceSearchResultDTO> searchByLemmaForms(Long lemmaId, int limit) {
+        return formsTimer.record(() -> sentenceSearchRepository.searchByLemmaForms(lemmaId, bound(limit)));
+    }
+
+    private static int bound(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
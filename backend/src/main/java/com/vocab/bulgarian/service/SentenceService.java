@@ -5,6 +5,7 @@ import com.vocab.bulgarian.api.mapper.LemmaMapper;
 import com.vocab.bulgarian.domain.ExampleSentence;
 import com.vocab.bulgarian.domain.Lemma;
 import com.vocab.bulgarian.domain.enums.SentenceStatus;
+import com.vocab.bulgarian.domain.event.LemmaStatusChangedEvent;
 import com.vocab.bulgarian.llm.dto.SentenceSet;
 import com.vocab.bulgarian.llm.service.SentenceGenerationService;
 import com.vocab.bulgarian.repository.LemmaRepository;
@@ -15,6 +16,7 @@ import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
@@ -55,6 +57,7 @@ public class SentenceService {
     private final SentenceGenerationService sentenceGenerationService;
     private final LemmaMapper lemmaMapper;
     private final TransactionTemplate txTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final Counter successCounter;
     private final Counter failureCounter;
     private final Timer successTimer;
@@ -65,11 +68,13 @@ public class SentenceService {
             SentenceGenerationService sentenceGenerationService,
             LemmaMapper lemmaMapper,
             PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
             MeterRegistry meterRegistry) {
         this.lemmaRepository = lemmaRepository;
         this.sentenceGenerationService = sentenceGenerationService;
         this.lemmaMapper = lemmaMapper;
         this.txTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
         this.successCounter = Counter.builder("vocab.sentences.generated")
                 .tag("outcome", "success")
                 .description("Words that successfully got example sentences")
@@ -101,6 +106,7 @@ public class SentenceService {
         lemma.getExampleSentences().clear();
         lemma.setSentenceStatus(SentenceStatus.QUEUED);
         Lemma saved = lemmaRepository.save(lemma);
+        publishStatus(saved);
 
         // Trigger background generation after this TX commits.
         // Must call through `self` (the proxy) so @Async is applied.
@@ -134,6 +140,7 @@ public class SentenceService {
             }
             lemma.setSentenceStatus(SentenceStatus.GENERATING);
             lemmaRepository.save(lemma);
+            publishStatus(lemma);
             String pos = lemma.getPartOfSpeech() != null ? lemma.getPartOfSpeech().name() : null;
             return new LemmaInfo(lemma.getText(), lemma.getTranslation(), pos);
         });
@@ -167,6 +174,7 @@ public class SentenceService {
             if (finalError != null || finalResult == null || finalResult.sentences() == null) {
                 lemma.setSentenceStatus(SentenceStatus.FAILED);
                 lemmaRepository.save(lemma);
+                publishStatus(lemma);
                 failureCounter.increment();
                 totalSample.stop(failureTimer);
                 return null;
@@ -184,6 +192,7 @@ public class SentenceService {
             }
             lemma.setSentenceStatus(SentenceStatus.DONE);
             lemmaRepository.save(lemma);
+            publishStatus(lemma);
 
             successCounter.increment();
             totalSample.stop(successTimer);
@@ -217,6 +226,7 @@ public class SentenceService {
         for (Lemma lemma : lemmas) {
             lemma.setSentenceStatus(SentenceStatus.QUEUED);
             lemmaRepository.save(lemma);
+            publishStatus(lemma);
             count++;
         }
         logger.info("Batch sentence generation: {} lemmas queued", count);
@@ -233,4 +243,12 @@ public class SentenceService {
 
         return count;
     }
+
+    /**
+     * Published inside the status-changing transaction; SSE clients hear about it after commit.
+     */
+    private void publishStatus(Lemma lemma) {
+        eventPublisher.publishEvent(new LemmaStatusChangedEvent(
+            lemma.getId(), lemma.getProcessingStatus(), lemma.getSentenceStatus()));
+    }
 }
@@ -2,6 +2,8 @@ package com.vocab.bulgarian.service;
 
 import com.vocab.bulgarian.domain.Lemma;
 import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
 import com.vocab.bulgarian.repository.LemmaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,11 +24,14 @@ public class StartupReprocessingService implements ApplicationRunner {
 
     private final LemmaRepository lemmaRepository;
     private final BackgroundProcessingService backgroundProcessingService;
+    private final ProcessingJobRegistry jobRegistry;
 
     public StartupReprocessingService(LemmaRepository lemmaRepository,
-                                      BackgroundProcessingService backgroundProcessingService) {
+                                      BackgroundProcessingService backgroundProcessingService,
+                                      ProcessingJobRegistry jobRegistry) {
         this.lemmaRepository = lemmaRepository;
         this.backgroundProcessingService = backgroundProcessingService;
+        this.jobRegistry = jobRegistry;
     }
 
     @Override
@@ -41,6 +46,8 @@ public class StartupReprocessingService implements ApplicationRunner {
         }
 
         logger.info("Startup reprocessing: found {} stuck lemma(s) — requeuing.", stuck.size());
+        // Register up front so requests made while recovery runs queue behind it
+        jobRegistry.registerQueued(stuck.stream().map(Lemma::getId).toList(), JobStatusDTO.Type.REPROCESS);
         for (Lemma lemma : stuck) {
             logger.info("  Requeuing lemma ID {} ('{}')", lemma.getId(), lemma.getText());
             backgroundProcessingService.processLemma(lemma.getId());
@@ -0,0 +1,175 @@
+package com.vocab.bulgarian.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the whole vocabulary (lemmas, inflections, example sentences, SRS state) to an
+ * output stream in constant memory.
+ *
+ * One query walks lemmas in id order through a forward-only server-side cursor (PostgreSQL
+ * only uses one inside a transaction with a fetch size), and each row is written as soon as
+ * it is read. The nested parts of a lemma are aggregated to JSON by PostgreSQL in the same
+ * row, so nothing is collected per lemma on the Java side.
+ */
+@Service
+public class VocabularyExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(VocabularyExportService.class);
+
+    private static final int FETCH_SIZE = 500;
+
+    public enum Format {
+        /** One JSON document per lemma (VocabularyExportDTO); the import format. */
+        NDJSON("application/x-ndjson", "ndjson"),
+        /** One row per lemma; inflections and sentences as JSON array columns. */
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() { return contentType; }
+        public String extension() { return extension; }
+    }
+
+    private static final String INFLECTIONS_JSON = """
+        COALESCE((SELECT json_agg(json_build_object(
+                    'form', i.form, 'accentedForm', i.accented_form,
+                    'grammaticalInfo', i.grammatical_info, 'difficultyLevel', i.difficulty_level) ORDER BY i.id)
+                  FROM inflections i WHERE i.lemma_id = l.id), '[]'::json)
+        """;
+
+    private static final String SENTENCES_JSON = """
+        COALESCE((SELECT json_agg(json_build_object(
+                    'bulgarianText', s.bulgarian_text, 'englishTranslation', s.english_translation,
+                    'sortOrder', s.sort_order) ORDER BY s.sort_order, s.id)
+                  FROM example_sentences s WHERE s.lemma_id = l.id), '[]'::json)
+        """;
+
+    // Field names must match VocabularyExportDTO
+    private static final String NDJSON_SQL = """
+        SELECT json_build_object(
+            'id', l.id, 'text', l.text, 'translation', l.translation, 'notes', l.notes,
+            'partOfSpeech', l.part_of_speech, 'category', l.category, 'difficultyLevel', l.difficulty_level,
+            'source', l.source, 'reviewStatus', l.review_status, 'processingStatus', l.processing_status,
+            'sentenceStatus', l.sentence_status, 'dictionaryWordId', l.dictionary_word_id,
+            'createdAt', l.created_at, 'updatedAt', l.updated_at,
+            'inflections', """ + INFLECTIONS_JSON + """
+            , 'exampleSentences', """ + SENTENCES_JSON + """
+            , 'srs', (SELECT json_build_object(
+                         'easeFactor', r.ease_factor, 'intervalDays', r.interval_days,
+                         'repetitionCount', r.repetition_count, 'nextReviewDate', r.next_review_date,
+                         'lastReviewedAt', r.last_reviewed_at)
+                      FROM srs_state r WHERE r.lemma_id = l.id)
+        )::text AS line
+        FROM lemmas l
+        ORDER BY l.id
+        """;
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "text", "translation", "notes", "part_of_speech", "category", "difficulty_level",
+        "source", "review_status", "processing_status", "sentence_status", "dictionary_word_id",
+        "created_at", "updated_at", "inflections", "example_sentences",
+        "srs_ease_factor", "srs_interval_days", "srs_repetition_count", "srs_next_review_date", "srs_last_reviewed_at"
+    };
+
+    private static final String CSV_SQL = """
+        SELECT l.id, l.text, l.translation, l.notes, l.part_of_speech, l.category, l.difficulty_level,
+               l.source, l.review_status, l.processing_status, l.sentence_status, l.dictionary_word_id,
+               l.created_at, l.updated_at,
+               """ + INFLECTIONS_JSON + """
+               ::text AS inflections,
+               """ + SENTENCES_JSON + """
+               ::text AS example_sentences,
+               r.ease_factor AS srs_ease_factor, r.interval_days AS srs_interval_days,
+               r.repetition_count AS srs_repetition_count, r.next_review_date AS srs_next_review_date,
+               r.last_reviewed_at AS srs_last_reviewed_at
+        FROM lemmas l
+        LEFT JOIN srs_state r ON r.lemma_id = l.id
+        ORDER BY l.id
+        """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+
+    public VocabularyExportService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        // Own template so the fetch size does not leak into the shared one
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Write every lemma to {@code out} in the given format. The stream is flushed, not closed.
+     */
+    public void export(Format format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] rows = {0};
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                if (format == Format.NDJSON) {
+                    streamingJdbcTemplate.query(NDJSON_SQL, rs -> {
+                        write(writer, rs.getString("line"));
+                        write(writer, "\n");
+                        rows[0]++;
+                    });
+                } else {
+                    write(writer, String.join(",", CSV_COLUMNS));
+                    write(writer, "\r\n");
+                    streamingJdbcTemplate.query(CSV_SQL, rs -> {
+                        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                            if (i > 0) write(writer, ",");
+                            write(writer, csvField(rs.getString(CSV_COLUMNS[i])));
+                        }
+                        write(writer, "\r\n");
+                        rows[0]++;
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download; the transaction has been rolled back
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Vocabulary export ({}): {} lemmas in {}ms", format, rows[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void write(Writer writer, String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * RFC 4180 quoting: null becomes an empty field; quotes, separators and line breaks force quoting.
+     */
+    private static String csvField(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,359 @@
+package com.vocab.bulgarian.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.bulgarian.api.dto.VocabularyExportDTO;
+import com.vocab.bulgarian.api.dto.VocabularyImportResultDTO;
+import com.vocab.bulgarian.dictionary.service.DictionarySuggestionIndex;
+import com.vocab.bulgarian.domain.enums.DifficultyLevel;
+import com.vocab.bulgarian.domain.enums.PartOfSpeech;
+import com.vocab.bulgarian.domain.enums.ProcessingStatus;
+import com.vocab.bulgarian.domain.enums.ReviewStatus;
+import com.vocab.bulgarian.domain.enums.SentenceStatus;
+import com.vocab.bulgarian.domain.enums.Source;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streams an NDJSON export (VocabularyExportDTO per line) back into the database.
+ *
+ * Lines are read and parsed one at a time and written in batches of BATCH_SIZE lemmas, one
+ * transaction per batch, so memory stays bounded by the batch whatever the file size. Each
+ * batch pre-allocates lemma ids and issues one JDBC batch per table. Lemmas that already
+ * exist (same text, source and notes) are skipped along with their children. Ids from the
+ * file are not reused, and dictionary links to words missing from this database are dropped.
+ *
+ * Every field is checked against its column before it reaches a batch. If a batch still
+ * fails, it is retried one lemma per transaction and only the offending lines count as
+ * invalid. Lemmas exported while QUEUED or PROCESSING are imported as QUEUED and handed to
+ * BackgroundProcessingService once their batches have committed.
+ */
+@Service
+public class VocabularyImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(VocabularyImportService.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    // Column widths from the lemmas and inflections tables
+    private static final int MAX_TEXT_LENGTH = 100;
+    private static final int MAX_TRANSLATION_LENGTH = 200;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final int MAX_FORM_LENGTH = 100;
+    private static final int MAX_ACCENTED_FORM_LENGTH = 120;
+    private static final int MAX_GRAMMATICAL_INFO_LENGTH = 100;
+    private static final int MAX_INFLECTION_DIFFICULTY_LENGTH = 20;
+    // srs_state.ease_factor is DECIMAL(4,2)
+    private static final BigDecimal MAX_EASE_FACTOR = new BigDecimal("99.99");
+
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval(pg_get_serial_sequence('lemmas', 'id')) FROM generate_series(1, :count)";
+
+    private static final String INSERT_LEMMA_SQL = """
+        INSERT INTO lemmas (id, text, translation, notes, part_of_speech, category, difficulty_level, source,
+                            review_status, processing_status, sentence_status, dictionary_word_id,
+                            created_at, updated_at)
+        VALUES (:id, :text, :translation, :notes, :partOfSpeech, :category, :difficultyLevel, :source,
+                :reviewStatus, :processingStatus, :sentenceStatus,
+                (SELECT id FROM dictionary_words WHERE id = :dictionaryWordId),
+                COALESCE(:createdAt, NOW()), COALESCE(:updatedAt, NOW()))
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String INSERT_INFLECTION_SQL = """
+        INSERT INTO inflections (lemma_id, form, accented_form, grammatical_info, difficulty_level, created_at)
+        VALUES (:lemmaId, :form, :accentedForm, :grammaticalInfo, :difficultyLevel, NOW())
+        """;
+
+    private static final String INSERT_SENTENCE_SQL = """
+        INSERT INTO example_sentences (lemma_id, bulgarian_text, english_translation, sort_order, created_at)
+        VALUES (:lemmaId, :bulgarianText, :englishTranslation, :sortOrder, NOW())
+        """;
+
+    private static final String INSERT_SRS_SQL = """
+        INSERT INTO srs_state (lemma_id, ease_factor, interval_days, repetition_count, next_review_date, last_reviewed_at)
+        VALUES (:lemmaId, :easeFactor, :intervalDays, :repetitionCount, COALESCE(:nextReviewDate, CURRENT_DATE), :lastReviewedAt)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final KnownFormFilter knownFormFilter;
+    private final DictionarySuggestionIndex suggestionIndex;
+    private final SecondLevelCacheService secondLevelCache;
+    private final BackgroundProcessingService backgroundProcessingService;
+    private final ProcessingJobRegistry jobRegistry;
+
+    public VocabularyImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   KnownFormFilter knownFormFilter,
+                                   DictionarySuggestionIndex suggestionIndex,
+                                   SecondLevelCacheService secondLevelCache,
+                                   BackgroundProcessingService backgroundProcessingService,
+                                   ProcessingJobRegistry jobRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.knownFormFilter = knownFormFilter;
+        this.suggestionIndex = suggestionIndex;
+        this.secondLevelCache = secondLevelCache;
+        this.backgroundProcessingService = backgroundProcessingService;
+        this.jobRegistry = jobRegistry;
+    }
+
+    /**
+     * Import every valid line of an NDJSON stream. Blank lines are ignored.
+     */
+    public VocabularyImportResultDTO importNdjson(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        Totals totals = new Totals();
+        List<VocabularyExportDTO> batch = new ArrayList<>(BATCH_SIZE);
+        List<Integer> lineNumbers = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                totals.read++;
+                try {
+                    VocabularyExportDTO lemma = objectMapper.readValue(line, VocabularyExportDTO.class);
+                    validate(lemma);
+                    batch.add(lemma);
+                    lineNumbers.add(lineNumber);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    totals.invalid(lineNumber, e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    flush(batch, lineNumbers, totals);
+                }
+            }
+        }
+        flush(batch, lineNumbers, totals);
+
+        if (totals.imported > 0) {
+            // Batch inserts bypass LemmaChangedEvent and Hibernate; refresh the in-memory indexes once
+            knownFormFilter.reload();
+            suggestionIndex.reload();
+            secondLevelCache.lemmasInserted();
+        }
+        if (!totals.queuedIds.isEmpty()) {
+            // Every batch has committed, so the background transactions can see these rows
+            jobRegistry.registerQueued(totals.queuedIds, JobStatusDTO.Type.CREATE);
+            backgroundProcessingService.processLemmas(totals.queuedIds);
+        }
+
+        log.info("Vocabulary import: read={}, imported={}, skipped={}, invalid={}, queued={} ({}ms)",
+                totals.read, totals.imported, totals.skipped, totals.invalid, totals.queuedIds.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new VocabularyImportResultDTO(totals.read, totals.imported, totals.skipped, totals.invalid, totals.errors);
+    }
+
+    /**
+     * Required fields present, every value within its column and every enum name known to
+     * this version, for the lemma and its inflections and SRS state.
+     *
+     * @throws IllegalArgumentException describing the first problem
+     */
+    private static void validate(VocabularyExportDTO lemma) {
+        if (lemma.text() == null || lemma.text().isBlank() || lemma.text().length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("text must be 1-" + MAX_TEXT_LENGTH + " characters");
+        }
+        if (lemma.source() == null) {
+            throw new IllegalArgumentException("source is required");
+        }
+        requireMaxLength("translation", lemma.translation(), MAX_TRANSLATION_LENGTH);
+        requireMaxLength("category", lemma.category(), MAX_CATEGORY_LENGTH);
+        Source.valueOf(lemma.source());
+        if (lemma.partOfSpeech() != null) PartOfSpeech.valueOf(lemma.partOfSpeech());
+        if (lemma.difficultyLevel() != null) DifficultyLevel.valueOf(lemma.difficultyLevel());
+        if (lemma.reviewStatus() != null) ReviewStatus.valueOf(lemma.reviewStatus());
+        if (lemma.processingStatus() != null) ProcessingStatus.valueOf(lemma.processingStatus());
+        if (lemma.sentenceStatus() != null) SentenceStatus.valueOf(lemma.sentenceStatus());
+
+        if (lemma.inflections() != null) {
+            for (VocabularyExportDTO.InflectionExportDTO inflection : lemma.inflections()) {
+                requireMaxLength("inflection form", inflection.form(), MAX_FORM_LENGTH);
+                requireMaxLength("inflection accentedForm", inflection.accentedForm(), MAX_ACCENTED_FORM_LENGTH);
+                requireMaxLength("inflection grammaticalInfo", inflection.grammaticalInfo(), MAX_GRAMMATICAL_INFO_LENGTH);
+                requireMaxLength("inflection difficultyLevel", inflection.difficultyLevel(), MAX_INFLECTION_DIFFICULTY_LENGTH);
+            }
+        }
+        if (lemma.srs() != null && lemma.srs().easeFactor() != null
+                && lemma.srs().easeFactor().abs().compareTo(MAX_EASE_FACTOR) > 0) {
+            throw new IllegalArgumentException("srs easeFactor must be at most " + MAX_EASE_FACTOR);
+        }
+    }
+
+    private static void requireMaxLength(String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(field + " must be at most " + maxLength + " characters");
+        }
+    }
+
+    private void flush(List<VocabularyExportDTO> batch, List<Integer> lineNumbers, Totals totals) {
+        if (batch.isEmpty()) return;
+        try {
+            totals.add(transactionTemplate.execute(status -> insertBatch(batch)), batch.size());
+        } catch (DataAccessException e) {
+            // Something validate() does not check; isolate it so the rest of the batch still imports
+            log.warn("Vocabulary import: batch of {} failed ({}), retrying row by row",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                List<VocabularyExportDTO> single = List.of(batch.get(i));
+                try {
+                    totals.add(transactionTemplate.execute(status -> insertBatch(single)), 1);
+                } catch (DataAccessException rowError) {
+                    totals.invalid(lineNumbers.get(i), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        batch.clear();
+        lineNumbers.clear();
+    }
+
+    /**
+     * @return lemmas inserted (the rest already existed) and which of them await processing
+     */
+    private BatchResult insertBatch(List<VocabularyExportDTO> batch) {
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL,
+            new MapSqlParameterSource("count", batch.size()), Long.class);
+
+        List<SqlParameterSource> lemmaRows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            lemmaRows.add(lemmaParams(ids.get(i), batch.get(i)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEMMA_SQL, lemmaRows.toArray(SqlParameterSource[]::new));
+
+        // Rows skipped by ON CONFLICT are the ids that did not make it in
+        Set<Long> inserted = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM lemmas WHERE id = ANY(:ids)",
+            new MapSqlParameterSource("ids", ids.toArray(Long[]::new)), Long.class));
+
+        List<SqlParameterSource> inflectionRows = new ArrayList<>();
+        List<SqlParameterSource> sentenceRows = new ArrayList<>();
+        List<SqlParameterSource> srsRows = new ArrayList<>();
+        List<Long> queuedIds = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long id = ids.get(i);
+            if (!inserted.contains(id)) continue;
+            VocabularyExportDTO lemma = batch.get(i);
+            if (awaitsProcessing(lemma)) {
+                queuedIds.add(id);
+            }
+            if (lemma.inflections() != null) {
+                lemma.inflections().stream()
+                    .filter(f -> f.form() != null && !f.form().isBlank())
+                    .forEach(f -> inflectionRows.add(new MapSqlParameterSource()
+                        .addValue("lemmaId", id)
+                        .addValue("form", f.form())
+                        .addValue("accentedForm", f.accentedForm())
+                        .addValue("grammaticalInfo", f.grammaticalInfo())
+                        .addValue("difficultyLevel", f.difficultyLevel())));
+            }
+            if (lemma.exampleSentences() != null) {
+                lemma.exampleSentences().stream()
+                    .filter(s -> s.bulgarianText() != null && s.englishTranslation() != null)
+                    .forEach(s -> sentenceRows.add(new MapSqlParameterSource()
+                        .addValue("lemmaId", id)
+                        .addValue("bulgarianText", s.bulgarianText())
+                        .addValue("englishTranslation", s.englishTranslation())
+                        .addValue("sortOrder", s.sortOrder())));
+            }
+            if (lemma.srs() != null && lemma.srs().easeFactor() != null) {
+                srsRows.add(new MapSqlParameterSource()
+                    .addValue("lemmaId", id)
+                    .addValue("easeFactor", lemma.srs().easeFactor())
+                    .addValue("intervalDays", lemma.srs().intervalDays())
+                    .addValue("repetitionCount", lemma.srs().repetitionCount())
+                    .addValue("nextReviewDate", lemma.srs().nextReviewDate())
+                    .addValue("lastReviewedAt", lemma.srs().lastReviewedAt()));
+            }
+        }
+        batchInsert(INSERT_INFLECTION_SQL, inflectionRows);
+        batchInsert(INSERT_SENTENCE_SQL, sentenceRows);
+        batchInsert(INSERT_SRS_SQL, srsRows);
+        return new BatchResult(inserted.size(), queuedIds);
+    }
+
+    private static boolean awaitsProcessing(VocabularyExportDTO lemma) {
+        return ProcessingStatus.QUEUED.name().equals(lemma.processingStatus())
+            || ProcessingStatus.PROCESSING.name().equals(lemma.processingStatus());
+    }
+
+    private void batchInsert(String sql, List<SqlParameterSource> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(sql, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource lemmaParams(Long id, VocabularyExportDTO lemma) {
+        return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("text", lemma.text())
+            .addValue("translation", lemma.translation())
+            .addValue("notes", lemma.notes())
+            .addValue("partOfSpeech", lemma.partOfSpeech())
+            .addValue("category", lemma.category())
+            .addValue("difficultyLevel", lemma.difficultyLevel())
+            .addValue("source", lemma.source())
+            .addValue("reviewStatus", lemma.reviewStatus() != null ? lemma.reviewStatus() : ReviewStatus.PENDING.name())
+            .addValue("processingStatus", processingStatus(lemma))
+            .addValue("sentenceStatus", lemma.sentenceStatus() != null ? lemma.sentenceStatus() : SentenceStatus.NONE.name())
+            .addValue("dictionaryWordId", lemma.dictionaryWordId(), java.sql.Types.BIGINT)
+            .addValue("createdAt", lemma.createdAt() != null ? Timestamp.valueOf(lemma.createdAt()) : null, java.sql.Types.TIMESTAMP)
+            .addValue("updatedAt", lemma.updatedAt() != null ? Timestamp.valueOf(lemma.updatedAt()) : null, java.sql.Types.TIMESTAMP);
+    }
+
+    private static String processingStatus(VocabularyExportDTO lemma) {
+        if (lemma.processingStatus() == null) return ProcessingStatus.COMPLETED.name();
+        // Nothing is processing the imported row yet; it is queued again after commit
+        return awaitsProcessing(lemma) ? ProcessingStatus.QUEUED.name() : lemma.processingStatus();
+    }
+
+    private record BatchResult(int inserted, List<Long> queuedIds) {}
+
+    private static final class Totals {
+        int read;
+        int imported;
+        int skipped;
+        int invalid;
+        final List<String> errors = new ArrayList<>();
+        final List<Long> queuedIds = new ArrayList<>();
+
+        void add(BatchResult result, int batchSize) {
+            imported += result.inserted();
+            skipped += batchSize - result.inserted();
+            queuedIds.addAll(result.queuedIds());
+        }
+
+        void invalid(int lineNumber, String reason) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+    }
+}
@@ -2,30 +2,49 @@ package com.vocab.bulgarian.service;
 
 import com.vocab.bulgarian.api.dto.*;
 import com.vocab.bulgarian.api.mapper.LemmaMapper;
-import com.vocab.bulgarian.dictionary.domain.DictionaryForm;
+import com.vocab.bulgarian.dictionary.dto.DictionaryFormDTO;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
 import com.vocab.bulgarian.dictionary.domain.DictionaryWord;
 import com.vocab.bulgarian.dictionary.service.DictionaryService;
+import com.vocab.bulgarian.dictionary.service.DictionarySnapshotService;
 import com.vocab.bulgarian.domain.Inflection;
 import com.vocab.bulgarian.domain.Lemma;
-import com.vocab.bulgarian.domain.enums.DifficultyLevel;
 import com.vocab.bulgarian.domain.enums.PartOfSpeech;
 import com.vocab.bulgarian.domain.enums.ProcessingStatus;
 import com.vocab.bulgarian.domain.enums.ReviewStatus;
 import com.vocab.bulgarian.domain.enums.Source;
+import com.vocab.bulgarian.domain.event.LemmaChangedEvent;
+import com.vocab.bulgarian.exception.DuplicateLemmaException;
+import com.vocab.bulgarian.exception.LemmaVersionConflictException;
+import com.vocab.bulgarian.jobs.dto.JobStatusDTO;
+import com.vocab.bulgarian.jobs.service.ProcessingJobRegistry;
 import com.vocab.bulgarian.llm.service.LlmOrchestrationService;
+import com.vocab.bulgarian.repository.LemmaCardRepository;
+import com.vocab.bulgarian.repository.LemmaCardRepository.LemmaCard;
 import com.vocab.bulgarian.repository.LemmaRepository;
+import com.vocab.bulgarian.repository.LemmaSearchRepository;
+import com.vocab.bulgarian.repository.LemmaSpecifications;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Arrays;
+import java.text.Normalizer;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -38,24 +57,79 @@ public class VocabularyService {
 
     private static final Logger log = LoggerFactory.getLogger(VocabularyService.class);
 
+    // How much more frequent the top homograph must be to skip disambiguation
+    private static final int DOMINANT_RANK_RATIO = 4;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_BROWSE_PAGE_SIZE = 100;
+
+    /**
+     * Browse sort keys. Each is a non-null column indexed together with id (V24), which
+     * keyset pagination needs.
+     */
+    public enum BrowseSort {
+        TEXT("text"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt");
+
+        private final String attribute;
+
+        BrowseSort(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String attribute() {
+            return attribute;
+        }
+    }
+
     private final LemmaRepository lemmaRepository;
+    private final LemmaSearchRepository lemmaSearchRepository;
+    private final LemmaCardRepository lemmaCardRepository;
     private final LlmOrchestrationService llmOrchestrationService;
     private final BackgroundProcessingService backgroundProcessingService;
     private final DictionaryService dictionaryService;
+    private final DictionarySnapshotService dictionarySnapshotService;
+    private final KnownFormFilter knownFormFilter;
     private final LemmaMapper lemmaMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProcessingJobRegistry jobRegistry;
+    private final Timer searchTimer;
+    private final Counter editConflictCounter;
 
     public VocabularyService(
         LemmaRepository lemmaRepository,
+        LemmaSearchRepository lemmaSearchRepository,
+        LemmaCardRepository lemmaCardRepository,
         LlmOrchestrationService llmOrchestrationService,
         BackgroundProcessingService backgroundProcessingService,
         DictionaryService dictionaryService,
-        LemmaMapper lemmaMapper
+        DictionarySnapshotService dictionarySnapshotService,
+        KnownFormFilter knownFormFilter,
+        LemmaMapper lemmaMapper,
+        ApplicationEventPublisher eventPublisher,
+        ProcessingJobRegistry jobRegistry,
+        MeterRegistry meterRegistry
     ) {
         this.lemmaRepository = lemmaRepository;
+        this.lemmaSearchRepository = lemmaSearchRepository;
+        this.lemmaCardRepository = lemmaCardRepository;
         this.llmOrchestrationService = llmOrchestrationService;
         this.backgroundProcessingService = backgroundProcessingService;
         this.dictionaryService = dictionaryService;
+        this.dictionarySnapshotService = dictionarySnapshotService;
+        this.knownFormFilter = knownFormFilter;
         this.lemmaMapper = lemmaMapper;
+        this.eventPublisher = eventPublisher;
+        this.jobRegistry = jobRegistry;
+        this.searchTimer = Timer.builder("vocab.search.lemmas")
+                .description("Ranked vocabulary search duration")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.editConflictCounter = Counter.builder("vocab.lemma.conflicts")
+                .tag("writer", "user")
+                .tag("resolution", "rejected")
+                .description("User edits rejected because the lemma changed since it was read")
+                .register(meterRegistry);
     }
 
     /**
@@ -64,10 +138,10 @@ public class VocabularyService {
      * Returns instantly (< 1 second) instead of blocking for LLM (60-90 seconds).
      *
      * @param request create request with word form, optional translation, and notes
-     * @return CompletableFuture with created lemma detail DTO (status: QUEUED)
+     * @return CompletableFuture with the processing job (stage QUEUED)
      */
     @Transactional
-    public CompletableFuture<LemmaDetailDTO> createVocabulary(CreateLemmaRequestDTO request) {
+    public CompletableFuture<JobStatusDTO> createVocabulary(CreateLemmaRequestDTO request) {
         return createVocabulary(request, null);
     }
 
@@ -75,9 +149,13 @@ public class VocabularyService {
      * Create vocabulary entry, optionally from a specific dictionary word.
      * If dictionaryWordId is provided, creates directly from dictionary data (instant).
      * Otherwise searches dictionary by form; falls back to BgGPT if not found.
+     * A form that is already a lemma or one of its inflections, or a dictionary word already
+     * in the vocabulary, is rejected as a duplicate before anything is saved or queued
+     * (see isDuplicate for when notes make it a deliberate homograph instead).
+     * A dictionary create is finished on return and its job is already COMPLETED.
      */
     @Transactional
-    public CompletableFuture<LemmaDetailDTO> createVocabulary(CreateLemmaRequestDTO request, Long dictionaryWordId) {
+    public CompletableFuture<JobStatusDTO> createVocabulary(CreateLemmaRequestDTO request, Long dictionaryWordId) {
         String wordForm = request.wordForm().trim().toLowerCase();
 
         // Try dictionary first
@@ -87,24 +165,95 @@ public class VocabularyService {
             // Explicit dictionary word selection (e.g. user picked from search results)
             dictWord = dictionaryService.findWordById(dictionaryWordId).orElse(null);
         } else {
-            // Search dictionary by the entered form
-            var results = dictionaryService.searchByForm(wordForm);
-            if (results.size() == 1) {
-                // Unambiguous match — use it directly
-                dictWord = dictionaryService.findWordById(results.getFirst().dictionaryWordId()).orElse(null);
+            rejectLikelyDuplicate(wordForm, request.notes());
+
+            // The snapshot knows every dictionary form, so a certain miss skips the database search
+            if (dictionarySnapshotService.containsForm(wordForm)) {
+                var results = dictionaryService.searchByForm(wordForm);
+                if (results.size() == 1 || hasDominantHomograph(results)) {
+                    // Unambiguous (or overwhelmingly likely) match — use it directly
+                    dictWord = dictionaryService.findWordById(results.getFirst().dictionaryWordId()).orElse(null);
+                }
+                // Otherwise fall through to LLM pipeline.
+                // Frontend should use /api/dictionary/search to let user pick first.
             }
-            // If multiple matches, fall through to LLM pipeline.
-            // Frontend should use /api/dictionary/search to let user pick first.
         }
 
         if (dictWord != null) {
-            return CompletableFuture.completedFuture(createFromDictionary(dictWord, request));
+            rejectExistingDictionaryWord(dictWord, request.notes());
+            LemmaDetailDTO created = createFromDictionary(dictWord, request);
+            return CompletableFuture.completedFuture(jobRegistry.registerCompleted(created.id(), JobStatusDTO.Type.CREATE));
         }
 
         // Fallback: LLM pipeline (existing behavior)
         return createFromLlm(request, wordForm);
     }
 
+    /**
+     * True if the first (most frequent) homograph is at least DOMINANT_RANK_RATIO times more
+     * frequent than the runner-up. By Zipf's law the rank ratio approximates the count ratio;
+     * a ranked word also dominates one missing from the frequency list.
+     */
+    private static boolean hasDominantHomograph(List<DictionarySearchResultDTO> results) {
+        if (results.size() < 2) return false;
+        return dominates(results.get(0).frequencyRank(), results.get(1).frequencyRank());
+    }
+
+    /**
+     * The rank comparison behind hasDominantHomograph, shared with bulk create.
+     */
+    static boolean dominates(Integer firstRank, Integer secondRank) {
+        if (firstRank == null) return false;
+        return secondRank == null || (long) secondRank >= (long) firstRank * DOMINANT_RANK_RATIO;
+    }
+
+    /**
+     * Throw DuplicateLemmaException if the form is an existing lemma or inflection.
+     * The in-memory filter answers most requests; only possible hits are confirmed in the database.
+     */
+    private void rejectLikelyDuplicate(String wordForm, String notes) {
+        if (!knownFormFilter.mightBeKnown(wordForm)) return;
+
+        // Lemma text is stored NFC; normalizeKey decomposes
+        String key = Normalizer.normalize(DictionarySnapshotService.normalizeKey(wordForm), Normalizer.Form.NFC);
+        for (Lemma existing : lemmaRepository.findByTextOrInflectionForm(key)) {
+            boolean headword = existing.getText().toLowerCase().equals(key);
+            if (isDuplicate(headword, existing.getNotes(), notes)) {
+                log.info("Rejected likely duplicate '{}': matches lemma id={} ({})", wordForm, existing.getId(), existing.getText());
+                throw new DuplicateLemmaException(existing.getId(), existing.getText(),
+                    headword ? DuplicateLemmaException.MatchedBy.HEADWORD : DuplicateLemmaException.MatchedBy.INFLECTION);
+            }
+        }
+    }
+
+    /**
+     * Throw DuplicateLemmaException if the dictionary word, or a lemma with its headword,
+     * is already in the vocabulary. Dictionary creates are saved as the headword, so every
+     * match here is a headword match.
+     */
+    private void rejectExistingDictionaryWord(DictionaryWord dictWord, String notes) {
+        for (Lemma existing : lemmaRepository.findByDictionaryWordIdOrText(dictWord.getId(), dictWord.getWord().toLowerCase())) {
+            if (isDuplicate(true, existing.getNotes(), notes)) {
+                log.info("Rejected dictionary word {} ({}): already lemma id={}", dictWord.getId(), dictWord.getWord(), existing.getId());
+                throw new DuplicateLemmaException(existing.getId(), existing.getText(),
+                    dictWord.getId().equals(existing.getDictionaryWordId())
+                        ? DuplicateLemmaException.MatchedBy.DICTIONARY_WORD : DuplicateLemmaException.MatchedBy.HEADWORD);
+            }
+        }
+    }
+
+    /**
+     * The duplicate rule shared by single and bulk create. Notes mark a deliberate homograph
+     * (V11), but only of the headword itself and only when they differ from the existing
+     * entry's notes. A form that is merely an inflection of an existing lemma ("отиваме" for
+     * "отивам") is the same word whatever the notes say; there the notes would only have been
+     * a hint for the LLM.
+     */
+    static boolean isDuplicate(boolean headwordMatch, String existingNotes, String newNotes) {
+        if (!headwordMatch || newNotes == null || newNotes.isBlank()) return true;
+        return (existingNotes == null ? "" : existingNotes.trim()).equals(newNotes.trim());
+    }
+
     /**
      * Create a vocabulary entry directly from dictionary data. Instant, no LLM needed.
      */
@@ -116,37 +265,30 @@ public class VocabularyService {
         lemma.setTranslation(request.translation() != null ? request.translation() : dictWord.getPrimaryTranslation());
         lemma.setNotes(request.notes());
         lemma.setSource(Source.USER_ENTERED);
-        lemma.setPartOfSpeech(mapPos(dictWord.getPos()));
+        lemma.setPartOfSpeech(PartOfSpeech.fromKaikki(dictWord.getPos()));
         lemma.setReviewStatus(ReviewStatus.REVIEWED); // Dictionary data is authoritative
         lemma.setProcessingStatus(ProcessingStatus.COMPLETED);
         lemma.setDictionaryWordId(dictWord.getId());
 
         // Create inflections from dictionary forms
-        List<DictionaryForm> dictForms = dictionaryService.getFormsForWord(dictWord.getId());
-        for (DictionaryForm df : dictForms) {
-            String[] tags = df.getTags();
-            // Skip meta entries
-            if (tags == null) continue;
-            List<String> tagList = Arrays.asList(tags);
-            if (tagList.contains("romanization") || tagList.contains("table-tags")
-                    || tagList.contains("inflection-template")) {
-                continue;
-            }
-
+        // Forms are expanded from the word's paradigm; meta entries are already filtered out
+        List<DictionaryFormDTO> dictForms = dictionaryService.getFormsForWord(dictWord.getId());
+        for (DictionaryFormDTO df : dictForms) {
             Inflection inflection = new Inflection();
-            inflection.setForm(df.getPlainForm());
-            inflection.setAccentedForm(df.getAccentedForm());
-            inflection.setGrammaticalInfo(String.join(", ", tags));
+            inflection.setForm(df.plainForm());
+            inflection.setAccentedForm(df.accentedForm());
+            inflection.setGrammaticalInfo(String.join(", ", df.tags()));
             lemma.addInflection(inflection);
         }
 
         Lemma saved = lemmaRepository.save(lemma);
+        eventPublisher.publishEvent(LemmaChangedEvent.created(saved.getId()));
         log.info("Created vocabulary from dictionary: id={}, word={}, inflections={}",
                 saved.getId(), saved.getText(), saved.getInflections().size());
         return lemmaMapper.toDetailDTO(saved);
     }
 
-    private CompletableFuture<LemmaDetailDTO> createFromLlm(CreateLemmaRequestDTO request, String wordForm) {
+    private CompletableFuture<JobStatusDTO> createFromLlm(CreateLemmaRequestDTO request, String wordForm) {
         Lemma lemma = new Lemma();
         lemma.setText(wordForm);
         lemma.setTranslation(request.translation());
@@ -156,140 +298,135 @@ public class VocabularyService {
         lemma.setProcessingStatus(ProcessingStatus.QUEUED);
 
         Lemma saved = lemmaRepository.save(lemma);
+        eventPublisher.publishEvent(LemmaChangedEvent.created(saved.getId()));
 
         Long lemmaId = saved.getId();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                backgroundProcessingService.processLemma(lemmaId);
-            }
-        });
-
-        return CompletableFuture.completedFuture(lemmaMapper.toDetailDTO(saved));
+        JobStatusDTO job = queueProcessing(lemmaId, JobStatusDTO.Type.CREATE);
+        return CompletableFuture.completedFuture(job);
     }
 
     /**
-     * Map Kaikki POS string to our PartOfSpeech enum.
+     * Lemma detail as its prebuilt card (LemmaDetailDTO JSON) with the version it was built
+     * from. One primary-key read; no entity or collection is loaded.
+     *
+     * @throws EntityNotFoundException if lemma not found
      */
-    private PartOfSpeech mapPos(String kaikkiPos) {
-        return switch (kaikkiPos.toLowerCase()) {
-            case "noun" -> PartOfSpeech.NOUN;
-            case "verb" -> PartOfSpeech.VERB;
-            case "adj" -> PartOfSpeech.ADJECTIVE;
-            case "adv" -> PartOfSpeech.ADVERB;
-            case "pron" -> PartOfSpeech.PRONOUN;
-            case "prep" -> PartOfSpeech.PREPOSITION;
-            case "conj" -> PartOfSpeech.CONJUNCTION;
-            case "num" -> PartOfSpeech.NUMERAL;
-            case "intj" -> PartOfSpeech.INTERJECTION;
-            case "particle" -> PartOfSpeech.PARTICLE;
-            default -> null;
-        };
+    public LemmaCard getDetailCard(Long id) {
+        return lemmaCardRepository.findById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Lemma not found with id: " + id));
     }
 
     /**
-     * Get vocabulary entry by ID with full detail including inflections.
+     * Detail card of a random lemma from the given source (Telegram bot word of the day).
      *
-     * @param id lemma ID
-     * @return lemma detail DTO
-     * @throws EntityNotFoundException if lemma not found
+     * @throws EntityNotFoundException if there are no lemmas from that source
      */
-    public LemmaDetailDTO getVocabularyById(Long id) {
-        Lemma lemma = lemmaRepository.findByIdWithInflections(id)
-            .orElseThrow(() -> new EntityNotFoundException("Lemma not found with id: " + id));
-        return lemmaMapper.toDetailDTO(lemma);
+    public String getRandomDetailCard(Source source) {
+        return lemmaCardRepository.findRandomBySource(source)
+            .orElseThrow(() -> new EntityNotFoundException("No vocabulary with source " + source));
     }
 
     /**
-     * Browse vocabulary with optional filtering and pagination.
-     * Supports filtering by source, part of speech, and difficulty level.
-     * Note: inflectionCount in response will be 0 for paginated queries
-     * since inflections are lazy-loaded. This is acceptable for list view.
+     * Browse vocabulary with any combination of filters, one keyset page at a time.
      *
-     * @param source optional source filter
-     * @param partOfSpeech optional part of speech filter
-     * @param difficultyLevel optional difficulty level filter
-     * @param pageable pagination parameters
-     * @return page of lemma summary DTOs
+     * The page is read with a seek predicate on (sort key, id) instead of OFFSET and without
+     * a COUNT query, so page N costs the same as page 0. Inflection counts for the page come
+     * from one grouped query; the lazy inflections collections are never initialized.
+     *
+     * @param filter optional filters; null fields do not restrict
+     * @param sort sort key; id breaks ties
+     * @param direction sort direction
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size page size, capped at MAX_BROWSE_PAGE_SIZE
+     * @return one page of lemma summary DTOs
+     * @throws IllegalStateException if the cursor is malformed or was issued for another sort
      */
-    public Page<LemmaResponseDTO> browseVocabulary(
-        Source source,
-        PartOfSpeech partOfSpeech,
-        DifficultyLevel difficultyLevel,
-        Pageable pageable
+    public LemmaPageDTO browseVocabulary(
+        VocabularyFilterDTO filter,
+        BrowseSort sort,
+        Sort.Direction direction,
+        String cursor,
+        int size
     ) {
-        Page<Lemma> page;
-
-        // Build query based on which filters are present
-        if (source != null && partOfSpeech != null && difficultyLevel != null) {
-            page = lemmaRepository.findBySourceAndPartOfSpeechAndDifficultyLevel(source, partOfSpeech, difficultyLevel, pageable);
-        } else if (source != null && partOfSpeech != null) {
-            page = lemmaRepository.findBySourceAndPartOfSpeech(source, partOfSpeech, pageable);
-        } else if (source != null && difficultyLevel != null) {
-            page = lemmaRepository.findBySourceAndDifficultyLevel(source, difficultyLevel, pageable);
-        } else if (partOfSpeech != null && difficultyLevel != null) {
-            page = lemmaRepository.findByPartOfSpeechAndDifficultyLevel(partOfSpeech, difficultyLevel, pageable);
-        } else if (source != null) {
-            page = lemmaRepository.findBySource(source, pageable);
-        } else if (partOfSpeech != null) {
-            page = lemmaRepository.findByPartOfSpeech(partOfSpeech, pageable);
-        } else if (difficultyLevel != null) {
-            page = lemmaRepository.findByDifficultyLevel(difficultyLevel, pageable);
-        } else {
-            page = lemmaRepository.findAll(pageable);
+        int boundedSize = Math.max(1, Math.min(size, MAX_BROWSE_PAGE_SIZE));
+        Specification<Lemma> spec = LemmaSpecifications.matching(filter);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(BrowseCursor.decode(cursor, sort, direction).seek());
         }
 
-        return page.map(lemmaMapper::toResponseDTO);
+        // Fetch one extra row to learn whether another page follows
+        Sort order = Sort.by(direction, sort.attribute(), "id");
+        List<Lemma> rows = lemmaRepository.findBy(spec, query -> query.sortBy(order).limit(boundedSize + 1).all());
+        boolean hasNext = rows.size() > boundedSize;
+        List<Lemma> page = hasNext ? rows.subList(0, boundedSize) : rows;
+
+        Map<Long, Integer> inflectionCounts = new HashMap<>();
+        if (!page.isEmpty()) {
+            lemmaRepository.countInflectionsByLemmaIds(page.stream().map(Lemma::getId).toList())
+                .forEach(row -> inflectionCounts.put((Long) row[0], ((Number) row[1]).intValue()));
+        }
+
+        List<LemmaResponseDTO> content = page.stream()
+            .map(lemma -> lemmaMapper.toResponseDTO(lemma, inflectionCounts.getOrDefault(lemma.getId(), 0)))
+            .toList();
+        String nextCursor = hasNext ? BrowseCursor.after(page.getLast(), sort, direction).encode() : null;
+        return new LemmaPageDTO(content, boundedSize, nextCursor, hasNext);
     }
 
     /**
      * Search vocabulary using PGroonga full-text search for Cyrillic text.
-     * Returns up to 20 results ordered by relevance score.
-     * Note: inflectionCount will be 0 since native query doesn't load inflections.
+     * One ranked query over lemma text and inflected forms; inflection counts come from SQL.
+     * Latency is recorded in the vocab.search.lemmas timer.
      *
      * @param query search query
-     * @return list of matching lemma summary DTOs
+     * @param page zero-based page number
+     * @param size page size, capped at MAX_SEARCH_PAGE_SIZE
+     * @return one page of matching lemma summary DTOs, best first
      */
-    public List<LemmaResponseDTO> searchVocabulary(String query) {
-        // Search lemma text first (ordered by PGroonga relevance score)
-        List<Lemma> byText = lemmaRepository.searchByText(query);
-
-        // Also search inflected forms and include their parent lemmas
-        List<Lemma> byInflection = lemmaRepository.searchByInflectionForm(query);
-
-        // Merge: lemma-text matches first, then inflection-only matches (deduplicated by ID)
-        var seen = new java.util.LinkedHashSet<Long>();
-        var merged = new java.util.ArrayList<Lemma>(byText.size() + byInflection.size());
-        for (Lemma l : byText) {
-            if (seen.add(l.getId())) merged.add(l);
-        }
-        for (Lemma l : byInflection) {
-            if (seen.add(l.getId())) merged.add(l);
-        }
-
-        return merged.stream()
-            .map(lemmaMapper::toResponseDTO)
-            .toList();
+    public List<LemmaResponseDTO> searchVocabulary(String query, int page, int size) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int offset = Math.max(0, page) * boundedSize;
+        return searchTimer.record(() -> lemmaSearchRepository.search(query, offset, boundedSize));
     }
 
     /**
      * Update existing vocabulary entry.
      * Sets review status to PENDING for re-review after edit.
      *
+     * With an expected version (the ETag the client edited), the update is rejected if the
+     * lemma has changed since, e.g. because background processing finished meanwhile.
+     * Without one, the last write wins. A concurrent commit between our read and write is
+     * caught by @Version and rejected the same way.
+     *
      * @param id lemma ID
      * @param request update request
+     * @param expectedVersion version the edit was based on, or null to skip the check
      * @return updated lemma detail DTO
      * @throws EntityNotFoundException if lemma not found
+     * @throws LemmaVersionConflictException if the lemma is no longer at expectedVersion
      */
     @Transactional
-    public LemmaDetailDTO updateVocabulary(Long id, UpdateLemmaRequestDTO request) {
+    public LemmaDetailDTO updateVocabulary(Long id, UpdateLemmaRequestDTO request, Long expectedVersion) {
         Lemma lemma = lemmaRepository.findByIdWithInflections(id)
             .orElseThrow(() -> new EntityNotFoundException("Lemma not found with id: " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(lemma.getVersion())) {
+            editConflictCounter.increment();
+            throw new LemmaVersionConflictException(id, lemma.getVersion());
+        }
+
         lemmaMapper.updateEntity(request, lemma);
         lemma.setReviewStatus(ReviewStatus.PENDING);
 
-        Lemma saved = lemmaRepository.save(lemma);
+        Lemma saved;
+        try {
+            // Flush here so a version conflict surfaces as a 409, not as a failed commit
+            saved = lemmaRepository.saveAndFlush(lemma);
+        } catch (OptimisticLockingFailureException e) {
+            editConflictCounter.increment();
+            throw new LemmaVersionConflictException(id, null);
+        }
+        eventPublisher.publishEvent(LemmaChangedEvent.updated(saved.getId()));
         return lemmaMapper.toDetailDTO(saved);
     }
 
@@ -306,6 +443,7 @@ public class VocabularyService {
             throw new EntityNotFoundException("Lemma not found with id: " + id);
         }
         lemmaRepository.deleteById(id);
+        eventPublisher.publishEvent(LemmaChangedEvent.deleted(id));
     }
 
     /**
@@ -338,11 +476,11 @@ public class VocabularyService {
      *
      * @param id lemma ID
      * @param request optional hint to help the LLM disambiguate
-     * @return updated lemma detail DTO (status: QUEUED)
+     * @return the processing job (stage QUEUED)
      * @throws EntityNotFoundException if lemma not found
      */
     @Transactional
-    public LemmaDetailDTO reprocessVocabulary(Long id, ReprocessRequestDTO request) {
+    public JobStatusDTO reprocessVocabulary(Long id, ReprocessRequestDTO request) {
         Lemma lemma = lemmaRepository.findByIdWithInflections(id)
             .orElseThrow(() -> new EntityNotFoundException("Lemma not found with id: " + id));
 
@@ -361,15 +499,31 @@ public class VocabularyService {
         lemma.setReviewStatus(ReviewStatus.PENDING);
 
         Lemma saved = lemmaRepository.save(lemma);
+        eventPublisher.publishEvent(LemmaChangedEvent.updated(saved.getId()));
 
+        return queueProcessing(saved.getId(), JobStatusDTO.Type.REPROCESS);
+    }
+
+    /**
+     * Register a job for the lemma and start background processing once the current
+     * transaction commits; the job is dropped if it rolls back.
+     */
+    private JobStatusDTO queueProcessing(Long lemmaId, JobStatusDTO.Type type) {
+        JobStatusDTO job = jobRegistry.register(lemmaId, type);
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                backgroundProcessingService.processLemma(saved.getId());
+                backgroundProcessingService.processLemma(lemmaId);
             }
-        });
 
-        return lemmaMapper.toDetailDTO(saved);
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    jobRegistry.discard(job.id());
+                }
+            }
+        });
+        return job;
     }
 
     /**
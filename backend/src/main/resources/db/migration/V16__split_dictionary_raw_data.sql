@@ -0,0 +1,18 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Move the raw Kaikki/Wiktionary JSON out of dictionary_words into a side table.
+-- Only the import writes raw_data; every lookup was dragging the full entry over
+-- the wire. dictionary_words now holds only the columns the search path reads.
+--
+-- Note: DROP COLUMN does not reclaim disk space by itself. Run
+-- VACUUM FULL dictionary_words once after deploying to shrink the table.
+
+CREATE TABLE dictionary_word_raw (
+    word_id   BIGINT PRIMARY KEY REFERENCES dictionary_words(id) ON DELETE CASCADE,
+    raw_data  JSONB NOT NULL
+);
+
+INSERT INTO dictionary_word_raw (word_id, raw_data)
+SELECT id, raw_data FROM dictionary_words;
+
+ALTER TABLE dictionary_words DROP COLUMN raw_data;
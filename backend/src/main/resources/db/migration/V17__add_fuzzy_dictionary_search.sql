@@ -0,0 +1,25 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Typo- and transliteration-tolerant dictionary search.
+-- bg_fold() lowercases, decomposes and strips every combining mark, so stress
+-- marks, й/и and ѝ/и collapse, and Latin romanizations lose their carons
+-- (kǎšta -> kasta). It must stay identical to BulgarianTransliterator.fold().
+-- Trigram GIN indexes over the folded columns back the % similarity operator.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE FUNCTION bg_fold(t TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT regexp_replace(normalize(lower(t), NFD), '[\u0300-\u036f]', '', 'g')
+$$;
+
+ALTER TABLE dictionary_forms
+    ADD COLUMN folded_form TEXT GENERATED ALWAYS AS (bg_fold(plain_form)) STORED,
+    ADD COLUMN folded_romanization TEXT GENERATED ALWAYS AS (bg_fold(romanization)) STORED;
+
+CREATE INDEX idx_dictionary_forms_folded_trgm
+    ON dictionary_forms USING gin (folded_form gin_trgm_ops);
+
+CREATE INDEX idx_dictionary_forms_romanization_trgm
+    ON dictionary_forms USING gin (folded_romanization gin_trgm_ops);
@@ -0,0 +1,86 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Replace dictionary_forms.tags TEXT[] with a BIGINT bitmask.
+-- dictionary_tags assigns each Kaikki tag a fixed bit (0-63); TagRegistry loads it
+-- at startup and the import registers new tags into free bits. A tag predicate
+-- such as "definite plural" becomes (tag_mask & mask) = mask.
+
+CREATE TABLE dictionary_tags (
+    tag  TEXT PRIMARY KEY,
+    bit  SMALLINT NOT NULL UNIQUE CHECK (bit BETWEEN 0 AND 63)
+);
+
+-- Stable bits for the tags Bulgarian inflection tables use, meta tags included
+-- so they can be tested with a single mask.
+INSERT INTO dictionary_tags (tag, bit) VALUES
+    ('romanization', 0),
+    ('table-tags', 1),
+    ('inflection-template', 2),
+    ('canonical', 3),
+    ('indefinite', 4),
+    ('definite', 5),
+    ('singular', 6),
+    ('plural', 7),
+    ('count-form', 8),
+    ('vocative', 9),
+    ('subjective', 10),
+    ('objective', 11),
+    ('masculine', 12),
+    ('feminine', 13),
+    ('neuter', 14),
+    ('first-person', 15),
+    ('second-person', 16),
+    ('third-person', 17),
+    ('present', 18),
+    ('past', 19),
+    ('future', 20),
+    ('aorist', 21),
+    ('imperfect', 22),
+    ('perfect', 23),
+    ('pluperfect', 24),
+    ('imperative', 25),
+    ('conditional', 26),
+    ('renarrative', 27),
+    ('dubitative', 28),
+    ('conclusive', 29),
+    ('indicative', 30),
+    ('participle', 31),
+    ('active', 32),
+    ('passive', 33),
+    ('adverbial', 34),
+    ('perfective', 35),
+    ('imperfective', 36),
+    ('comparative', 37),
+    ('superlative', 38);
+
+-- Any other tag already in the data gets the next free bit, most frequent first
+INSERT INTO dictionary_tags (tag, bit)
+SELECT extra.tag, base.max_bit + ROW_NUMBER() OVER (ORDER BY extra.uses DESC, extra.tag)
+FROM (
+    SELECT u.tag, COUNT(*) AS uses
+    FROM dictionary_forms f
+    CROSS JOIN LATERAL unnest(f.tags) AS u(tag)
+    WHERE u.tag NOT IN (SELECT tag FROM dictionary_tags)
+    GROUP BY u.tag
+    ORDER BY uses DESC, u.tag
+    LIMIT 64 - (SELECT COUNT(*) FROM dictionary_tags)
+) extra
+CROSS JOIN (SELECT MAX(bit) AS max_bit FROM dictionary_tags) base;
+
+ALTER TABLE dictionary_forms ADD COLUMN tag_mask BIGINT NOT NULL DEFAULT 0;
+
+UPDATE dictionary_forms f
+SET tag_mask = m.mask
+FROM (
+    SELECT f2.id, bit_or(1::BIGINT << t.bit) AS mask
+    FROM dictionary_forms f2
+    CROSS JOIN LATERAL unnest(f2.tags) AS u(tag)
+    JOIN dictionary_tags t ON t.tag = u.tag
+    GROUP BY f2.id
+) m
+WHERE f.id = m.id;
+
+ALTER TABLE dictionary_forms DROP COLUMN tags;
+
+-- Per-word tag filtering ("definite plural of word X") is answered from this index alone
+CREATE INDEX idx_dictionary_forms_word_tag_mask ON dictionary_forms (word_id, tag_mask);
@@ -0,0 +1,149 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Paradigm-template compression of dictionary forms.
+--
+-- Each word is factored into a stem (longest common prefix of its plain forms)
+-- plus a paradigm: an ordered list of slots (plain suffix, stress positions,
+-- tag mask) shared by every word that inflects the same way. Slots are stored
+-- once in dictionary_paradigm_slots; dictionary_forms keeps only what lookup
+-- needs (plain_form, romanization) plus the slot number, and drops the
+-- accented text and per-row tag mask.
+--
+-- The factoring below must match ParadigmService.factor():
+--   stem      = common prefix of all plain forms
+--   suffix    = plain_form minus stem
+--   accents   = stress mark positions, counted in characters from the end of plain_form
+--   slots     = distinct (suffix, accents, tag_mask), ordered by tag_mask, suffix (C collation), accents
+--   signature = md5 of 'suffix|a1,a2|tag_mask' joined with ';' in slot order
+
+CREATE TABLE dictionary_paradigms (
+    id              SERIAL PRIMARY KEY,
+    signature_hash  TEXT NOT NULL UNIQUE,
+    slot_count      SMALLINT NOT NULL
+);
+
+CREATE TABLE dictionary_paradigm_slots (
+    paradigm_id     INT NOT NULL REFERENCES dictionary_paradigms(id) ON DELETE CASCADE,
+    slot            SMALLINT NOT NULL,
+    suffix          TEXT NOT NULL,
+    accent_offsets  SMALLINT[] NOT NULL,
+    tag_mask        BIGINT NOT NULL,
+    PRIMARY KEY (paradigm_id, slot)
+);
+
+ALTER TABLE dictionary_words
+    ADD COLUMN stem TEXT,
+    ADD COLUMN paradigm_id INT REFERENCES dictionary_paradigms(id);
+
+CREATE FUNCTION pg_temp.common_prefix(a TEXT, b TEXT) RETURNS TEXT
+    LANGUAGE plpgsql IMMUTABLE
+AS $$
+DECLARE
+    n INT := 0;
+BEGIN
+    WHILE n < LEAST(length(a), length(b)) AND substr(a, n + 1, 1) = substr(b, n + 1, 1) LOOP
+        n := n + 1;
+    END LOOP;
+    RETURN left(a, n);
+END
+$$;
+
+-- Stress mark (U+0301) positions as "characters after the mark" in the unaccented form
+CREATE FUNCTION pg_temp.accent_offsets(accented TEXT) RETURNS SMALLINT[]
+    LANGUAGE plpgsql IMMUTABLE
+AS $$
+DECLARE
+    s TEXT := normalize(accented, NFD);
+    plain_len INT := length(replace(s, U&'\0301', ''));
+    seen INT := 0;
+    result SMALLINT[] := '{}';
+BEGIN
+    FOR i IN 1..length(s) LOOP
+        IF substr(s, i, 1) = U&'\0301' THEN
+            result := result || (plain_len - seen)::SMALLINT;
+        ELSE
+            seen := seen + 1;
+        END IF;
+    END LOOP;
+    RETURN result;
+END
+$$;
+
+CREATE TEMP TABLE word_stems AS
+SELECT word_id,
+       pg_temp.common_prefix(MIN(plain_form COLLATE "C"), MAX(plain_form COLLATE "C")) AS stem
+FROM dictionary_forms
+GROUP BY word_id;
+
+CREATE TEMP TABLE form_slots AS
+SELECT f.id, f.word_id,
+       substr(f.plain_form, length(s.stem) + 1) AS suffix,
+       pg_temp.accent_offsets(f.form) AS accents,
+       f.tag_mask
+FROM dictionary_forms f
+JOIN word_stems s ON s.word_id = f.word_id;
+
+CREATE TEMP TABLE word_slots AS
+SELECT word_id, suffix, accents, tag_mask,
+       (ROW_NUMBER() OVER (PARTITION BY word_id ORDER BY tag_mask, suffix COLLATE "C", accents) - 1)::SMALLINT AS slot
+FROM (SELECT DISTINCT word_id, suffix, accents, tag_mask FROM form_slots) d;
+
+CREATE TEMP TABLE word_signatures AS
+SELECT word_id,
+       md5(string_agg(suffix || '|' || array_to_string(accents, ',') || '|' || tag_mask::TEXT, ';' ORDER BY slot)) AS signature_hash,
+       COUNT(*)::SMALLINT AS slot_count
+FROM word_slots
+GROUP BY word_id;
+
+INSERT INTO dictionary_paradigms (signature_hash, slot_count)
+SELECT DISTINCT signature_hash, slot_count FROM word_signatures;
+
+-- Slots are identical for every word sharing a signature; take them from one representative
+INSERT INTO dictionary_paradigm_slots (paradigm_id, slot, suffix, accent_offsets, tag_mask)
+SELECT p.id, ws.slot, ws.suffix, ws.accents, ws.tag_mask
+FROM dictionary_paradigms p
+JOIN LATERAL (
+    SELECT MIN(word_id) AS word_id FROM word_signatures sig WHERE sig.signature_hash = p.signature_hash
+) rep ON TRUE
+JOIN word_slots ws ON ws.word_id = rep.word_id;
+
+UPDATE dictionary_words w
+SET stem = s.stem, paradigm_id = p.id
+FROM word_stems s
+JOIN word_signatures sig ON sig.word_id = s.word_id
+JOIN dictionary_paradigms p ON p.signature_hash = sig.signature_hash
+WHERE w.id = s.word_id;
+
+ALTER TABLE dictionary_forms ADD COLUMN slot SMALLINT;
+
+UPDATE dictionary_forms f
+SET slot = ws.slot
+FROM form_slots fs
+JOIN word_slots ws ON ws.word_id = fs.word_id AND ws.suffix = fs.suffix
+                  AND ws.accents = fs.accents AND ws.tag_mask = fs.tag_mask
+WHERE f.id = fs.id;
+
+-- Verbatim repeats in Kaikki collapse onto the same slot; keep one row each
+DELETE FROM dictionary_forms f
+USING dictionary_forms dup
+WHERE dup.word_id = f.word_id AND dup.slot = f.slot AND dup.id < f.id;
+
+ALTER TABLE dictionary_forms ALTER COLUMN slot SET NOT NULL;
+
+-- Accented text and tags now come from the paradigm; the PGroonga index on
+-- plain_form had no remaining callers (exact lookups use the btree, fuzzy uses trigrams)
+DROP INDEX idx_dictionary_forms_pgroonga;
+ALTER TABLE dictionary_forms
+    DROP COLUMN form,
+    DROP COLUMN accented_form,
+    DROP COLUMN tag_mask;
+
+CREATE UNIQUE INDEX idx_dictionary_forms_word_slot ON dictionary_forms (word_id, slot);
+DROP INDEX idx_dictionary_forms_word_id;
+
+CREATE INDEX idx_dictionary_words_paradigm ON dictionary_words (paradigm_id);
+
+-- Flyway may hand this session back to the pool; don't leave temp objects behind
+DROP TABLE word_stems, form_slots, word_slots, word_signatures;
+DROP FUNCTION pg_temp.common_prefix(TEXT, TEXT);
+DROP FUNCTION pg_temp.accent_offsets(TEXT);
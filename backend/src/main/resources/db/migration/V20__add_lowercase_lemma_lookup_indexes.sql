@@ -0,0 +1,10 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Text analysis (/api/dictionary/analyze) matches every distinct token of a pasted text
+-- against lemma headwords and inflected forms in one set-based query each.
+-- The existing PGroonga indexes serve full-text search, not exact case-insensitive
+-- equality, so add btree expression indexes for lower(...) = ANY(...).
+
+CREATE INDEX idx_lemmas_text_lower ON lemmas (lower(text));
+
+CREATE INDEX idx_inflections_form_lower ON inflections (lower(form));
@@ -0,0 +1,34 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- English -> Bulgarian reverse lookup (/api/dictionary/reverse).
+-- Every Kaikki gloss gets its own row so results can be ranked by gloss position:
+-- position 0 is primary_translation, 1..n are alternate_meanings in order.
+-- Glosses and lemma translations are stemmed with the 'english' text search config,
+-- so "houses" finds "house" and "running" finds "to run".
+
+CREATE TABLE dictionary_word_glosses (
+    word_id   BIGINT   NOT NULL REFERENCES dictionary_words(id) ON DELETE CASCADE,
+    position  SMALLINT NOT NULL,
+    gloss     TEXT     NOT NULL,
+    gloss_tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('english', gloss)) STORED,
+    PRIMARY KEY (word_id, position)
+);
+
+INSERT INTO dictionary_word_glosses (word_id, position, gloss)
+SELECT id, 0, primary_translation
+FROM dictionary_words
+WHERE primary_translation IS NOT NULL;
+
+INSERT INTO dictionary_word_glosses (word_id, position, gloss)
+SELECT w.id, a.ordinality, a.gloss
+FROM dictionary_words w
+CROSS JOIN LATERAL unnest(w.alternate_meanings) WITH ORDINALITY AS a(gloss, ordinality)
+WHERE a.gloss IS NOT NULL AND a.ordinality <= 32767;
+
+CREATE INDEX idx_dictionary_word_glosses_tsv ON dictionary_word_glosses USING gin (gloss_tsv);
+
+ALTER TABLE lemmas
+    ADD COLUMN translation_tsv TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('english', coalesce(translation, ''))) STORED;
+
+CREATE INDEX idx_lemmas_translation_tsv ON lemmas USING gin (translation_tsv);
@@ -0,0 +1,16 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Corpus word frequencies, imported from a local "word count" list by FrequencyImportService.
+-- form holds the same normalized key as dictionary_forms.plain_form (lowercase, stress marks
+-- stripped, NFD), so the two join directly.
+CREATE TABLE dictionary_word_frequencies (
+    form        TEXT   PRIMARY KEY,
+    occurrences BIGINT NOT NULL
+);
+
+-- 1 = most frequent. A word's count is the sum over its headword and all its inflected forms.
+-- NULL means the word does not appear in the frequency list.
+-- Recomputed after every frequency or Kaikki import; see FrequencyImportService.RANK_SQL.
+ALTER TABLE dictionary_words ADD COLUMN frequency_rank INTEGER;
+
+CREATE INDEX idx_dictionary_words_frequency_rank ON dictionary_words (frequency_rank);
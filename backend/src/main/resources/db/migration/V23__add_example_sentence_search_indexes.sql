@@ -0,0 +1,7 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- PGroonga indexes for full-text search over example sentences (SentenceSearchRepository).
+-- One index per language so each side is scored independently; the repository unions
+-- the two index scans and keeps each sentence's best score.
+CREATE INDEX idx_example_sentences_bulgarian_pgroonga ON example_sentences USING pgroonga (bulgarian_text);
+CREATE INDEX idx_example_sentences_english_pgroonga ON example_sentences USING pgroonga (english_translation);
@@ -0,0 +1,9 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Keyset pagination for vocabulary browse (VocabularyService.browseVocabulary) seeks on
+-- (sort key, id). One composite index per BrowseSort key lets every page start with an
+-- index range scan at the cursor instead of skipping OFFSET rows.
+CREATE INDEX idx_lemmas_text_id ON lemmas (text, id);
+CREATE INDEX idx_lemmas_created_at_id ON lemmas (created_at, id);
+CREATE INDEX idx_lemmas_updated_at_id ON lemmas (updated_at, id);
+
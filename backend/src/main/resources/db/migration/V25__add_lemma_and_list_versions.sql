@@ -0,0 +1,8 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Monotonic row versions for lemmas and word lists (JPA @Version). Hibernate bumps them on
+-- every entity update, including changes to a lemma's inflections and example sentences;
+-- the JDBC write paths bump them explicitly. Detail endpoints expose the version as a
+-- strong ETag and answer If-None-Match from the version alone.
+ALTER TABLE lemmas ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE word_lists ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,91 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Denormalized read model for GET /api/vocabulary/{id}: one JSONB document per lemma in the
+-- shape of LemmaDetailDTO (inflections and example sentences embedded), so a detail read is
+-- a single primary-key lookup with no joins and no ORM hydration.
+--
+-- Cards are kept current by the database itself, inside the writing transaction, so every
+-- write path (JPA, JDBC batches, bulk import, dictionary linking) is covered. The triggers
+-- are deferred to commit: by then the transaction's changes are complete, so the first
+-- trigger for a lemma rebuilds its card once and the rest see built_xid and skip. A bulk
+-- insert of N inflections therefore costs one rebuild per lemma, not one per row.
+CREATE TABLE lemma_cards (
+    lemma_id BIGINT PRIMARY KEY REFERENCES lemmas(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL,
+    card JSONB NOT NULL,
+    built_xid XID8 NOT NULL DEFAULT pg_current_xact_id()
+);
+
+-- Keys must match LemmaDetailDTO, InflectionDTO and ExampleSentenceDTO
+CREATE FUNCTION build_lemma_card(p_lemma_id BIGINT) RETURNS JSONB
+LANGUAGE sql STABLE AS $$
+    SELECT jsonb_build_object(
+        'id', l.id, 'text', l.text, 'translation', l.translation, 'notes', l.notes,
+        'partOfSpeech', l.part_of_speech, 'category', l.category, 'difficultyLevel', l.difficulty_level,
+        'source', l.source, 'reviewStatus', l.review_status,
+        'inflections', COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                       'id', i.id, 'form', i.form, 'grammaticalInfo', i.grammatical_info,
+                       'difficultyLevel', i.difficulty_level, 'accentedForm', i.accented_form) ORDER BY i.id)
+            FROM inflections i WHERE i.lemma_id = l.id), '[]'::jsonb),
+        'exampleSentences', COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                       'id', s.id, 'bulgarianText', s.bulgarian_text,
+                       'englishTranslation', s.english_translation, 'sortOrder', s.sort_order) ORDER BY s.sort_order, s.id)
+            FROM example_sentences s WHERE s.lemma_id = l.id), '[]'::jsonb),
+        'sentenceStatus', l.sentence_status, 'dictionaryWordId', l.dictionary_word_id,
+        'createdAt', l.created_at, 'updatedAt', l.updated_at, 'version', l.version)
+    FROM lemmas l
+    WHERE l.id = p_lemma_id
+$$;
+
+CREATE FUNCTION refresh_lemma_card(p_lemma_id BIGINT) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM lemma_cards WHERE lemma_id = p_lemma_id AND built_xid = pg_current_xact_id()) THEN
+        RETURN;
+    END IF;
+    -- No row when the lemma was deleted later in the same transaction; the FK already removed its card
+    INSERT INTO lemma_cards (lemma_id, version, card, built_xid)
+    SELECT l.id, l.version, build_lemma_card(l.id), pg_current_xact_id()
+    FROM lemmas l
+    WHERE l.id = p_lemma_id
+    ON CONFLICT (lemma_id) DO UPDATE
+        SET version = EXCLUDED.version, card = EXCLUDED.card, built_xid = EXCLUDED.built_xid;
+END
+$$;
+
+CREATE FUNCTION lemma_card_changed() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_TABLE_NAME = 'lemmas' THEN
+        PERFORM refresh_lemma_card(NEW.id);
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM refresh_lemma_card(OLD.lemma_id);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM refresh_lemma_card(NEW.lemma_id);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE CONSTRAINT TRIGGER trg_lemma_card_lemmas
+    AFTER INSERT OR UPDATE ON lemmas
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION lemma_card_changed();
+
+CREATE CONSTRAINT TRIGGER trg_lemma_card_inflections
+    AFTER INSERT OR UPDATE OR DELETE ON inflections
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION lemma_card_changed();
+
+CREATE CONSTRAINT TRIGGER trg_lemma_card_example_sentences
+    AFTER INSERT OR UPDATE OR DELETE ON example_sentences
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION lemma_card_changed();
+
+INSERT INTO lemma_cards (lemma_id, version, card)
+SELECT id, version, build_lemma_card(id) FROM lemmas;
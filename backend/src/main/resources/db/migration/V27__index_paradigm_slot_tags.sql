@@ -0,0 +1,9 @@
+-- IMMUTABLE: Never modify this file. Create new migration for updates.
+
+-- Cross-dictionary tag filtering ("all definite plural forms") tests tag_mask & :mask = :mask
+-- on paradigm slots, the factored side: a few slots per paradigm instead of one row per form.
+-- A bitwise predicate cannot seek a B-tree, so this covering index lets the planner answer it
+-- with an index-only scan that skips suffix and accent data, then reach words through
+-- idx_dictionary_words_paradigm and forms through idx_dictionary_forms_word_slot.
+CREATE INDEX idx_dictionary_paradigm_slots_tag_mask
+    ON dictionary_paradigm_slots (tag_mask) INCLUDE (paradigm_id, slot);
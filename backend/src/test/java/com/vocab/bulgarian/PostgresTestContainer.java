@@ -0,0 +1,24 @@
+package com.vocab.bulgarian;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL with the PGroonga extension, same image as docker-compose.yml.
+ * Import into a test slice to run Flyway migrations and queries against the real schema.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestContainer {
+
+    private static final DockerImageName PGROONGA = DockerImageName.parse("groonga/pgroonga:latest")
+        .asCompatibleSubstituteFor("postgres");
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>(PGROONGA);
+    }
+}
@@ -0,0 +1,120 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.PostgresTestContainer;
+import com.vocab.bulgarian.dictionary.domain.DictionaryWord;
+import com.vocab.bulgarian.dictionary.dto.DictionarySearchResultDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Locks in the batched search path: a form shared by any number of homographs costs three
+ * statements (word ids, word summaries, all forms), and no DictionaryWord entity is loaded.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestContainer.class, DictionaryService.class, TagRegistry.class, ParadigmService.class})
+class DictionaryServiceQueryCountTest {
+
+    private static final int SEARCH_STATEMENTS = 3;
+
+    @Autowired
+    private DictionaryService dictionaryService;
+
+    @Autowired
+    private ParadigmService paradigmService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int paradigmId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        paradigmId = jdbcTemplate.queryForObject(
+            "INSERT INTO dictionary_paradigms (signature_hash, slot_count) VALUES ('query-count-test', 2) RETURNING id",
+            Integer.class);
+        jdbcTemplate.update("INSERT INTO dictionary_paradigm_slots (paradigm_id, slot, suffix, accent_offsets, tag_mask) " +
+            "VALUES (?, 0, '', '{}', 0), (?, 1, 'ове', '{}', 0)", paradigmId, paradigmId);
+        // Paradigms are cached at startup; pick up the one inserted in this test's transaction
+        paradigmService.load();
+    }
+
+    @Test
+    void searchByFormWithOneMatchUsesThreeStatements() {
+        insertHomographs("мост", 1);
+
+        List<DictionarySearchResultDTO> results = countedSearch("мост");
+
+        assertThat(results).hasSize(1);
+        assertThat(results.getFirst().forms()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SEARCH_STATEMENTS);
+    }
+
+    @Test
+    void searchByFormStatementCountDoesNotGrowWithHomographs() {
+        insertHomographs("град", 12);
+
+        List<DictionarySearchResultDTO> results = countedSearch("градове");
+
+        assertThat(results).hasSize(12);
+        assertThat(results).allSatisfy(result -> assertThat(result.forms()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SEARCH_STATEMENTS);
+    }
+
+    @Test
+    void searchByFormLoadsSummariesNotWordEntities() {
+        insertHomographs("път", 3);
+
+        countedSearch("път");
+
+        assertThat(statistics.getEntityStatistics(DictionaryWord.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void getByIdUsesTwoStatements() {
+        List<Long> ids = insertHomographs("море", 1);
+
+        statistics.clear();
+        assertThat(dictionaryService.getById(ids.getFirst())).isPresent();
+
+        // No id lookup: summaries and forms only
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SEARCH_STATEMENTS - 1);
+    }
+
+    private List<DictionarySearchResultDTO> countedSearch(String form) {
+        statistics.clear();
+        return dictionaryService.searchByForm(form);
+    }
+
+    private List<Long> insertHomographs(String stem, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long wordId = jdbcTemplate.queryForObject(
+                "INSERT INTO dictionary_words (word, pos, primary_translation, stem, paradigm_id) " +
+                "VALUES (?, 'noun', ?, ?, ?) RETURNING id",
+                Long.class, stem, "sense " + i, stem, paradigmId);
+            jdbcTemplate.update("INSERT INTO dictionary_forms (word_id, slot, plain_form) VALUES (?, 0, ?), (?, 1, ?)",
+                wordId, stem, wordId, stem + "ове");
+            ids.add(wordId);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,104 @@
+package com.vocab.bulgarian.dictionary.service;
+
+import com.vocab.bulgarian.PostgresTestContainer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RANK_SQL against the real schema: forms shared by homographs must not hand every
+ * homograph the same count.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestContainer.class, FrequencyImportService.class})
+class FrequencyRankTest {
+
+    // Same threshold as VocabularyService.DOMINANT_RANK_RATIO
+    private static final int DOMINANT_RANK_RATIO = 4;
+
+    @Autowired
+    private FrequencyImportService frequencyImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private DictionarySnapshotService snapshotService;
+
+    @Test
+    void sharedHeadwordCountFollowsEachHomographsOwnForms() {
+        // "мина": the verb (to pass) is far more common than the noun (mine) in its own forms
+        long noun = insertWord("мина", "noun", "мина", "мини");
+        long verb = insertWord("мина", "verb", "мина", "минах", "минал");
+        Map<String, Long> frequencies = Map.of("мина", 1_000L, "мини", 10L, "минах", 300L, "минал", 500L);
+        // Words between the two, so the ranks show whether the verb dominates
+        String[] fillers = {"дом", "стол", "книга", "вода", "хляб"};
+        for (int i = 0; i < fillers.length; i++) {
+            insertWord(fillers[i], "noun", fillers[i]);
+            insertFrequency(fillers[i], 1_500L - i * 100);
+        }
+        frequencies.forEach(this::insertFrequency);
+
+        frequencyImportService.recomputeRanks();
+
+        int verbRank = rankOf(verb);
+        int nounRank = rankOf(noun);
+        assertThat(verbRank).isEqualTo(1);
+        // Summing "мина" in full for both gave the noun 1010 and put it right behind the verb
+        assertThat(nounRank).isGreaterThan(fillers.length);
+        assertThat(nounRank).isGreaterThanOrEqualTo(verbRank * DOMINANT_RANK_RATIO);
+    }
+
+    @Test
+    void homographsWithoutOwnFormsSplitTheSharedCountEqually() {
+        long first = insertWord("лук", "noun", "лук");
+        long second = insertWord("лук", "noun", "лук");
+        insertFrequency("лук", 400L);
+
+        frequencyImportService.recomputeRanks();
+
+        assertThat(rankOf(first)).isEqualTo(rankOf(second));
+    }
+
+    @Test
+    void unsharedFormsCountInFull() {
+        long word = insertWord("котка", "noun", "котка", "котки");
+        long other = insertWord("куче", "noun", "куче");
+        insertFrequency("котка", 100L);
+        insertFrequency("котки", 100L);
+        insertFrequency("куче", 150L);
+
+        frequencyImportService.recomputeRanks();
+
+        assertThat(rankOf(word)).isLessThan(rankOf(other));
+    }
+
+    private long insertWord(String word, String pos, String... forms) {
+        Long id = jdbcTemplate.queryForObject(
+            "INSERT INTO dictionary_words (word, pos) VALUES (?, ?) RETURNING id", Long.class, word, pos);
+        for (int slot = 0; slot < forms.length; slot++) {
+            jdbcTemplate.update("INSERT INTO dictionary_forms (word_id, slot, plain_form) VALUES (?, ?, ?)",
+                id, slot, forms[slot]);
+        }
+        return id;
+    }
+
+    private void insertFrequency(String form, long occurrences) {
+        jdbcTemplate.update("INSERT INTO dictionary_word_frequencies (form, occurrences) VALUES (?, ?)",
+            form, occurrences);
+    }
+
+    private int rankOf(long wordId) {
+        return jdbcTemplate.queryForObject("SELECT frequency_rank FROM dictionary_words WHERE id = ?",
+            Integer.class, wordId);
+    }
+}
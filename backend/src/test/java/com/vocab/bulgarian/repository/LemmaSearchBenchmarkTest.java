@@ -0,0 +1,132 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.PostgresTestContainer;
+import com.vocab.bulgarian.api.dto.LemmaResponseDTO;
+import com.vocab.bulgarian.api.mapper.LemmaMapper;
+import com.vocab.bulgarian.domain.Lemma;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Latency benchmark for vocabulary search: the previous two-query path (text hits, then
+ * inflection hits, merged in Java and mapped through the lazy inflections collection)
+ * against LemmaSearchRepository's single ranked statement, on the same seeded data.
+ *
+ * Wall-clock numbers depend on the machine, so this only logs percentiles and is tagged out
+ * of the regular build; run it with mvn test -Pbenchmark. Behaviour is covered by
+ * LemmaSearchRepositoryTest.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestContainer.class, LemmaSearchRepository.class})
+class LemmaSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaSearchBenchmarkTest.class);
+
+    private static final int LEMMAS = 2_000;
+    private static final int INFLECTIONS_PER_LEMMA = 6;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 50;
+    private static final String QUERY = "дума";
+
+    // The statements searchByText and searchByInflectionForm ran before the single query
+    private static final String LEGACY_TEXT_SQL =
+        "SELECT * FROM lemmas WHERE text &@~ :searchQuery ORDER BY pgroonga_score(tableoid, ctid) DESC LIMIT 20";
+    private static final String LEGACY_INFLECTION_SQL =
+        "SELECT DISTINCT l.* FROM lemmas l JOIN inflections i ON i.lemma_id = l.id WHERE i.form &@~ :searchQuery LIMIT 20";
+
+    private final LemmaMapper lemmaMapper = Mappers.getMapper(LemmaMapper.class);
+
+    @Autowired
+    private LemmaSearchRepository lemmaSearchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        List<Object[]> lemmas = new ArrayList<>(LEMMAS);
+        for (int i = 0; i < LEMMAS; i++) {
+            lemmas.add(new Object[]{"%s%04d".formatted(QUERY, i), "word " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO lemmas (text, translation, source) VALUES (?, ?, 'USER_ENTERED')", lemmas);
+        jdbcTemplate.update("""
+            INSERT INTO inflections (lemma_id, form)
+            SELECT l.id, l.text || '-' || n FROM lemmas l, generate_series(1, ?) n
+            WHERE l.text LIKE ?
+            """, INFLECTIONS_PER_LEMMA, QUERY + "%");
+        jdbcTemplate.execute("ANALYZE lemmas");
+        jdbcTemplate.execute("ANALYZE inflections");
+    }
+
+    @Test
+    void compareLegacyAndRankedSearchLatency() {
+        long[] legacy = measure(this::legacySearch);
+        long[] ranked = measure(() -> lemmaSearchRepository.search(QUERY, 0, PAGE_SIZE));
+
+        log.info("Vocabulary search over {} lemmas x {} inflections, {} runs: legacy p50={}us p95={}us, ranked p50={}us p95={}us",
+            LEMMAS, INFLECTIONS_PER_LEMMA, MEASURED_RUNS,
+            percentile(legacy, 50), percentile(legacy, 95), percentile(ranked, 50), percentile(ranked, 95));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LemmaResponseDTO> legacySearch() {
+        // Each run starts cold, as a request with its own persistence context would
+        entityManager.clear();
+        List<Lemma> byText = entityManager.createNativeQuery(LEGACY_TEXT_SQL, Lemma.class)
+            .setParameter("searchQuery", QUERY).getResultList();
+        List<Lemma> byInflection = entityManager.createNativeQuery(LEGACY_INFLECTION_SQL, Lemma.class)
+            .setParameter("searchQuery", QUERY).getResultList();
+
+        Set<Long> seen = new LinkedHashSet<>();
+        List<LemmaResponseDTO> merged = new ArrayList<>(byText.size() + byInflection.size());
+        for (Lemma lemma : byText) {
+            if (seen.add(lemma.getId())) merged.add(lemmaMapper.toResponseDTO(lemma));
+        }
+        for (Lemma lemma : byInflection) {
+            if (seen.add(lemma.getId())) merged.add(lemmaMapper.toResponseDTO(lemma));
+        }
+        return merged;
+    }
+
+    private static long[] measure(Supplier<List<LemmaResponseDTO>> search) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.get();
+        }
+        long[] micros = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
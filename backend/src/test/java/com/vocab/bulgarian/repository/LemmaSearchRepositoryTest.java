@@ -0,0 +1,83 @@
+package com.vocab.bulgarian.repository;
+
+import com.vocab.bulgarian.PostgresTestContainer;
+import com.vocab.bulgarian.api.dto.LemmaResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ranking, paging and summary mapping of the single-statement vocabulary search.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestContainer.class, LemmaSearchRepository.class})
+class LemmaSearchRepositoryTest {
+
+    @Autowired
+    private LemmaSearchRepository lemmaSearchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void usePgroongaIndexes() {
+        // pgroonga_score is only computed on index scans; tables this small would otherwise be seq-scanned
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void headwordMatchRanksAboveInflectionOnlyMatch() {
+        long inflectionOnly = insertLemma("бримка", "бримки", "зорлок");
+        long headword = insertLemma("зорлок", "зорлоци");
+
+        List<LemmaResponseDTO> results = lemmaSearchRepository.search("зорлок", 0, 20);
+
+        assertThat(results).extracting(LemmaResponseDTO::id).containsExactly(headword, inflectionOnly);
+    }
+
+    @Test
+    void lemmaMatchedByTextAndFormIsReturnedOnceWithItsInflectionCount() {
+        long id = insertLemma("плетка", "плетки", "плетката");
+
+        List<LemmaResponseDTO> results = lemmaSearchRepository.search("плетка", 0, 20);
+
+        assertThat(results).singleElement().satisfies(lemma -> {
+            assertThat(lemma.id()).isEqualTo(id);
+            assertThat(lemma.inflectionCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void pagesDoNotOverlap() {
+        for (int i = 0; i < 25; i++) {
+            insertLemma("%s%02d".formatted("тестдума", i));
+        }
+
+        List<LemmaResponseDTO> first = lemmaSearchRepository.search("тестдума", 0, 20);
+        List<LemmaResponseDTO> second = lemmaSearchRepository.search("тестдума", 20, 20);
+
+        assertThat(first).hasSize(20);
+        assertThat(second).hasSize(5);
+        assertThat(second).extracting(LemmaResponseDTO::id)
+            .doesNotContainAnyElementsOf(first.stream().map(LemmaResponseDTO::id).toList());
+    }
+
+    private long insertLemma(String text, String... forms) {
+        Long id = jdbcTemplate.queryForObject(
+            "INSERT INTO lemmas (text, translation, source) VALUES (?, ?, 'USER_ENTERED') RETURNING id",
+            Long.class, text, "translation of " + text);
+        for (String form : forms) {
+            jdbcTemplate.update("INSERT INTO inflections (lemma_id, form) VALUES (?, ?)", id, form);
+        }
+        return id;
+    }
+}
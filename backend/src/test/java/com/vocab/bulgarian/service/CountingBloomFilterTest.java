@@ -0,0 +1,86 @@
+package com.vocab.bulgarian.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void addedKeysAreNeverReportedMissing() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(CountingBloomFilter.hash("дума" + i)));
+
+        assertThat(IntStream.range(0, 10_000))
+            .allMatch(i -> filter.mightContain(CountingBloomFilter.hash("дума" + i)));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTargetAtCapacity() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(CountingBloomFilter.hash("дума" + i)));
+
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> filter.mightContain(CountingBloomFilter.hash("друга" + i)))
+            .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void removeTakesAKeyOutAgain() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, FALSE_POSITIVE_RATE);
+        long hash = CountingBloomFilter.hash("отивам");
+
+        filter.add(hash);
+        filter.remove(hash);
+
+        assertThat(filter.mightContain(hash)).isFalse();
+    }
+
+    @Test
+    void keyAddedTwiceSurvivesOneRemove() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, FALSE_POSITIVE_RATE);
+        long hash = CountingBloomFilter.hash("път");
+
+        // Two lemmas share the form; deleting one must not hide the other
+        filter.add(hash);
+        filter.add(hash);
+        filter.remove(hash);
+        assertThat(filter.mightContain(hash)).isTrue();
+
+        filter.remove(hash);
+        assertThat(filter.mightContain(hash)).isFalse();
+    }
+
+    @Test
+    void removingOtherKeysLeavesRemainingKeysPresent() {
+        CountingBloomFilter filter = new CountingBloomFilter(2_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 2_000).forEach(i -> filter.add(CountingBloomFilter.hash("форма" + i)));
+        IntStream.range(0, 1_000).forEach(i -> filter.remove(CountingBloomFilter.hash("форма" + i)));
+
+        assertThat(IntStream.range(1_000, 2_000))
+            .allMatch(i -> filter.mightContain(CountingBloomFilter.hash("форма" + i)));
+    }
+
+    @Test
+    void saturatedCountersStickSoRemovesCannotCauseFalseNegatives() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, FALSE_POSITIVE_RATE);
+        long hash = CountingBloomFilter.hash("съм");
+
+        IntStream.range(0, 300).forEach(i -> filter.add(hash));
+        IntStream.range(0, 300).forEach(i -> filter.remove(hash));
+
+        assertThat(filter.mightContain(hash)).isTrue();
+    }
+
+    @Test
+    void hashIsStableAndDistinguishesKeys() {
+        assertThat(CountingBloomFilter.hash("чета")).isEqualTo(CountingBloomFilter.hash("чета"));
+        assertThat(CountingBloomFilter.hash("чета")).isNotEqualTo(CountingBloomFilter.hash("чете"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.vocab.bulgarian.service;
+
+import com.vocab.bulgarian.service.LemmaMergeService.Candidate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LemmaMergeServiceSameSenseTest {
+
+    @Test
+    void entriesWithNothingToTellThemApartAreTheSameWord() {
+        assertThat(LemmaMergeService.sameSense(candidate(1, null, null, null), candidate(2, null, null, null))).isTrue();
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "bridge", null), candidate(2, null, null, null))).isTrue();
+    }
+
+    @Test
+    void differentPartsOfSpeechAreDifferentWords() {
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "mine", null), candidate(2, "VERB", "mine", null)))
+            .isFalse();
+    }
+
+    @Test
+    void dictionaryWordDecidesWhenBothAreLinked() {
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "onion", 7L), candidate(2, "NOUN", "bow", 7L))).isTrue();
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "onion", 7L), candidate(2, "NOUN", "onion", 8L)))
+            .isFalse();
+    }
+
+    @Test
+    void translationsAreComparedIgnoringCaseAndSpace() {
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", " Bridge", null), candidate(2, "NOUN", "bridge ", 3L)))
+            .isTrue();
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "onion", null), candidate(2, "NOUN", "bow", null)))
+            .isFalse();
+    }
+
+    @Test
+    void blankTranslationDoesNotTellEntriesApart() {
+        assertThat(LemmaMergeService.sameSense(candidate(1, "NOUN", "", null), candidate(2, "NOUN", "bow", null))).isTrue();
+    }
+
+    private static Candidate candidate(long id, String partOfSpeech, String translation, Long dictionaryWordId) {
+        return new Candidate(id, "лък", "USER_ENTERED", partOfSpeech, translation, dictionaryWordId);
+    }
+}
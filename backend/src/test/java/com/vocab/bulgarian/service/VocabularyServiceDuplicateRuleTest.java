@@ -0,0 +1,32 @@
+package com.vocab.bulgarian.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VocabularyServiceDuplicateRuleTest {
+
+    @Test
+    void headwordWithoutNotesIsADuplicate() {
+        assertThat(VocabularyService.isDuplicate(true, null, null)).isTrue();
+        assertThat(VocabularyService.isDuplicate(true, "the fruit", "  ")).isTrue();
+    }
+
+    @Test
+    void headwordWithDifferentNotesIsADeliberateHomograph() {
+        assertThat(VocabularyService.isDuplicate(true, "the fruit", "the tree")).isFalse();
+        assertThat(VocabularyService.isDuplicate(true, null, "the tree")).isFalse();
+    }
+
+    @Test
+    void headwordWithTheSameNotesIsADuplicate() {
+        assertThat(VocabularyService.isDuplicate(true, "the fruit", " the fruit ")).isTrue();
+    }
+
+    @Test
+    void inflectionMatchIsADuplicateWhateverTheNotes() {
+        // "отиваме" typed with notes is still "отивам"; the notes were only an LLM hint
+        assertThat(VocabularyService.isDuplicate(false, null, "we go")).isTrue();
+        assertThat(VocabularyService.isDuplicate(false, "to go", "something else")).isTrue();
+    }
+}
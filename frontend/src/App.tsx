@@ -21,6 +21,7 @@ import { ListDetail } from '@/features/lists/components/ListDetail';
 import { AddVocabularyToList } from '@/features/lists/components/AddVocabularyToList';
 import { HelpPage } from '@/features/help/HelpPage';
 import { AdminDashboard } from '@/features/admin/AdminDashboard';
+import { useLemmaStatusEvents } from '@/hooks/useLemmaStatusEvents';
 
 type AppView = 'vocabulary' | 'study' | 'lists' | 'review' | 'help' | 'admin';
 
@@ -31,6 +32,7 @@ function App() {
   const [addVocabListId, setAddVocabListId] = useState<number | null>(null);
   const { phase: studyPhase } = useStudyStore();
   const { data: dueCount } = useDueCount();
+  useLemmaStatusEvents(!!user);
   const totalDue = (dueCount?.dueToday ?? 0) + (dueCount?.newCards ?? 0);
   const pendingReview = dueCount?.pendingReview ?? 0;
 
@@ -144,11 +144,7 @@ export function AdminDashboard() {
     queryKey: ['admin', 'stats'],
     queryFn: () => api.get<AdminStats>('/admin/stats').then(r => r.data),
     staleTime: 0,
-    refetchInterval: (query) => {
-      const d = query.state.data;
-      const active = (d?.sentences?.generating ?? 0) + (d?.sentences?.queued ?? 0);
-      return active > 0 ? 5_000 : 15_000;
-    },
+    // Processing and sentence status changes invalidate this via useLemmaStatusEvents
   });
 
   const clearCache = useMutation({
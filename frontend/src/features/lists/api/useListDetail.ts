@@ -7,11 +7,7 @@ export function useListDetail(listId: number | null) {
     queryKey: ['lists', listId],
     queryFn: async () => (await api.get<WordListDetailDTO>(`/lists/${listId}`)).data,
     enabled: listId !== null,
+    // Entries still processing are refreshed by useLemmaStatusEvents, not polling
     staleTime: 30_000,
-    refetchInterval: (query) => {
-      const data = query.state.data;
-      const hasProcessing = data?.lemmas.some((l) => !l.translation);
-      return hasProcessing ? 5_000 : false;
-    },
   });
 }
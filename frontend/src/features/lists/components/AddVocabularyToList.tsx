@@ -2,7 +2,7 @@ import { useState } from 'react';
 import { useQueryClient } from '@tanstack/react-query';
 import api from '@/lib/api';
 import { Modal } from '@/components/ui/Modal';
-import type { LemmaDetailDTO } from '@/features/vocabulary/types';
+import type { DuplicateLemmaProblem, JobStatusDTO } from '@/features/vocabulary/types';
 
 interface ParsedEntry {
   word: string;
@@ -58,29 +58,24 @@ export function AddVocabularyToList({ listId, onClose }: Props) {
       try {
         let lemmaId: number;
         let lemmaText: string;
+        let existing = false;
 
         try {
-          const createRes = await api.post<LemmaDetailDTO>('/vocabulary', {
+          // Create answers with the processing job; the lemma row already exists
+          const createRes = await api.post<JobStatusDTO>('/vocabulary', {
             wordForm: word,
             translation: '',
             ...(notes && { notes }),
           });
-          lemmaId = createRes.data.id;
-          lemmaText = createRes.data.text;
+          lemmaId = createRes.data.lemmaId;
+          lemmaText = word;
         } catch (createErr: unknown) {
-          const status = (createErr as { response?: { status?: number } })?.response?.status;
-          if (status === 409) {
-            // Word already exists — find it by search
-            const searchRes = await api.get<LemmaDetailDTO[]>(
-              `/vocabulary/search?q=${encodeURIComponent(word)}`
-            );
-            if (searchRes.data.length === 0) {
-              updateStatus(i, { status: 'failed', error: 'Word not found after duplicate check' });
-              continue;
-            }
-            lemmaId = searchRes.data[0].id;
-            lemmaText = searchRes.data[0].text;
-            updateStatus(i, { status: 'duplicate_found', lemmaText });
+          const response = (createErr as { response?: { status?: number; data?: DuplicateLemmaProblem } })?.response;
+          if (response?.status === 409 && response.data?.existingLemmaId) {
+            // Word already exists — the problem body names the entry it matched
+            lemmaId = response.data.existingLemmaId;
+            lemmaText = response.data.existingText;
+            existing = true;
           } else {
             throw createErr;
           }
@@ -88,9 +83,7 @@ export function AddVocabularyToList({ listId, onClose }: Props) {
 
         // Add to list (idempotent — ON CONFLICT DO NOTHING)
         await api.post(`/lists/${listId}/members`, { lemmaId });
-        if (statuses[i]?.status !== 'duplicate_found') {
-          updateStatus(i, { status: 'added', lemmaText });
-        }
+        updateStatus(i, { status: existing ? 'duplicate_found' : 'added', lemmaText });
 
       } catch {
         updateStatus(i, { status: 'failed', error: 'Failed to add — please try again' });
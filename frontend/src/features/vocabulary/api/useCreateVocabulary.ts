@@ -1,19 +1,19 @@
 import { useMutation, useQueryClient } from '@tanstack/react-query';
 import api from '@/lib/api';
-import type { CreateLemmaRequest, LemmaDetailDTO } from '@/types/api';
+import type { CreateLemmaRequest, JobStatusDTO } from '@/types/api';
 
 /**
  * TanStack Query mutation for creating new vocabulary entries.
  * POST /api/vocabulary with CreateLemmaRequest body.
- * Returns LemmaDetailDTO on success.
+ * Returns the processing job: COMPLETED for dictionary matches, QUEUED otherwise.
  * Invalidates all vocabulary queries to refresh the list.
  */
 export function useCreateVocabulary() {
   const queryClient = useQueryClient();
 
   return useMutation({
-    mutationFn: async (data: CreateLemmaRequest): Promise<LemmaDetailDTO> => {
-      const response = await api.post<LemmaDetailDTO>('/vocabulary', data);
+    mutationFn: async (data: CreateLemmaRequest): Promise<JobStatusDTO> => {
+      const response = await api.post<JobStatusDTO>('/vocabulary', data);
       return response.data;
     },
     onSuccess: () => {
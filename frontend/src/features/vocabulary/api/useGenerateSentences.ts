@@ -6,7 +6,7 @@ import type { LemmaDetailDTO } from '@/features/vocabulary/types';
  * Triggers on-demand sentence generation for a vocabulary entry.
  * POST /api/vocabulary/{id}/sentences/generate
  * Returns 202 Accepted with sentenceStatus=QUEUED.
- * Poll GET /api/vocabulary/{id} for completion.
+ * Completion arrives as a lemma-status event (see useLemmaStatusEvents).
  */
 export function useGenerateSentences() {
   const queryClient = useQueryClient();
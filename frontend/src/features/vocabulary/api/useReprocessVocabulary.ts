@@ -1,6 +1,6 @@
 import { useMutation, useQueryClient } from '@tanstack/react-query';
 import api from '@/lib/api';
-import type { LemmaDetailDTO } from '@/features/vocabulary/types';
+import type { JobStatusDTO } from '@/features/vocabulary/types';
 
 /**
  * Mutation to trigger LLM reprocessing of a vocabulary entry.
@@ -11,8 +11,8 @@ export function useReprocessVocabulary() {
   const queryClient = useQueryClient();
 
   return useMutation({
-    mutationFn: async ({ id, hint }: { id: number; hint?: string }): Promise<LemmaDetailDTO> => {
-      const response = await api.post<LemmaDetailDTO>(`/vocabulary/${id}/reprocess`, { hint });
+    mutationFn: async ({ id, hint }: { id: number; hint?: string }): Promise<JobStatusDTO> => {
+      const response = await api.post<JobStatusDTO>(`/vocabulary/${id}/reprocess`, { hint });
       return response.data;
     },
     onSuccess: (_data, { id }) => {
@@ -4,7 +4,8 @@ import type { DictionarySearchResultDTO } from '../types';
 
 /**
  * TanStack Query hook for searching the Kaikki/Wiktionary dictionary.
- * Calls GET /api/dictionary/search?q=<query>.
+ * Calls GET /api/dictionary/search?q=<query>&fuzzy=true, so typos and Latin
+ * transliterations fall back to ranked near matches.
  * Only executes when query has 2+ characters.
  */
 export function useSearchDictionary(query: string) {
@@ -12,7 +13,7 @@ export function useSearchDictionary(query: string) {
     queryKey: ['dictionary', 'search', query],
     queryFn: async () => {
       const response = await api.get<DictionarySearchResultDTO[]>('/dictionary/search', {
-        params: { q: query },
+        params: { q: query, fuzzy: true },
       });
       return response.data;
     },
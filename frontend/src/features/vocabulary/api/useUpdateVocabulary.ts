@@ -5,20 +5,23 @@ import type { UpdateLemmaRequest, LemmaDetailDTO } from '@/types/api';
 interface UpdateVocabularyVariables {
   id: number;
   data: UpdateLemmaRequest;
+  /** Version the edit was based on; sent as If-Match so the server rejects stale edits with 409. */
+  version?: number;
 }
 
 /**
  * TanStack Query mutation for updating existing vocabulary entries.
  * PUT /api/vocabulary/{id} with UpdateLemmaRequest body.
- * Returns updated LemmaDetailDTO on success.
+ * Returns updated LemmaDetailDTO on success, or 409 if the entry changed since `version`.
  * Invalidates vocabulary list and detail queries.
  */
 export function useUpdateVocabulary() {
   const queryClient = useQueryClient();
 
   return useMutation({
-    mutationFn: async ({ id, data }: UpdateVocabularyVariables): Promise<LemmaDetailDTO> => {
-      const response = await api.put<LemmaDetailDTO>(`/vocabulary/${id}`, data);
+    mutationFn: async ({ id, data, version }: UpdateVocabularyVariables): Promise<LemmaDetailDTO> => {
+      const headers = version != null ? { 'If-Match': `"${version}"` } : undefined;
+      const response = await api.put<LemmaDetailDTO>(`/vocabulary/${id}`, data, { headers });
       return response.data;
     },
     onSuccess: (_data, variables) => {
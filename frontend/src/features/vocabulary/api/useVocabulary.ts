@@ -1,9 +1,9 @@
 import { useQuery } from '@tanstack/react-query';
 import api from '@/lib/api';
-import type { PaginatedResponse, LemmaResponseDTO, Source, PartOfSpeech, DifficultyLevel } from '@/types';
+import type { LemmaPageDTO, Source, PartOfSpeech, DifficultyLevel } from '@/types';
 
 interface UseVocabularyParams {
-  page?: number;
+  cursor?: string | null;
   size?: number;
   source?: Source | null;
   partOfSpeech?: PartOfSpeech | null;
@@ -11,22 +11,24 @@ interface UseVocabularyParams {
 }
 
 /**
- * TanStack Query hook for fetching paginated vocabulary list with optional filters.
+ * TanStack Query hook for fetching one keyset page of the vocabulary list with optional filters.
  *
- * @param params - Query parameters for filtering and pagination
- * @returns Query result with paginated vocabulary data
+ * @param params - Filters, page size and the cursor of the page to fetch (null for the first page)
+ * @returns Query result with the page and the cursor for the next one
  */
 export function useVocabulary(params: UseVocabularyParams = {}) {
-  const { page = 0, size = 20, source, partOfSpeech, difficultyLevel } = params;
+  const { cursor = null, size = 20, source, partOfSpeech, difficultyLevel } = params;
 
-  return useQuery<PaginatedResponse<LemmaResponseDTO>>({
-    queryKey: ['vocabulary', { page, size, source, partOfSpeech, difficultyLevel }],
+  return useQuery<LemmaPageDTO>({
+    queryKey: ['vocabulary', { cursor, size, source, partOfSpeech, difficultyLevel }],
     queryFn: async () => {
       // Build query parameters, only including non-null filters
       const queryParams = new URLSearchParams();
-      queryParams.set('page', page.toString());
       queryParams.set('size', size.toString());
 
+      if (cursor) {
+        queryParams.set('cursor', cursor);
+      }
       if (source) {
         queryParams.set('source', source);
       }
@@ -37,7 +39,7 @@ export function useVocabulary(params: UseVocabularyParams = {}) {
         queryParams.set('difficultyLevel', difficultyLevel);
       }
 
-      const response = await api.get<PaginatedResponse<LemmaResponseDTO>>(
+      const response = await api.get<LemmaPageDTO>(
         `/vocabulary?${queryParams.toString()}`
       );
       return response.data;
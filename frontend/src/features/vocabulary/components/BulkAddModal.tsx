@@ -2,7 +2,7 @@ import { useState } from 'react';
 import { useQueryClient } from '@tanstack/react-query';
 import api from '@/lib/api';
 import { Modal } from '@/components/ui/Modal';
-import type { LemmaDetailDTO } from '@/features/vocabulary/types';
+import type { BulkCreateResultDTO } from '@/features/vocabulary/types';
 
 interface ParsedEntry {
   word: string;
@@ -12,7 +12,7 @@ interface ParsedEntry {
 interface WordStatus {
   word: string;
   notes?: string;
-  status: 'pending' | 'adding' | 'added' | 'exists' | 'failed';
+  status: 'pending' | 'adding' | 'added' | 'queued' | 'exists' | 'failed';
   lemmaText?: string;
   error?: string;
 }
@@ -36,35 +36,29 @@ export function BulkAddModal({ onClose }: Props) {
   const parseEntries = (text: string): ParsedEntry[] =>
     text.split('\n').map(l => l.trim()).filter(l => l.length > 0).map(parseEntry);
 
-  const updateStatus = (index: number, update: Partial<WordStatus>) =>
-    setStatuses(prev => prev.map((s, i) => i === index ? { ...s, ...update } : s));
-
   const processWords = async () => {
     const entries = parseEntries(input);
     if (entries.length === 0) return;
 
     setIsProcessing(true);
-    setStatuses(entries.map(e => ({ word: e.word, notes: e.notes, status: 'pending' })));
-
-    for (let i = 0; i < entries.length; i++) {
-      const { word, notes } = entries[i];
-      updateStatus(i, { status: 'adding' });
-
-      try {
-        const res = await api.post<LemmaDetailDTO>('/vocabulary', {
-          wordForm: word,
-          translation: '',
-          ...(notes && { notes }),
-        });
-        updateStatus(i, { status: 'added', lemmaText: res.data.text });
-      } catch (err: unknown) {
-        const status = (err as { response?: { status?: number } })?.response?.status;
-        if (status === 409) {
-          updateStatus(i, { status: 'exists' });
-        } else {
-          updateStatus(i, { status: 'failed', error: 'Failed — please try again' });
+    setStatuses(entries.map(e => ({ word: e.word, notes: e.notes, status: 'adding' })));
+
+    // One request for the whole list; the server reports a status per entry
+    try {
+      const res = await api.post<BulkCreateResultDTO>('/vocabulary/bulk', {
+        entries: entries.map(({ word, notes }) => ({ wordForm: word, ...(notes && { notes }) })),
+      });
+      setStatuses(prev => prev.map((s, i): WordStatus => {
+        const item = res.data.items[i];
+        switch (item?.status) {
+          case 'CREATED': return { ...s, status: 'added', lemmaText: item.lemmaText ?? undefined };
+          case 'QUEUED': return { ...s, status: 'queued' };
+          case 'DUPLICATE': return { ...s, status: 'exists', lemmaText: item.lemmaText ?? undefined };
+          default: return { ...s, status: 'failed', error: item?.message ?? 'Failed — please try again' };
         }
-      }
+      }));
+    } catch {
+      setStatuses(prev => prev.map(s => ({ ...s, status: 'failed', error: 'Failed — please try again' })));
     }
 
     setIsProcessing(false);
@@ -76,6 +70,7 @@ export function BulkAddModal({ onClose }: Props) {
       case 'pending': return '○';
       case 'adding': return '…';
       case 'added': return '✓';
+      case 'queued': return '✓';
       case 'exists': return '=';
       case 'failed': return '✗';
     }
@@ -84,6 +79,7 @@ export function BulkAddModal({ onClose }: Props) {
   const statusColor = (status: WordStatus['status']) => {
     switch (status) {
       case 'added': return 'text-green-600';
+      case 'queued': return 'text-green-600';
       case 'exists': return 'text-blue-500';
       case 'failed': return 'text-red-500';
       case 'adding': return 'text-orange-500';
@@ -95,6 +91,7 @@ export function BulkAddModal({ onClose }: Props) {
     switch (s.status) {
       case 'adding': return 'Adding…';
       case 'added': return s.lemmaText && s.lemmaText !== s.word ? `Added as "${s.lemmaText}"` : 'Added';
+      case 'queued': return 'Added — processing in background';
       case 'exists': return 'Already in vocabulary';
       case 'failed': return s.error ?? 'Failed';
       default: return '';
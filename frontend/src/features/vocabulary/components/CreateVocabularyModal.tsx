@@ -3,7 +3,7 @@ import { Modal } from '@/components/ui/Modal';
 import { useVocabularyUIStore } from '../stores/useVocabularyUIStore';
 import { useCreateVocabulary } from '../api/useCreateVocabulary';
 import { useSearchDictionary } from '../api/useSearchDictionary';
-import type { DictionarySearchResultDTO } from '../types';
+import type { DictionarySearchResultDTO, DuplicateLemmaProblem } from '../types';
 
 /**
  * Modal for creating new vocabulary entries.
@@ -13,12 +13,14 @@ import type { DictionarySearchResultDTO } from '../types';
 export function CreateVocabularyModal() {
   const isOpen = useVocabularyUIStore((state) => state.isCreateModalOpen);
   const closeModal = useVocabularyUIStore((state) => state.closeCreateModal);
+  const openEditModal = useVocabularyUIStore((state) => state.openEditModal);
   const createMutation = useCreateVocabulary();
 
   const [wordForm, setWordForm] = useState('');
   const [translation, setTranslation] = useState('');
   const [notes, setNotes] = useState('');
   const [error, setError] = useState<string | null>(null);
+  const [duplicate, setDuplicate] = useState<DuplicateLemmaProblem | null>(null);
   const [selectedResult, setSelectedResult] = useState<DictionarySearchResultDTO | null>(null);
   const inputRef = useRef<HTMLInputElement>(null);
 
@@ -38,6 +40,7 @@ export function CreateVocabularyModal() {
       setTranslation('');
       setNotes('');
       setError(null);
+      setDuplicate(null);
       setSelectedResult(null);
       setDebouncedQuery('');
       setTimeout(() => inputRef.current?.focus(), 100);
@@ -63,6 +66,7 @@ export function CreateVocabularyModal() {
 
     try {
       setError(null);
+      setDuplicate(null);
       await createMutation.mutateAsync({
         wordForm: trimmedWord,
         translation: translation.trim() || '',
@@ -71,8 +75,11 @@ export function CreateVocabularyModal() {
       });
       closeModal();
     } catch (err: unknown) {
-      const status = (err as { response?: { status?: number } })?.response?.status;
-      if (status === 409) {
+      const response = (err as { response?: { status?: number; data?: DuplicateLemmaProblem } })?.response;
+      if (response?.status === 409 && response.data?.existingLemmaId) {
+        // Found before any LLM work was queued; offer the existing entry instead
+        setDuplicate(response.data);
+      } else if (response?.status === 409) {
         setError(`"${trimmedWord.toLowerCase()}" is already in your vocabulary.`);
       } else {
         setError(err instanceof Error ? err.message : 'Failed to create vocabulary');
@@ -85,6 +92,11 @@ export function CreateVocabularyModal() {
     closeModal();
   };
 
+  const handleOpenExisting = (lemmaId: number) => {
+    closeModal();
+    openEditModal(lemmaId);
+  };
+
   const showDictResults = !selectedResult && debouncedQuery.length >= 2;
 
   return (
@@ -105,6 +117,23 @@ export function CreateVocabularyModal() {
         </div>
       )}
 
+      {/* Already in vocabulary */}
+      {duplicate && (
+        <div className="mb-4 p-3 bg-amber-50 border border-amber-200 rounded-md text-amber-800 flex items-center justify-between gap-3">
+          <span>
+            Already in your vocabulary as <span className="font-medium" lang="bg">“{duplicate.existingText}”</span>
+            {duplicate.matchedBy === 'INFLECTION' && ' (this is one of its forms)'}.
+          </span>
+          <button
+            type="button"
+            onClick={() => handleOpenExisting(duplicate.existingLemmaId)}
+            className="shrink-0 text-amber-700 hover:text-amber-900 text-sm font-medium"
+          >
+            Open it
+          </button>
+        </div>
+      )}
+
       <form onSubmit={handleSubmit} className="space-y-4">
         {/* Bulgarian word input */}
         <div>
@@ -34,6 +34,7 @@ export function EditVocabularyModal() {
       setError(null);
       await updateMutation.mutateAsync({
         id: editingLemmaId,
+        version: detailQuery.data?.version,
         data: {
           text: data.text,
           translation: data.translation,
@@ -47,6 +48,13 @@ export function EditVocabularyModal() {
       });
       closeModal();
     } catch (err) {
+      const status = (err as { response?: { status?: number } })?.response?.status;
+      if (status === 409) {
+        // Edited elsewhere or updated by background processing; show the current entry
+        setError('This entry changed while you were editing. The latest version has been loaded; review it and save again.');
+        detailQuery.refetch();
+        return;
+      }
       setError(err instanceof Error ? err.message : 'Failed to update vocabulary');
     }
   };
@@ -82,6 +90,8 @@ export function EditVocabularyModal() {
       {/* Form (only show when data is loaded) */}
       {detailQuery.data && (
         <VocabularyForm
+          // Remount on a new version so a conflict reload replaces the stale values
+          key={detailQuery.data.version}
           mode="edit"
           defaultValues={{
             text: detailQuery.data.text,
@@ -1,4 +1,3 @@
-import { useEffect } from 'react';
 import { AudioPlayButton } from '@/components/audio/AudioPlayButton';
 import { useGenerateSentences } from '../api/useGenerateSentences';
 import type { LemmaDetailDTO, SentenceStatus } from '../types';
@@ -19,19 +18,13 @@ function statusLabel(status: SentenceStatus): string {
 
 /**
  * Displays example sentences for a lemma with generate/regenerate controls.
- * Polls for completion when status is QUEUED or GENERATING.
+ * While status is QUEUED or GENERATING, completion arrives via useLemmaStatusEvents,
+ * which refetches the lemma detail.
  */
 export function ExampleSentencesSection({ lemma, onUpdated }: Props) {
   const generate = useGenerateSentences();
   const isProcessing = lemma.sentenceStatus === 'QUEUED' || lemma.sentenceStatus === 'GENERATING';
 
-  // Poll every 4 seconds while generation is in progress
-  useEffect(() => {
-    if (!isProcessing) return;
-    const timer = setInterval(onUpdated, 4000);
-    return () => clearInterval(timer);
-  }, [isProcessing, onUpdated]);
-
   const handleGenerate = () => {
     generate.mutate(lemma.id, { onSuccess: onUpdated });
   };
@@ -25,9 +25,10 @@ export function VocabularyList({ onViewDetail, onNavigateStudy }: VocabularyList
   const selectedSource = useVocabularyUIStore(state => state.selectedSource);
   const selectedPartOfSpeech = useVocabularyUIStore(state => state.selectedPartOfSpeech);
   const selectedDifficultyLevel = useVocabularyUIStore(state => state.selectedDifficultyLevel);
-  const currentPage = useVocabularyUIStore(state => state.currentPage);
+  const pageCursors = useVocabularyUIStore(state => state.pageCursors);
   const pageSize = useVocabularyUIStore(state => state.pageSize);
-  const setCurrentPage = useVocabularyUIStore(state => state.setCurrentPage);
+  const goToNextPage = useVocabularyUIStore(state => state.goToNextPage);
+  const goToPreviousPage = useVocabularyUIStore(state => state.goToPreviousPage);
   const openCreateModal = useVocabularyUIStore(state => state.openCreateModal);
   const openEditModal = useVocabularyUIStore(state => state.openEditModal);
   const openDeleteConfirm = useVocabularyUIStore(state => state.openDeleteConfirm);
@@ -58,8 +59,9 @@ export function VocabularyList({ onViewDetail, onNavigateStudy }: VocabularyList
   const isSearchMode = debouncedSearchQuery.length >= 2;
 
   // Fetch data based on mode
+  const currentPage = pageCursors.length;
   const browseQuery = useVocabulary({
-    page: currentPage,
+    cursor: pageCursors[currentPage - 1] ?? null,
     size: pageSize,
     source: selectedSource,
     partOfSpeech: selectedPartOfSpeech,
@@ -75,8 +77,7 @@ export function VocabularyList({ onViewDetail, onNavigateStudy }: VocabularyList
   const entries = isSearchMode
     ? (data as any) || []
     : (data as any)?.content || [];
-  const totalPages = isSearchMode ? 1 : (data as any)?.totalPages || 0;
-  const totalElements = isSearchMode ? entries.length : (data as any)?.totalElements || 0;
+  const nextCursor: string | null = isSearchMode ? null : (data as any)?.nextCursor ?? null;
 
   // Note: onViewDetail prop passed through from App.tsx
 
@@ -214,7 +215,9 @@ export function VocabularyList({ onViewDetail, onNavigateStudy }: VocabularyList
         <>
           {/* Total count display */}
           <div className="mb-4 text-sm text-gray-600">
-            Showing {entries.length} {isSearchMode ? 'results' : `of ${totalElements} entries`}
+            {isSearchMode
+              ? `Showing ${entries.length} results`
+              : `Showing ${entries.length} entries (page ${currentPage + 1})`}
           </div>
 
           {/* Card grid */}
@@ -234,8 +237,9 @@ export function VocabularyList({ onViewDetail, onNavigateStudy }: VocabularyList
           {!isSearchMode && (
             <Pagination
               currentPage={currentPage}
-              totalPages={totalPages}
-              onPageChange={setCurrentPage}
+              hasNext={nextCursor !== null}
+              onPrevious={goToPreviousPage}
+              onNext={() => nextCursor && goToNextPage(nextCursor)}
             />
           )}
         </>
@@ -8,8 +8,8 @@ interface VocabularyUIState {
   selectedPartOfSpeech: PartOfSpeech | null;
   selectedDifficultyLevel: DifficultyLevel | null;
 
-  // Pagination
-  currentPage: number;
+  // Keyset pagination: cursors of the pages visited after the first (the last one is current)
+  pageCursors: string[];
   pageSize: number;
 
   // Modal states
@@ -26,7 +26,8 @@ interface VocabularyUIState {
     selectedPartOfSpeech: PartOfSpeech | null;
     selectedDifficultyLevel: DifficultyLevel | null;
   }>) => void;
-  setCurrentPage: (page: number) => void;
+  goToNextPage: (cursor: string) => void;
+  goToPreviousPage: () => void;
   resetFilters: () => void;
 
   // Modal actions
@@ -51,7 +52,7 @@ export const useVocabularyUIStore = create<VocabularyUIState>((set) => ({
   selectedSource: null,
   selectedPartOfSpeech: null,
   selectedDifficultyLevel: null,
-  currentPage: 0,
+  pageCursors: [],
   pageSize: 20,
   isCreateModalOpen: false,
   isEditModalOpen: false,
@@ -61,19 +62,22 @@ export const useVocabularyUIStore = create<VocabularyUIState>((set) => ({
 
   // Search action - resets page when search changes
   setSearchQuery: (query: string) =>
-    set({ searchQuery: query, currentPage: 0 }),
+    set({ searchQuery: query, pageCursors: [] }),
 
   // Filter action - resets page when filters change
   setFilter: (filter) =>
     set((state) => ({
       ...state,
       ...filter,
-      currentPage: 0, // Always reset to first page on filter change
+      pageCursors: [], // Always reset to first page on filter change
     })),
 
-  // Pagination action
-  setCurrentPage: (page: number) =>
-    set({ currentPage: page }),
+  // Pagination actions
+  goToNextPage: (cursor: string) =>
+    set((state) => ({ pageCursors: [...state.pageCursors, cursor] })),
+
+  goToPreviousPage: () =>
+    set((state) => ({ pageCursors: state.pageCursors.slice(0, -1) })),
 
   // Reset all filters and search, go back to first page
   resetFilters: () =>
@@ -82,7 +86,7 @@ export const useVocabularyUIStore = create<VocabularyUIState>((set) => ({
       selectedSource: null,
       selectedPartOfSpeech: null,
       selectedDifficultyLevel: null,
-      currentPage: 0,
+      pageCursors: [],
     }),
 
   // Modal actions
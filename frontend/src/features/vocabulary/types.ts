@@ -24,6 +24,17 @@ export type ReviewStatus = 'PENDING' | 'REVIEWED' | 'NEEDS_CORRECTION';
 
 export type SentenceStatus = 'NONE' | 'QUEUED' | 'GENERATING' | 'DONE' | 'FAILED';
 
+export type ProcessingStatus = 'QUEUED' | 'PROCESSING' | 'COMPLETED' | 'FAILED';
+
+/** Payload of a "lemma-status" event from GET /api/vocabulary/status-events. */
+export interface LemmaStatusEvent {
+  lemmaId: number;
+  processingStatus: ProcessingStatus | null;
+  sentenceStatus: SentenceStatus | null;
+  // Folded into an existing entry during processing; both statuses are null
+  deleted: boolean;
+}
+
 export interface ExampleSentenceDTO {
   id: number;
   bulgarianText: string;
@@ -70,6 +81,7 @@ export interface LemmaDetailDTO {
   dictionaryWordId: number | null;
   createdAt: string;
   updatedAt: string;
+  version: number;
 }
 
 export interface CreateLemmaRequest {
@@ -102,6 +114,58 @@ export interface PaginatedResponse<T> {
   last: boolean;
 }
 
+// Keyset page from GET /vocabulary; pass nextCursor back as `cursor` for the following page
+export interface LemmaPageDTO {
+  content: LemmaResponseDTO[];
+  size: number;
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+// POST /vocabulary/bulk result: one item per entry, in request order
+export type BulkCreateStatus = 'CREATED' | 'QUEUED' | 'DUPLICATE' | 'INVALID';
+
+export interface BulkCreateItemDTO {
+  index: number;
+  wordForm: string;
+  status: BulkCreateStatus;
+  lemmaId: number | null;
+  lemmaText: string | null;
+  message: string | null;
+}
+
+export interface BulkCreateResultDTO {
+  created: number;
+  queued: number;
+  duplicates: number;
+  invalid: number;
+  items: BulkCreateItemDTO[];
+}
+
+// Background processing job returned by create (201/202) and reprocess (202); GET /api/jobs/{id}
+export type JobStage =
+  | 'QUEUED' | 'DETECTING' | 'INFLECTING' | 'METADATA' | 'TRANSLATING' | 'COMPLETED' | 'FAILED';
+
+export interface JobStatusDTO {
+  id: string;
+  lemmaId: number;
+  type: 'CREATE' | 'REPROCESS';
+  stage: JobStage;
+  version: number;
+  queuePosition: number | null;
+  estimatedCompletionAt: string | null;
+  error: string | null;
+  createdAt: string;
+  updatedAt: string;
+}
+
+// 409 problem body when a new entry is already in the vocabulary
+export interface DuplicateLemmaProblem {
+  existingLemmaId: number;
+  existingText: string;
+  matchedBy: 'HEADWORD' | 'INFLECTION' | 'DICTIONARY_WORD';
+}
+
 // Dictionary search types (mirrors backend DTOs)
 export interface DictionaryFormDTO {
   form: string;
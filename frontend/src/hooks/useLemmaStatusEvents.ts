@@ -0,0 +1,47 @@
+import { useEffect } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import type { LemmaStatusEvent } from '@/features/vocabulary/types';
+
+/**
+ * Subscribes to the server's lemma status stream (GET /api/vocabulary/status-events)
+ * and invalidates the queries a status change makes stale, instead of polling them.
+ * Mounted once for the signed-in app. EventSource reconnects by itself; after a
+ * reconnect everything lemma-related is refetched in case an event was missed.
+ */
+export function useLemmaStatusEvents(enabled: boolean) {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (!enabled) return;
+    const baseUrl = import.meta.env.VITE_API_BASE_URL || '/api';
+    const source = new EventSource(`${baseUrl}/vocabulary/status-events`, { withCredentials: true });
+    let opened = false;
+
+    source.onopen = () => {
+      if (opened) {
+        queryClient.invalidateQueries({ queryKey: ['vocabulary'] });
+        queryClient.invalidateQueries({ queryKey: ['lists'] });
+        queryClient.invalidateQueries({ queryKey: ['admin', 'stats'] });
+      }
+      opened = true;
+    };
+
+    source.addEventListener('lemma-status', (message) => {
+      const event = JSON.parse((message as MessageEvent<string>).data) as LemmaStatusEvent;
+      if (event.deleted) {
+        queryClient.removeQueries({ queryKey: ['vocabulary', event.lemmaId] });
+      } else {
+        queryClient.invalidateQueries({ queryKey: ['vocabulary', event.lemmaId] });
+      }
+      queryClient.invalidateQueries({ queryKey: ['lists'] });
+      queryClient.invalidateQueries({ queryKey: ['admin', 'stats'] });
+      // Finished processing changes text, translation and metadata shown in lists and the review queue
+      if (event.deleted || event.processingStatus === 'COMPLETED' || event.processingStatus === 'FAILED') {
+        queryClient.invalidateQueries({ queryKey: ['vocabulary'] });
+        queryClient.invalidateQueries({ queryKey: ['review-queue'] });
+      }
+    });
+
+    return () => source.close();
+  }, [enabled, queryClient]);
+}
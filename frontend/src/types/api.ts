@@ -14,6 +14,8 @@ export type {
   InflectionUpdate,
   UpdateLemmaRequest,
   PaginatedResponse,
+  LemmaPageDTO,
+  JobStatusDTO,
   DictionaryFormDTO,
   DictionarySearchResultDTO,
 } from '@/features/vocabulary/types';
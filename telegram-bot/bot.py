@@ -95,7 +95,7 @@ async def cmd_help(update: Update, ctx: ContextTypes.DEFAULT_TYPE) -> None:
         "/ollama — model loaded and GPU status\n"
         "/vault — Vault seal status\n"
         "/logs \\[name\\] — last 30 lines of container logs\n"
-        "/cache\\_clear — clear Valkey LLM response cache\n"
+        "/cache\\_clear — clear LLM response and entity caches\n"
         "/restart colima\\|backend\\|all — restart a service\n"
     )
     await _send(update, text, md=True)
@@ -375,7 +375,7 @@ async def cmd_cache_clear(update: Update, ctx: ContextTypes.DEFAULT_TYPE) -> Non
     if not authorized(update):
         return
     ok = await vocab.clear_cache()
-    await _send(update, "✅ LLM response cache cleared." if ok else "❌ Cache clear failed.")
+    await _send(update, "✅ LLM response and entity caches cleared." if ok else "❌ Cache clear failed.")
 
 
 # ── /retry_failed ─────────────────────────────────────────────────────────────
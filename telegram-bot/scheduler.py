@@ -1,6 +1,5 @@
 """Scheduled jobs: word of the day, SRS nudge, lesson brief, weekly summary."""
 import logging
-import random
 from datetime import datetime, date
 
 import httpx
@@ -23,21 +22,15 @@ async def _pick_word_of_day() -> dict | None:
     """Pick a random word from vocabulary for the daily message."""
     async with httpx.AsyncClient(timeout=10, headers=_HEADERS) as client:
         try:
-            # Get a page of vocabulary — pick a random entry
+            # Full detail (inflections + sentences) of a random entry in one call
             r = await client.get(
-                f"{config.BACKEND_URL}/api/vocabulary",
-                params={"source": "USER_ENTERED", "size": 50, "page": 0}
+                f"{config.BACKEND_URL}/api/vocabulary/random",
+                params={"source": "USER_ENTERED"}
             )
-            r.raise_for_status()
-            data = r.json()
-            content = data.get("content", [])
-            if not content:
+            if r.status_code == 404:
                 return None
-            entry = random.choice(content)
-            # Fetch full detail for inflections + sentences
-            r2 = await client.get(f"{config.BACKEND_URL}/api/vocabulary/{entry['id']}")
-            r2.raise_for_status()
-            return r2.json()
+            r.raise_for_status()
+            return r.json()
         except Exception:
             return None
 
@@ -68,7 +61,7 @@ async def send_morning_message(bot, chat_id: int) -> None:
             f"🇧🇬 *{_esc(word.get('text', ''))}*",
             f"🇬🇧 {_esc(word.get('translation', ''))}",
         ]
-        sentences = word.get("sentences", [])
+        sentences = word.get("exampleSentences", [])
         if sentences:
             s = sentences[0]
             bg = s.get("bulgarianText", "")
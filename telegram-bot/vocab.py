@@ -65,7 +65,7 @@ async def retry_failed_words() -> list[dict]:
         for lemma in failed:
             try:
                 r = await client.post(f"{BACKEND_URL}/api/vocabulary/{lemma['id']}/reprocess")
-                if r.status_code == 200:
+                if r.is_success:
                     results.append(lemma)
             except Exception:
                 pass